@@ -2,12 +2,14 @@ package com.pedromg.bluej.shapes;
 
 import com.pedromg.bluej.shapes.command.CommandParser;
 import com.pedromg.bluej.shapes.config.CommandConfiguration;
-import javax.swing.SwingUtilities;
 
 public class App {
 
   /**
-   * Launches the app on the Swing event dispatch thread.
+   * Launches the app on the main thread.
+   *
+   * <p>Parsing, help and headless commands never touch the AWT toolkit; commands that open a window
+   * move to the Swing event dispatch thread themselves.
    *
    * @param args command-line arguments
    */
@@ -15,6 +17,6 @@ public class App {
     Launcher launcher =
         new Launcher(new CommandParser(), new CommandConfiguration().commandDispatcher());
 
-    SwingUtilities.invokeLater(() -> launcher.launchApp(args));
+    launcher.launchApp(args);
   }
 }
@@ -3,11 +3,37 @@ package com.pedromg.bluej.shapes;
 import com.pedromg.bluej.shapes.command.CommandDispatcher;
 import com.pedromg.bluej.shapes.command.CommandParser;
 import com.pedromg.bluej.shapes.command.CommandRequest;
+import com.pedromg.bluej.shapes.command.ScriptRunner;
+import com.pedromg.bluej.shapes.daemon.CommandDaemon;
+import com.pedromg.bluej.shapes.daemon.DaemonClient;
+import com.pedromg.bluej.shapes.jfr.FlightRecording;
 import com.pedromg.bluej.shapes.preconditions.PreConditions;
 import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import com.pedromg.bluej.shapes.ui.Canvas;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import javax.swing.WindowConstants;
 
 public class Launcher {
 
+  private static final String SCRIPT_OPTION = "--script";
+  private static final String STDIN = "-";
+  private static final String DAEMON_OPTION = "--daemon";
+  private static final String CLIENT_OPTION = "--client";
+  private static final String JFR_OPTION = "--jfr";
+  private static final String TIMEOUT_OPTION = "--timeout";
+  private static final String CLIENT_OK = "ok";
+  private static final String SOCKET_PROPERTY = "shapes.daemon.socket";
+  private static final int DAEMON_QUEUE_CAPACITY = 64;
+
   private final CommandParser commandParser;
   private final CommandDispatcher dispatcher;
 
@@ -19,12 +45,163 @@ public class Launcher {
     this.dispatcher = dispatcher;
   }
 
-  public void launchApp(String[] args) {
+  /**
+   * Launches the app for the given command line arguments.
+   *
+   * <p>{@code --script <file>} runs every command of the file, one per line, in this process; a
+   * file of {@code -}, or no file at all, reads the script from the standard input.
+   *
+   * <p>{@code --daemon} keeps this process running and serves commands sent by {@code --client
+   * <action> <args>} from other processes of the same user, over the Unix domain socket given by
+   * the {@code shapes.daemon.socket} system property, {@code ~/.shapes/daemon.sock} by default. The
+   * command runs in the client's working directory and its output is printed by the client; {@code
+   * -} for the standard input or output is refused. Closing a window the daemon opened does not
+   * stop the daemon.
+   *
+   * <p>{@code --jfr <file>}, anywhere in the arguments, records a Java Flight Recording of the run
+   * into the file. It is written when the JVM exits.
+   *
+   * <p>{@code --timeout <seconds>}, a positive number anywhere in the arguments of a single
+   * command, cancels the command if it has not finished in time: the thread running it is
+   * interrupted.
+   *
+   * @param arguments the command line arguments
+   * @throws UncheckedIOException if the script cannot be read
+   */
+  public void launchApp(String[] arguments) {
+    String[] args;
+    Duration timeout;
+    try {
+      args = startFlightRecording(arguments);
+      timeout = timeout(args);
+      args = withoutOption(args, TIMEOUT_OPTION);
+    } catch (PreConditionsException exception) {
+      System.err.println(exception.getMessage());
+      System.err.println(dispatcher.helpMessage());
+      return;
+    }
+    if (args != null && args.length > 0 && SCRIPT_OPTION.equals(args[0])) {
+      launchScript(args.length > 1 ? args[1] : STDIN);
+      return;
+    }
+    if (args != null && args.length > 0 && DAEMON_OPTION.equals(args[0])) {
+      launchDaemon();
+      return;
+    }
+    if (args != null && args.length > 0 && CLIENT_OPTION.equals(args[0])) {
+      launchClient(Arrays.copyOfRange(args, 1, args.length));
+      return;
+    }
     try {
       CommandRequest request = commandParser.parse(args);
-      dispatcher.handle(request);
+      if (timeout == null) {
+        dispatcher.handle(request);
+      } else {
+        dispatcher.handle(request, timeout);
+      }
     } catch (PreConditionsException exception) {
+      System.err.println(exception.getMessage());
       System.err.println(dispatcher.helpMessage());
+    } catch (CancellationException exception) {
+      System.err.println(exception.getMessage());
+    }
+  }
+
+  private static String[] startFlightRecording(String[] args) {
+    int index = optionIndex(args, JFR_OPTION);
+    if (index < 0) {
+      return args;
+    }
+    PreConditions.require(index + 1 < args.length, "--jfr must be followed by a <file>");
+
+    FlightRecording.start(Path.of(args[index + 1]));
+    return withoutOption(args, JFR_OPTION);
+  }
+
+  private static Duration timeout(String[] args) {
+    int index = optionIndex(args, TIMEOUT_OPTION);
+    if (index < 0) {
+      return null;
+    }
+    PreConditions.require(
+            index + 1 < args.length, "--timeout must be followed by a number of <seconds>")
+        .and(
+            () -> Integer.parseInt(args[index + 1]),
+            "--timeout must be followed by a number of <seconds>")
+        .andPositive(
+            Integer.parseInt(args[index + 1]), "--timeout must be a positive number of <seconds>");
+
+    return Duration.ofSeconds(Integer.parseInt(args[index + 1]));
+  }
+
+  private static int optionIndex(String[] args, String option) {
+    for (int i = 0; args != null && i < args.length; i++) {
+      if (option.equals(args[i])) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /** Removes an option and the value following it. */
+  private static String[] withoutOption(String[] args, String option) {
+    int index = optionIndex(args, option);
+    if (index < 0) {
+      return args;
+    }
+    int end = Math.min(index + 2, args.length);
+    String[] remaining = new String[args.length - (end - index)];
+    System.arraycopy(args, 0, remaining, 0, index);
+    System.arraycopy(args, end, remaining, index, args.length - end);
+    return remaining;
+  }
+
+  private void launchScript(String file) {
+    ScriptRunner scriptRunner = new ScriptRunner(commandParser, dispatcher, System.err);
+    try (BufferedReader script = openScript(file)) {
+      int failures = scriptRunner.run(script);
+      if (failures > 0) {
+        System.err.printf("%d command(s) failed%n", failures);
+      }
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+  private BufferedReader openScript(String file) throws IOException {
+    if (STDIN.equals(file)) {
+      return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
     }
+    return Files.newBufferedReader(Path.of(file), StandardCharsets.UTF_8);
+  }
+
+  private void launchDaemon() {
+    CommandDaemon daemon =
+        new CommandDaemon(
+            commandParser,
+            dispatcher,
+            daemonSocket(),
+            Runtime.getRuntime().availableProcessors(),
+            DAEMON_QUEUE_CAPACITY);
+    Runtime.getRuntime().addShutdownHook(new Thread(daemon::close, "shapes-daemon-shutdown"));
+    Canvas.setCloseOperation(WindowConstants.DISPOSE_ON_CLOSE);
+    daemon.start();
+    System.out.println("daemon listening on " + daemon.socket());
+  }
+
+  private void launchClient(String[] args) {
+    try {
+      String response = new DaemonClient(daemonSocket()).send(args);
+      if (!CLIENT_OK.equals(response)) {
+        System.err.println(response);
+      }
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+  private static Path daemonSocket() {
+    String socket = System.getProperty(SOCKET_PROPERTY);
+    return socket == null ? CommandDaemon.defaultSocket() : Path.of(socket);
   }
 }
@@ -0,0 +1,129 @@
+package com.pedromg.bluej.shapes.animation;
+
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.awt.Canvas;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+public class ActiveAnimation extends Canvas implements Animation {
+
+  private static final int BUFFERS = 2;
+  private static final long FRAME_NANOS = TimeUnit.SECONDS.toNanos(1) / 60;
+
+  private final AnimationState state;
+  private final AnimationRenderer renderer;
+  private final FrameLoop frameLoop;
+  private final FrameStats frameStats;
+
+  private volatile boolean running;
+  private Thread renderThread;
+
+  /**
+   * Creates a heavyweight canvas animated by active rendering on a dedicated thread.
+   *
+   * <p>The render thread steps the state, draws each frame into the back buffer of a {@link
+   * BufferStrategy} and flips it, bypassing the Swing repaint machinery. Frames are paced to 60 per
+   * second; when a frame runs late the next one starts straight away. The state must not be used by
+   * any other thread while the animation runs.
+   *
+   * @param state the state to animate
+   * @param renderer the renderer painting the state
+   * @param frameLoop the loop stepping the state
+   * @param frameStats the stats recording every frame shown
+   * @param size the preferred size of the canvas
+   * @throws PreConditionsException if any argument is null
+   */
+  public ActiveAnimation(
+      AnimationState state,
+      AnimationRenderer renderer,
+      FrameLoop frameLoop,
+      FrameStats frameStats,
+      Dimension size) {
+    PreConditions.requireNotNull(state, "state must not be null")
+        .andNotNull(renderer, "renderer must not be null")
+        .andNotNull(frameLoop, "frameLoop must not be null")
+        .andNotNull(frameStats, "frameStats must not be null")
+        .andNotNull(size, "size must not be null");
+
+    this.state = state;
+    this.renderer = renderer;
+    this.frameLoop = frameLoop;
+    this.frameStats = frameStats;
+    setPreferredSize(size);
+    setIgnoreRepaint(true);
+  }
+
+  /**
+   * Starts the render thread.
+   *
+   * @throws PreConditionsException if the canvas is not displayable yet
+   */
+  @Override
+  public synchronized void start() {
+    PreConditions.require(isDisplayable(), "canvas must be displayable");
+    if (running) {
+      return;
+    }
+
+    createBufferStrategy(BUFFERS);
+    running = true;
+    renderThread = new Thread(this::renderFrames, "shapes-animation");
+    renderThread.setDaemon(true);
+    renderThread.start();
+  }
+
+  /** Stops the render thread and waits for the frame in progress. */
+  @Override
+  public synchronized void stop() {
+    running = false;
+    if (renderThread != null) {
+      try {
+        renderThread.join();
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+      }
+      renderThread = null;
+    }
+  }
+
+  private void renderFrames() {
+    BufferStrategy strategy = getBufferStrategy();
+    long nextFrameNanos = System.nanoTime();
+    while (running) {
+      long now = System.nanoTime();
+      float alpha = frameLoop.advance(now);
+      show(strategy, alpha);
+      frameStats.frame(System.nanoTime());
+
+      nextFrameNanos += FRAME_NANOS;
+      long sleepNanos = nextFrameNanos - System.nanoTime();
+      if (sleepNanos > 0) {
+        LockSupport.parkNanos(sleepNanos);
+      } else {
+        nextFrameNanos = System.nanoTime();
+      }
+    }
+  }
+
+  private void show(BufferStrategy strategy, float alpha) {
+    do {
+      do {
+        Graphics2D graphics = (Graphics2D) strategy.getDrawGraphics();
+        try {
+          graphics.setColor(getBackground());
+          graphics.fillRect(0, 0, getWidth(), getHeight());
+          renderer.render(graphics, state, alpha);
+        } finally {
+          graphics.dispose();
+        }
+      } while (strategy.contentsRestored());
+      strategy.show();
+    } while (strategy.contentsLost());
+    Toolkit.getDefaultToolkit().sync();
+  }
+}
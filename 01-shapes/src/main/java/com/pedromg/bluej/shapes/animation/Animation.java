@@ -0,0 +1,10 @@
+package com.pedromg.bluej.shapes.animation;
+
+public interface Animation {
+
+  /** Starts stepping and painting frames. */
+  void start();
+
+  /** Stops painting frames; the animation keeps its state and can be started again. */
+  void stop();
+}
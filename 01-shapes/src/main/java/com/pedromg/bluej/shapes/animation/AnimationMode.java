@@ -0,0 +1,13 @@
+package com.pedromg.bluej.shapes.animation;
+
+public enum AnimationMode {
+  /** Frames are painted by Swing, driven by a {@link javax.swing.Timer} on the EDT. */
+  TIMER,
+  /** Frames are painted by a dedicated thread into a {@link java.awt.image.BufferStrategy}. */
+  ACTIVE,
+  /**
+   * Frames are drawn by a dedicated thread into an image, which Swing copies onto the panel on the
+   * EDT.
+   */
+  BUFFERED
+}
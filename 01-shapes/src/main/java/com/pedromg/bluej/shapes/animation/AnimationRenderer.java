@@ -0,0 +1,110 @@
+package com.pedromg.bluej.shapes.animation;
+
+import com.pedromg.bluej.shapes.domain.Shape;
+import com.pedromg.bluej.shapes.domain.ShapeType;
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import com.pedromg.bluej.shapes.render.GeometryRenderer;
+import com.pedromg.bluej.shapes.render.LevelOfDetail;
+import com.pedromg.bluej.shapes.render.ShapeRenderer;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.geom.AffineTransform;
+
+public class AnimationRenderer {
+
+  private static final float SQRT_2 = (float) Math.sqrt(2);
+
+  private final ShapeRenderer<Shape> renderer;
+  private final LevelOfDetail levelOfDetail;
+
+  public AnimationRenderer() {
+    this(new GeometryRenderer());
+  }
+
+  /**
+   * Creates an AnimationRenderer that fills every shape through the given renderer.
+   *
+   * @param renderer the renderer used to fill shapes; must not be null
+   * @throws PreConditionsException if the renderer is null
+   */
+  public AnimationRenderer(ShapeRenderer<Shape> renderer) {
+    this(renderer, LevelOfDetail.exact());
+  }
+
+  /**
+   * Creates an AnimationRenderer that lowers the detail of small shapes, and of whole frames when
+   * they run over budget.
+   *
+   * @param renderer the renderer used to fill shapes; must not be null
+   * @param levelOfDetail the level of detail, only used by the thread painting the frames; must not
+   *     be null
+   * @throws PreConditionsException if any argument is null
+   */
+  public AnimationRenderer(ShapeRenderer<Shape> renderer, LevelOfDetail levelOfDetail) {
+    PreConditions.requireNotNull(renderer, "renderer must not be null")
+        .andNotNull(levelOfDetail, "levelOfDetail must not be null");
+
+    this.renderer = renderer;
+    this.levelOfDetail = levelOfDetail;
+  }
+
+  /**
+   * Paints every shape of the state, moved, rotated around its center and scaled to its values
+   * interpolated between the last two steps.
+   *
+   * <p>Circles look the same at any rotation, so they are only moved and scaled. Shapes that cannot
+   * reach the clip of {@code graphics}, whatever their rotation, are skipped. Shapes the level of
+   * detail finds too small on screen are filled as unrotated rectangles of at least one pixel, and
+   * the time the frame took is reported to it.
+   *
+   * @param graphics the graphics context to paint into
+   * @param state the state to paint
+   * @param alpha how far past the previous step the frame is, from 0 to 1
+   */
+  public void render(Graphics2D graphics, AnimationState state, float alpha) {
+    long start = System.nanoTime();
+    levelOfDetail.applyHints(graphics);
+
+    AffineTransform base = graphics.getTransform();
+    float baseScale = (float) Math.sqrt(Math.abs(base.getDeterminant()));
+    Rectangle clip = graphics.getClipBounds();
+    for (int i = 0; i < state.size(); i++) {
+      Shape shape = state.shape(i);
+      float x = state.x(i, alpha);
+      float y = state.y(i, alpha);
+      float scale = state.scale(i, alpha);
+      int width = shape.widthInPixels();
+      int height = shape.heightInPixels();
+
+      float reach = Math.max(width, height) * scale * SQRT_2 / 2;
+      if (clip != null
+          && (x + reach < clip.x
+              || y + reach < clip.y
+              || x - reach > clip.x + clip.width
+              || y - reach > clip.y + clip.height)) {
+        continue;
+      }
+      if (levelOfDetail.isTooSmall(Math.max(width, height) * scale * baseScale)) {
+        int pixelWidth = Math.max(1, Math.round(width * scale));
+        int pixelHeight = Math.max(1, Math.round(height * scale));
+        graphics.setColor(shape.color());
+        graphics.fillRect(
+            Math.round(x - pixelWidth / 2f),
+            Math.round(y - pixelHeight / 2f),
+            pixelWidth,
+            pixelHeight);
+        continue;
+      }
+
+      graphics.translate(x, y);
+      if (shape.type() != ShapeType.CIRCLE) {
+        graphics.rotate(state.rotation(i, alpha));
+      }
+      graphics.scale(scale, scale);
+      renderer.render(graphics, shape, -width / 2, -height / 2);
+      graphics.setTransform(base);
+    }
+    levelOfDetail.frameRendered(System.nanoTime() - start);
+  }
+}
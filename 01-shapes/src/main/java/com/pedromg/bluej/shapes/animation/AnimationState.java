@@ -0,0 +1,262 @@
+package com.pedromg.bluej.shapes.animation;
+
+import com.pedromg.bluej.shapes.domain.Shape;
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.util.Arrays;
+
+/**
+ * Position, rotation and scale of animated shapes, kept in primitive columns.
+ *
+ * <p>Each shape runs one tween that eases every property from its start value to its target and
+ * back again, forever. {@link #step(float)} advances all tweens by a fixed amount of time and keeps
+ * the values of the previous step, so a frame drawn between two steps can interpolate them.
+ * Stepping never allocates; only {@link #add(Shape, float, float)} grows the columns.
+ *
+ * <p>Instances are not thread-safe: step and read them from the same thread.
+ */
+public final class AnimationState {
+
+  private static final int DEFAULT_CAPACITY = 64;
+
+  private int size;
+  private Shape[] shapes;
+
+  private float[] x;
+  private float[] y;
+  private float[] rotation;
+  private float[] scale;
+
+  private float[] previousX;
+  private float[] previousY;
+  private float[] previousRotation;
+  private float[] previousScale;
+
+  private float[] fromX;
+  private float[] fromY;
+  private float[] fromRotation;
+  private float[] fromScale;
+
+  private float[] toX;
+  private float[] toY;
+  private float[] toRotation;
+  private float[] toScale;
+
+  private float[] duration;
+  private float[] time;
+
+  public AnimationState() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates an empty state with room for the given number of shapes before growing.
+   *
+   * @param capacity the initial capacity
+   * @throws PreConditionsException if the capacity is not positive
+   */
+  public AnimationState(int capacity) {
+    PreConditions.require(capacity > 0, "capacity must be positive");
+
+    shapes = new Shape[capacity];
+    x = new float[capacity];
+    y = new float[capacity];
+    rotation = new float[capacity];
+    scale = new float[capacity];
+    previousX = new float[capacity];
+    previousY = new float[capacity];
+    previousRotation = new float[capacity];
+    previousScale = new float[capacity];
+    fromX = new float[capacity];
+    fromY = new float[capacity];
+    fromRotation = new float[capacity];
+    fromScale = new float[capacity];
+    toX = new float[capacity];
+    toY = new float[capacity];
+    toRotation = new float[capacity];
+    toScale = new float[capacity];
+    duration = new float[capacity];
+    time = new float[capacity];
+  }
+
+  /**
+   * Adds a shape standing still, unrotated and at its natural scale.
+   *
+   * @param shape the shape to animate
+   * @param centerX the horizontal position of the center of the shape
+   * @param centerY the vertical position of the center of the shape
+   * @throws PreConditionsException if the shape is null
+   * @return the index of the shape
+   */
+  public int add(Shape shape, float centerX, float centerY) {
+    PreConditions.requireNotNull(shape, "shape must not be null");
+
+    if (size == shapes.length) {
+      grow();
+    }
+    int index = size++;
+    shapes[index] = shape;
+    x[index] = previousX[index] = fromX[index] = toX[index] = centerX;
+    y[index] = previousY[index] = fromY[index] = toY[index] = centerY;
+    scale[index] = previousScale[index] = fromScale[index] = toScale[index] = 1f;
+    duration[index] = 1f;
+    return index;
+  }
+
+  /**
+   * Starts a tween from the current values of a shape to the given targets and back, repeating.
+   *
+   * @param index the index of the shape
+   * @param targetX the horizontal position to move the center to
+   * @param targetY the vertical position to move the center to
+   * @param targetRotation the rotation to reach, in radians
+   * @param targetScale the scale to reach
+   * @param seconds the time it takes to reach the targets
+   * @throws PreConditionsException if the index is out of bounds or the seconds or scale are not
+   *     positive
+   */
+  public void tween(
+      int index,
+      float targetX,
+      float targetY,
+      float targetRotation,
+      float targetScale,
+      float seconds) {
+    PreConditions.require(index >= 0 && index < size, "index must be within bounds")
+        .and(targetScale > 0, "targetScale must be positive")
+        .and(seconds > 0, "seconds must be positive");
+
+    fromX[index] = x[index];
+    fromY[index] = y[index];
+    fromRotation[index] = rotation[index];
+    fromScale[index] = scale[index];
+    toX[index] = targetX;
+    toY[index] = targetY;
+    toRotation[index] = targetRotation;
+    toScale[index] = targetScale;
+    duration[index] = seconds;
+    time[index] = 0f;
+  }
+
+  /**
+   * Advances every tween by a fixed amount of time.
+   *
+   * <p>The values before the step are kept for {@link #x(int, float)} and the other interpolating
+   * accessors. A tween that reaches its targets turns around and eases back.
+   *
+   * @param seconds the fixed timestep
+   */
+  public void step(float seconds) {
+    System.arraycopy(x, 0, previousX, 0, size);
+    System.arraycopy(y, 0, previousY, 0, size);
+    System.arraycopy(rotation, 0, previousRotation, 0, size);
+    System.arraycopy(scale, 0, previousScale, 0, size);
+
+    for (int i = 0; i < size; i++) {
+      float elapsed = time[i] + seconds;
+      float length = duration[i];
+      if (elapsed >= length) {
+        elapsed %= length;
+        turnAround(i);
+      }
+      time[i] = elapsed;
+
+      float t = elapsed / length;
+      float eased = t * t * (3f - 2f * t);
+      x[i] = fromX[i] + (toX[i] - fromX[i]) * eased;
+      y[i] = fromY[i] + (toY[i] - fromY[i]) * eased;
+      rotation[i] = fromRotation[i] + (toRotation[i] - fromRotation[i]) * eased;
+      scale[i] = fromScale[i] + (toScale[i] - fromScale[i]) * eased;
+    }
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public Shape shape(int index) {
+    return shapes[index];
+  }
+
+  /**
+   * Returns the horizontal position of the center of a shape between the last two steps.
+   *
+   * @param index the index of the shape
+   * @param alpha how far past the previous step the frame is, from 0 to 1
+   * @return the interpolated position
+   */
+  public float x(int index, float alpha) {
+    return previousX[index] + (x[index] - previousX[index]) * alpha;
+  }
+
+  /**
+   * Returns the vertical position of the center of a shape between the last two steps.
+   *
+   * @param index the index of the shape
+   * @param alpha how far past the previous step the frame is, from 0 to 1
+   * @return the interpolated position
+   */
+  public float y(int index, float alpha) {
+    return previousY[index] + (y[index] - previousY[index]) * alpha;
+  }
+
+  /**
+   * Returns the rotation of a shape, in radians, between the last two steps.
+   *
+   * @param index the index of the shape
+   * @param alpha how far past the previous step the frame is, from 0 to 1
+   * @return the interpolated rotation
+   */
+  public float rotation(int index, float alpha) {
+    return previousRotation[index] + (rotation[index] - previousRotation[index]) * alpha;
+  }
+
+  /**
+   * Returns the scale of a shape between the last two steps.
+   *
+   * @param index the index of the shape
+   * @param alpha how far past the previous step the frame is, from 0 to 1
+   * @return the interpolated scale
+   */
+  public float scale(int index, float alpha) {
+    return previousScale[index] + (scale[index] - previousScale[index]) * alpha;
+  }
+
+  private void turnAround(int i) {
+    float swap = fromX[i];
+    fromX[i] = toX[i];
+    toX[i] = swap;
+    swap = fromY[i];
+    fromY[i] = toY[i];
+    toY[i] = swap;
+    swap = fromRotation[i];
+    fromRotation[i] = toRotation[i];
+    toRotation[i] = swap;
+    swap = fromScale[i];
+    fromScale[i] = toScale[i];
+    toScale[i] = swap;
+  }
+
+  private void grow() {
+    int capacity = shapes.length + (shapes.length >> 1) + 1;
+    shapes = Arrays.copyOf(shapes, capacity);
+    x = Arrays.copyOf(x, capacity);
+    y = Arrays.copyOf(y, capacity);
+    rotation = Arrays.copyOf(rotation, capacity);
+    scale = Arrays.copyOf(scale, capacity);
+    previousX = Arrays.copyOf(previousX, capacity);
+    previousY = Arrays.copyOf(previousY, capacity);
+    previousRotation = Arrays.copyOf(previousRotation, capacity);
+    previousScale = Arrays.copyOf(previousScale, capacity);
+    fromX = Arrays.copyOf(fromX, capacity);
+    fromY = Arrays.copyOf(fromY, capacity);
+    fromRotation = Arrays.copyOf(fromRotation, capacity);
+    fromScale = Arrays.copyOf(fromScale, capacity);
+    toX = Arrays.copyOf(toX, capacity);
+    toY = Arrays.copyOf(toY, capacity);
+    toRotation = Arrays.copyOf(toRotation, capacity);
+    toScale = Arrays.copyOf(toScale, capacity);
+    duration = Arrays.copyOf(duration, capacity);
+    time = Arrays.copyOf(time, capacity);
+  }
+}
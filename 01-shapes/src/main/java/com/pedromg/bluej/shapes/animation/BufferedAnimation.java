@@ -0,0 +1,157 @@
+package com.pedromg.bluej.shapes.animation;
+
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import javax.swing.JPanel;
+
+public class BufferedAnimation extends JPanel implements Animation {
+
+  private static final long FRAME_NANOS = TimeUnit.SECONDS.toNanos(1) / 60;
+  private static final String BACKGROUND_PROPERTY = "background";
+
+  private final AnimationState state;
+  private final AnimationRenderer renderer;
+  private final FrameLoop frameLoop;
+  private final FrameStats frameStats;
+  private final FrameBuffers buffers;
+
+  private volatile boolean running;
+  private volatile Dimension frameSize = new Dimension();
+  private volatile Color background;
+  private Thread renderThread;
+
+  /**
+   * Creates a Swing panel whose frames are drawn off the event dispatch thread.
+   *
+   * <p>A dedicated thread steps the state and draws each frame into a back buffer, then publishes
+   * it through {@link FrameBuffers} and asks for a repaint. Painting on the EDT only copies the
+   * newest finished frame onto the panel, so dense frames no longer delay input events. Frames are
+   * paced to 60 per second; frames drawn faster than Swing shows them are dropped. The state must
+   * not be used by any other thread while the animation runs.
+   *
+   * <p>The render thread never queries the panel: its size and background are copied on the EDT
+   * whenever they change, and the thread draws with the latest copies.
+   *
+   * @param state the state to animate
+   * @param renderer the renderer painting the state
+   * @param frameLoop the loop stepping the state
+   * @param frameStats the stats recording every frame shown
+   * @param size the preferred size of the panel
+   * @throws PreConditionsException if any argument is null
+   */
+  public BufferedAnimation(
+      AnimationState state,
+      AnimationRenderer renderer,
+      FrameLoop frameLoop,
+      FrameStats frameStats,
+      Dimension size) {
+    PreConditions.requireNotNull(state, "state must not be null")
+        .andNotNull(renderer, "renderer must not be null")
+        .andNotNull(frameLoop, "frameLoop must not be null")
+        .andNotNull(frameStats, "frameStats must not be null")
+        .andNotNull(size, "size must not be null");
+
+    this.state = state;
+    this.renderer = renderer;
+    this.frameLoop = frameLoop;
+    this.frameStats = frameStats;
+    this.buffers = new FrameBuffers(BufferedImage.TYPE_INT_RGB);
+    this.background = getBackground();
+    setPreferredSize(size);
+    addComponentListener(
+        new ComponentAdapter() {
+          @Override
+          public void componentResized(ComponentEvent event) {
+            frameSize = getSize();
+          }
+        });
+    addPropertyChangeListener(BACKGROUND_PROPERTY, event -> background = getBackground());
+  }
+
+  /** Starts the render thread. */
+  @Override
+  public synchronized void start() {
+    if (running) {
+      return;
+    }
+
+    running = true;
+    renderThread = new Thread(this::renderFrames, "shapes-buffered-animation");
+    renderThread.setDaemon(true);
+    renderThread.start();
+  }
+
+  /** Stops the render thread and waits for the frame in progress. */
+  @Override
+  public synchronized void stop() {
+    running = false;
+    if (renderThread != null) {
+      try {
+        renderThread.join();
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+      }
+      renderThread = null;
+    }
+  }
+
+  /**
+   * Copies the newest finished frame onto the panel, and records it if it was not shown before.
+   *
+   * @param g the {@code Graphics} context in which to paint
+   */
+  @Override
+  protected void paintComponent(Graphics g) {
+    if (buffers.swap()) {
+      frameStats.frame(System.nanoTime());
+    }
+    BufferedImage front = buffers.front();
+    if (front == null || front.getWidth() < getWidth() || front.getHeight() < getHeight()) {
+      super.paintComponent(g);
+    }
+    if (front != null) {
+      g.drawImage(front, 0, 0, null);
+    }
+  }
+
+  private void renderFrames() {
+    long nextFrameNanos = System.nanoTime();
+    while (running) {
+      float alpha = frameLoop.advance(System.nanoTime());
+      Dimension size = frameSize;
+      if (size.width > 0 && size.height > 0) {
+        draw(buffers.back(size.width, size.height), alpha, background);
+        buffers.publish();
+        repaint();
+      }
+
+      nextFrameNanos += FRAME_NANOS;
+      long sleepNanos = nextFrameNanos - System.nanoTime();
+      if (sleepNanos > 0) {
+        LockSupport.parkNanos(sleepNanos);
+      } else {
+        nextFrameNanos = System.nanoTime();
+      }
+    }
+  }
+
+  private void draw(BufferedImage image, float alpha, Color background) {
+    Graphics2D graphics = image.createGraphics();
+    try {
+      graphics.setColor(background);
+      graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+      renderer.render(graphics, state, alpha);
+    } finally {
+      graphics.dispose();
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package com.pedromg.bluej.shapes.animation;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Hands finished frames from a render thread to a painting thread without locks.
+ *
+ * <p>The render thread draws into its {@link #back(int, int) back buffer} and {@link #publish()
+ * publishes} it; the painting thread {@link #swap() swaps} the newest published frame in as its
+ * {@link #front() front buffer}. Each image is owned by one thread at a time and only changes hands
+ * through an atomic exchange, so a frame is never drawn while it is being shown. When the painting
+ * thread falls behind, the render thread reuses the frame it did not take, so at most three images
+ * exist and stale frames are dropped rather than queued.
+ *
+ * <p>Call {@link #back(int, int)} and {@link #publish()} from a single render thread, and {@link
+ * #swap()} and {@link #front()} from a single painting thread.
+ */
+public final class FrameBuffers {
+
+  private final int imageType;
+  private final AtomicReference<BufferedImage> ready;
+  private final AtomicReference<BufferedImage> free;
+
+  private BufferedImage back;
+  private BufferedImage front;
+
+  /**
+   * Creates the buffers, allocating images of the given type when needed.
+   *
+   * @param imageType the type of the images, such as {@link BufferedImage#TYPE_INT_RGB}
+   */
+  public FrameBuffers(int imageType) {
+    this.imageType = imageType;
+    this.ready = new AtomicReference<>();
+    this.free = new AtomicReference<>();
+  }
+
+  /**
+   * Returns the image to draw the next frame into, replacing it if it does not have the given size.
+   * Its previous content is left as it was.
+   *
+   * @param width the width of the frame
+   * @param height the height of the frame
+   * @return the back buffer, owned by the render thread until it is published
+   */
+  public BufferedImage back(int width, int height) {
+    if (back == null) {
+      back = free.getAndSet(null);
+    }
+    if (back == null || back.getWidth() != width || back.getHeight() != height) {
+      back = new BufferedImage(width, height, imageType);
+    }
+    return back;
+  }
+
+  /** Publishes the back buffer as the newest frame, and takes another image to draw into. */
+  public void publish() {
+    BufferedImage stale = ready.getAndSet(back);
+    back = stale != null ? stale : free.getAndSet(null);
+  }
+
+  /**
+   * Makes the newest published frame the front buffer, if one was published since the last swap.
+   * The previous front buffer goes back to the render thread.
+   *
+   * @return true if the front buffer is a new frame
+   */
+  public boolean swap() {
+    BufferedImage fresh = ready.getAndSet(null);
+    if (fresh == null) {
+      return false;
+    }
+    if (front != null) {
+      free.set(front);
+    }
+    front = fresh;
+    return true;
+  }
+
+  /**
+   * Returns the frame to show.
+   *
+   * @return the front buffer, or null if no frame was swapped in yet
+   */
+  public BufferedImage front() {
+    return front;
+  }
+}
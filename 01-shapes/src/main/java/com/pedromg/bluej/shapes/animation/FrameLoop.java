@@ -0,0 +1,74 @@
+package com.pedromg.bluej.shapes.animation;
+
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives an {@link AnimationState} at a fixed timestep, whatever the frame rate.
+ *
+ * <p>Time between frames is accumulated and consumed in whole steps, so the animation runs at the
+ * same speed on fast and slow machines. What is left over becomes the interpolation factor for the
+ * frame. A long pause, like a GC or the window being dragged, is clamped so the loop does not try
+ * to catch up with hundreds of steps at once.
+ */
+public final class FrameLoop {
+
+  private static final long MAX_FRAME_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+
+  private final AnimationState state;
+  private final long stepNanos;
+  private final float stepSeconds;
+
+  private long previousNanos;
+  private long accumulatedNanos;
+  private long steps;
+  private boolean started;
+
+  /**
+   * Creates a loop stepping the given state.
+   *
+   * @param state the state to step
+   * @param stepsPerSecond the number of fixed steps per second of animation
+   * @throws PreConditionsException if the state is null or the rate is not positive
+   */
+  public FrameLoop(AnimationState state, int stepsPerSecond) {
+    PreConditions.requireNotNull(state, "state must not be null")
+        .and(stepsPerSecond > 0, "stepsPerSecond must be positive");
+
+    this.state = state;
+    this.stepNanos = TimeUnit.SECONDS.toNanos(1) / stepsPerSecond;
+    this.stepSeconds = 1f / stepsPerSecond;
+  }
+
+  /**
+   * Runs every fixed step due by the given time.
+   *
+   * @param nowNanos the current time, from {@link System#nanoTime()}
+   * @return the interpolation factor for a frame drawn now, from 0 to 1
+   */
+  public float advance(long nowNanos) {
+    if (!started) {
+      started = true;
+      previousNanos = nowNanos;
+      return 0f;
+    }
+    accumulatedNanos += Math.min(nowNanos - previousNanos, MAX_FRAME_NANOS);
+    previousNanos = nowNanos;
+    while (accumulatedNanos >= stepNanos) {
+      state.step(stepSeconds);
+      accumulatedNanos -= stepNanos;
+      steps++;
+    }
+    return (float) accumulatedNanos / stepNanos;
+  }
+
+  /**
+   * Returns the number of fixed steps run so far.
+   *
+   * @return the step count
+   */
+  public long steps() {
+    return steps;
+  }
+}
@@ -0,0 +1,76 @@
+package com.pedromg.bluej.shapes.animation;
+
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * Measures the time between frames and reports the frame rate at a regular interval.
+ *
+ * <p>Instances are not thread-safe: record frames from the thread that draws them.
+ */
+public final class FrameStats {
+
+  private static final double NANOS_PER_MILLI = 1_000_000.0;
+  private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+  private final long reportIntervalNanos;
+  private final Consumer<String> reporter;
+
+  private long previousFrameNanos;
+  private long windowStartNanos;
+  private long frames;
+  private long maxFrameNanos;
+  private boolean started;
+
+  /**
+   * Creates a FrameStats reporting through the given consumer.
+   *
+   * @param reportIntervalNanos the time between two reports
+   * @param reporter the consumer of each report
+   * @throws PreConditionsException if the interval is not positive or the reporter is null
+   */
+  public FrameStats(long reportIntervalNanos, Consumer<String> reporter) {
+    PreConditions.require(reportIntervalNanos > 0, "reportIntervalNanos must be positive")
+        .andNotNull(reporter, "reporter must not be null");
+
+    this.reportIntervalNanos = reportIntervalNanos;
+    this.reporter = reporter;
+  }
+
+  /**
+   * Records a frame completed at the given time, and reports once the interval has elapsed.
+   *
+   * @param nowNanos the time the frame was completed, from {@link System#nanoTime()}
+   */
+  public void frame(long nowNanos) {
+    if (!started) {
+      started = true;
+      previousFrameNanos = nowNanos;
+      windowStartNanos = nowNanos;
+      return;
+    }
+    frames++;
+    maxFrameNanos = Math.max(maxFrameNanos, nowNanos - previousFrameNanos);
+    previousFrameNanos = nowNanos;
+
+    long windowNanos = nowNanos - windowStartNanos;
+    if (windowNanos >= reportIntervalNanos) {
+      reporter.accept(report(windowNanos));
+      windowStartNanos = nowNanos;
+      frames = 0;
+      maxFrameNanos = 0;
+    }
+  }
+
+  private String report(long windowNanos) {
+    return String.format(
+        Locale.ROOT,
+        "%.1f fps, frame time avg %.2f ms, max %.2f ms (%d frames)",
+        frames * NANOS_PER_SECOND / windowNanos,
+        windowNanos / NANOS_PER_MILLI / frames,
+        maxFrameNanos / NANOS_PER_MILLI,
+        frames);
+  }
+}
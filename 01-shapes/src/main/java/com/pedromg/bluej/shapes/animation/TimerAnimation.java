@@ -0,0 +1,84 @@
+package com.pedromg.bluej.shapes.animation;
+
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import javax.swing.JPanel;
+import javax.swing.Timer;
+
+public class TimerAnimation extends JPanel implements Animation {
+
+  private static final int FRAME_DELAY_MILLIS = 16;
+
+  private final AnimationState state;
+  private final AnimationRenderer renderer;
+  private final FrameLoop frameLoop;
+  private final FrameStats frameStats;
+  private final Timer timer;
+
+  private float alpha;
+
+  /**
+   * Creates a panel animated by a {@link Timer} on the Swing event dispatch thread.
+   *
+   * <p>Every timer tick runs the fixed steps due and asks for a repaint, which draws the state
+   * interpolated between the last two steps. Swing coalesces ticks and repaints when painting falls
+   * behind, so the frame rate drops but the animation keeps its speed.
+   *
+   * @param state the state to animate
+   * @param renderer the renderer painting the state
+   * @param frameLoop the loop stepping the state
+   * @param frameStats the stats recording every frame painted
+   * @param size the preferred size of the panel
+   * @throws PreConditionsException if any argument is null
+   */
+  public TimerAnimation(
+      AnimationState state,
+      AnimationRenderer renderer,
+      FrameLoop frameLoop,
+      FrameStats frameStats,
+      Dimension size) {
+    PreConditions.requireNotNull(state, "state must not be null")
+        .andNotNull(renderer, "renderer must not be null")
+        .andNotNull(frameLoop, "frameLoop must not be null")
+        .andNotNull(frameStats, "frameStats must not be null")
+        .andNotNull(size, "size must not be null");
+
+    this.state = state;
+    this.renderer = renderer;
+    this.frameLoop = frameLoop;
+    this.frameStats = frameStats;
+    this.timer = new Timer(FRAME_DELAY_MILLIS, event -> tick());
+    setPreferredSize(size);
+  }
+
+  @Override
+  public void start() {
+    timer.start();
+  }
+
+  @Override
+  public void stop() {
+    timer.stop();
+  }
+
+  /**
+   * Paints the animated shapes and records the frame.
+   *
+   * @param g the {@code Graphics} context in which to paint
+   */
+  @Override
+  protected void paintComponent(Graphics g) {
+    super.paintComponent(g);
+
+    renderer.render((Graphics2D) g, state, alpha);
+    frameStats.frame(System.nanoTime());
+  }
+
+  private void tick() {
+    alpha = frameLoop.advance(System.nanoTime());
+    repaint();
+  }
+}
@@ -0,0 +1,54 @@
+package com.pedromg.bluej.shapes.command;
+
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+
+/**
+ * Where a command runs on behalf of: the directory its relative paths are resolved against, and the
+ * streams its output goes to.
+ *
+ * <p>A command typed in this process runs in the process's own directory and prints to its own
+ * standard streams. A command forwarded to the daemon runs in the directory of the client that sent
+ * it, and its output is sent back to that client.
+ */
+public record CommandContext(Path workingDirectory, PrintStream out, PrintStream err) {
+
+  /**
+   * Creates a CommandContext
+   *
+   * @param workingDirectory the directory relative paths are resolved against; must be absolute
+   * @param out where the command writes its output
+   * @param err where the command reports errors and warnings
+   * @throws PreConditionsException if any argument is null or the directory is not absolute
+   */
+  public CommandContext {
+    PreConditions.requireNotNull(workingDirectory, "workingDirectory must not be null")
+        .and(workingDirectory.isAbsolute(), "workingDirectory must be absolute")
+        .andNotNull(out, "out must not be null")
+        .andNotNull(err, "err must not be null");
+  }
+
+  /**
+   * Returns the context of this process: its working directory and standard streams.
+   *
+   * @return the context for commands typed in this process
+   */
+  public static CommandContext local() {
+    return new CommandContext(Path.of("").toAbsolutePath(), System.out, System.err);
+  }
+
+  /**
+   * Resolves a path given on the command line against the working directory.
+   *
+   * @param path the path as given, absolute or relative
+   * @throws PreConditionsException if the path is null
+   * @return the path, absolute
+   */
+  public Path resolve(String path) {
+    PreConditions.requireNotNull(path, "path must not be null");
+
+    return workingDirectory.resolve(path);
+  }
+}
@@ -1,35 +1,192 @@
 package com.pedromg.bluej.shapes.command;
 
+import com.pedromg.bluej.shapes.jfr.CommandDispatchEvent;
 import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 public class CommandDispatcher implements CommandHandler {
 
   private final CommandPalette commandPalette;
+  private final Executor executor;
 
+  /**
+   * Creates a dispatcher running handlers on the thread that dispatches the request.
+   *
+   * @param commandPalette the commands to dispatch to
+   * @throws PreConditionsException if commandPalette is null
+   */
   public CommandDispatcher(CommandPalette commandPalette) {
-    PreConditions.requireNotNull(commandPalette, "commandPalette must not be null");
+    this(commandPalette, Runnable::run);
+  }
+
+  /**
+   * Creates a dispatcher running handlers on an executor, so that the dispatching thread, such as
+   * the event dispatch thread, is never blocked by a long command.
+   *
+   * @param commandPalette the commands to dispatch to
+   * @param executor the executor running the handlers
+   * @throws PreConditionsException if an argument is null
+   */
+  public CommandDispatcher(CommandPalette commandPalette, Executor executor) {
+    PreConditions.requireNotNull(commandPalette, "commandPalette must not be null")
+        .andNotNull(executor, "executor must not be null");
 
     this.commandPalette = commandPalette;
+    this.executor = executor;
   }
 
   /**
-   * Handles the given CLIRequest
+   * Handles the given CLIRequest and waits for it to finish
+   *
+   * <p>An unknown action prints the commands it may have meant and the help. If the calling thread
+   * is interrupted while waiting, the command is cancelled.
    *
    * @param request the command line request
+   * @throws RuntimeException the exception thrown by the handler, unwrapped
    */
   @Override
   public void handle(CommandRequest request) {
+    await(dispatch(request));
+  }
+
+  /**
+   * Handles the given request and waits for it to finish, cancelling it if it has not finished in
+   * time.
+   *
+   * @param request the command line request
+   * @param timeout how long the command may run; must be positive
+   * @throws PreConditionsException if the timeout is null or not positive
+   * @throws CancellationException if the command timed out
+   * @throws RuntimeException the exception thrown by the handler, unwrapped
+   */
+  public void handle(CommandRequest request, Duration timeout) {
+    await(dispatch(request, timeout));
+  }
+
+  /**
+   * Starts handling the given request on the executor of this dispatcher.
+   *
+   * @param request the command line request
+   * @return a future completed when the request is handled, failed with {@link
+   *     CommandNotFoundException} if no command matches the action
+   */
+  public CompletableFuture<Void> dispatch(CommandRequest request) {
+    return handleAsync(request, executor);
+  }
+
+  /**
+   * Starts handling the given request on the executor of this dispatcher, and cancels it if it has
+   * not finished in time.
+   *
+   * @param request the command line request
+   * @param timeout how long the command may run; must be positive
+   * @throws PreConditionsException if the timeout is null or not positive
+   * @return a future completed when the request is handled, or failed with {@link
+   *     java.util.concurrent.TimeoutException} once the timeout elapses
+   */
+  public CompletableFuture<Void> dispatch(CommandRequest request, Duration timeout) {
+    PreConditions.requireNotNull(timeout, "timeout must not be null")
+        .and(!timeout.isNegative() && !timeout.isZero(), "timeout must be positive");
+
+    return dispatch(request).orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Looks the handler up on the calling thread and starts it on the given executor.
+   *
+   * <p>The returned future is the handler's own, so cancelling it or letting it time out reaches
+   * the handler.
+   */
+  @Override
+  public CompletableFuture<Void> handleAsync(CommandRequest request, Executor executor) {
+    CommandDispatchEvent event = new CommandDispatchEvent();
+    event.begin();
     String action = request.action();
-    if (commandPalette.hasCommand(action)) {
-      CommandHandler handler = commandPalette.find(action);
-      handler.handle(request);
-    } else {
-      System.err.println(helpMessage());
+    CommandHandler handler = commandPalette.lookup(action);
+    if (handler == null) {
+      event.commit(action, null, CommandDispatchEvent.UNKNOWN);
+      return CompletableFuture.failedFuture(
+          new CommandNotFoundException(action, suggestions(action)));
     }
+
+    CompletableFuture<Void> handled = handler.handleAsync(request, executor);
+    handled.whenComplete(
+        (result, exception) -> event.commit(action, handler.getClass(), outcome(exception)));
+    return handled;
+  }
+
+  /**
+   * Checks if a handler is registered for the given action
+   *
+   * @param action the action to check, or an abbreviation matching a single command
+   * @return true only if the action can be dispatched
+   */
+  public boolean canHandle(String action) {
+    return commandPalette.hasCommand(action);
+  }
+
+  /**
+   * Returns the commands an action that cannot be handled may have meant.
+   *
+   * @param action the unknown action
+   * @return at most five command names, possibly none
+   */
+  public List<String> suggestions(String action) {
+    return commandPalette.suggestions(action);
   }
 
   @Override
   public String helpMessage() {
     return commandPalette.helpMessage();
   }
+
+  private void await(CompletableFuture<Void> handled) {
+    try {
+      handled.get();
+    } catch (InterruptedException exception) {
+      handled.cancel(true);
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException exception) {
+      Throwable cause = exception.getCause();
+      if (cause instanceof CommandNotFoundException notFound) {
+        System.err.println(
+            "Unknown command: "
+                + notFound.command()
+                + CommandNotFoundException.didYouMean(notFound.suggestions()));
+        System.err.println(helpMessage());
+        return;
+      }
+      if (cause instanceof TimeoutException) {
+        CancellationException cancelled = new CancellationException("command timed out");
+        cancelled.initCause(cause);
+        throw cancelled;
+      }
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      throw new CompletionException(cause);
+    }
+  }
+
+  private static String outcome(Throwable exception) {
+    if (exception == null) {
+      return CommandDispatchEvent.OK;
+    }
+    Throwable cause = exception instanceof CompletionException ? exception.getCause() : exception;
+    return cause instanceof CancellationException || cause instanceof TimeoutException
+        ? CommandDispatchEvent.CANCELLED
+        : CommandDispatchEvent.FAILED;
+  }
 }
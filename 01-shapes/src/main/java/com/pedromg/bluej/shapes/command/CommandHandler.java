@@ -1,8 +1,27 @@
 package com.pedromg.bluej.shapes.command;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 public interface CommandHandler {
 
   void handle(CommandRequest request);
 
   String helpMessage();
+
+  /**
+   * Starts handling a request on the given executor.
+   *
+   * <p>By default {@link #handle(CommandRequest)} runs on the executor, and cancelling the future
+   * or letting it time out interrupts the thread running it. Handlers must still move any Swing
+   * work to the event dispatch thread themselves, keeping the rest of their work off it.
+   *
+   * @param request the command line request
+   * @param executor the executor to run the handler on
+   * @return a future completed when the request is handled, or failed with the exception the
+   *     handler threw
+   */
+  default CompletableFuture<Void> handleAsync(CommandRequest request, Executor executor) {
+    return CommandTask.start(() -> handle(request), executor);
+  }
 }
@@ -1,17 +1,45 @@
 package com.pedromg.bluej.shapes.command;
 
+import java.util.List;
+
 public class CommandNotFoundException extends IllegalArgumentException {
 
   private static final long serialVersionUID = 1L;
 
   private final String command;
+  private final List<String> suggestions;
 
   public CommandNotFoundException(String command) {
-    super("Command not found: " + command);
+    this(command, List.of());
+  }
+
+  /**
+   * Creates a CommandNotFoundException
+   *
+   * @param command the name that did not match a command
+   * @param suggestions the commands that may have been meant, listed in the message
+   */
+  public CommandNotFoundException(String command, List<String> suggestions) {
+    super("Command not found: " + command + didYouMean(suggestions));
     this.command = command;
+    this.suggestions = List.copyOf(suggestions);
   }
 
   public String command() {
     return command;
   }
+
+  public List<String> suggestions() {
+    return suggestions;
+  }
+
+  /**
+   * Formats suggestions for an error message.
+   *
+   * @param suggestions the commands that may have been meant
+   * @return {@code " (did you mean a, b?)"}, or an empty string if there are no suggestions
+   */
+  public static String didYouMean(List<String> suggestions) {
+    return suggestions.isEmpty() ? "" : " (did you mean " + String.join(", ", suggestions) + "?)";
+  }
 }
@@ -1,13 +1,31 @@
 package com.pedromg.bluej.shapes.command;
 
 import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
+/**
+ * The commands an application can dispatch, by name.
+ *
+ * <p>Commands are added first; the palette is then compiled into an immutable trie over the names.
+ * Compiling happens on {@link #freeze()}, or on the first lookup after a command was added. The
+ * help text is rendered on its first use and kept until a command is added. Lookups accept a full
+ * name or any prefix that only one command starts with, so {@code imp} runs {@code import}, and
+ * find in a single pass whatever the number of commands.
+ *
+ * <p>Freeze a palette before sharing it between threads: a frozen palette rejects new commands and
+ * may be read concurrently. Freezing compiles the trie once and publishes it, and the frozen flag,
+ * through volatile fields, so threads that only see the palette afterwards read every command.
+ */
 public class CommandPalette {
 
   private final String usageMessage;
   private final Map<String, CommandHandler> handlers;
+  private volatile CompiledPalette compiled;
+  private volatile String helpMessage;
+  private volatile boolean frozen;
 
   public CommandPalette(String usageMessage) {
     PreConditions.requireNotNull(usageMessage, "usageMessage must not be null")
@@ -22,49 +40,122 @@ public class CommandPalette {
     this.handlers = new LinkedHashMap<>();
   }
 
+  /**
+   * Adds a command, replacing any command with the same name.
+   *
+   * @param name the name the command is run by; must not be blank
+   * @param handler the handler running the command; must not be null
+   * @throws PreConditionsException if an argument is invalid or the palette is frozen
+   * @return this palette
+   */
   public CommandPalette add(String name, CommandHandler handler) {
     PreConditions.requireNotNull(name, "name must not be null")
         .andNot(name.isBlank(), "name must not be blank")
-        .andNotNull(handler, "handler must not be null");
+        .andNotNull(handler, "handler must not be null")
+        .andNot(frozen, "palette is frozen");
 
     handlers.put(name, handler);
+    compiled = null;
+    helpMessage = null;
     return this;
   }
 
-  public boolean hasCommand(String name) {
-    PreConditions.requireNotNull(name, "name must not be null")
-        .andNot(name.isBlank(), "name must not be blank");
+  /**
+   * Compiles the palette and stops it from accepting new commands.
+   *
+   * @return this palette
+   */
+  public CommandPalette freeze() {
+    frozen = true;
+    compiled = new CompiledPalette(handlers);
+    return this;
+  }
 
-    return handlers.containsKey(name);
+  public boolean hasCommand(String name) {
+    return lookup(name) != null;
   }
 
+  /**
+   * Finds the handler for a command.
+   *
+   * @param name the full name of the command, or a prefix that only one command starts with
+   * @throws PreConditionsException if the name is blank
+   * @throws CommandNotFoundException if no command matches, or several do
+   * @return the handler
+   */
   public CommandHandler find(String name) {
-    if (!hasCommand(name)) {
-      throw new CommandNotFoundException(name);
+    CommandHandler handler = lookup(name);
+    if (handler == null) {
+      throw new CommandNotFoundException(name, compiled().suggestions(name));
     }
-    return handlers.get(name);
+    return handler;
   }
 
+  /**
+   * Returns the commands an unknown name may have meant: the commands it abbreviates when it is
+   * ambiguous, or else the names within two typos of it.
+   *
+   * @param name the name that did not match a command
+   * @throws PreConditionsException if the name is blank
+   * @return at most five command names, possibly none
+   */
+  public List<String> suggestions(String name) {
+    PreConditions.requireNotBlank(name, "name must not be blank");
+
+    return compiled().suggestions(name);
+  }
+
+  /**
+   * Returns the usage and the help of every command, in the order they were added. The help of each
+   * handler is only read the first time.
+   *
+   * @return the help text
+   */
   public String helpMessage() {
+    String help = helpMessage;
+    if (help == null) {
+      help = renderHelpMessage();
+      helpMessage = help;
+    }
+    return help;
+  }
+
+  /** Validates the name and finds its handler in a single walk of the trie, or returns null. */
+  CommandHandler lookup(String name) {
+    PreConditions.requireNotBlank(name, "name must not be blank");
+
+    return compiled().handler(name);
+  }
+
+  private CompiledPalette compiled() {
+    CompiledPalette palette = compiled;
+    if (palette == null) {
+      palette = new CompiledPalette(handlers);
+      compiled = palette;
+    }
+    return palette;
+  }
+
+  private String renderHelpMessage() {
     StringBuilder builder = new StringBuilder();
     if (usageMessage != null) {
-      builder.append("Usage: " + usageMessage + "\n");
+      builder.append("Usage: ").append(usageMessage).append('\n');
     }
 
-    if (handlers.entrySet().isEmpty()) {
+    if (handlers.isEmpty()) {
       builder.append("No commands registered");
       return builder.toString();
     }
 
     builder.append("Available commands:\n");
-    handlers
-        .entrySet()
-        .forEach(entry -> builder.append(helpEntry(entry.getKey(), entry.getValue())));
-
+    handlers.forEach(
+        (name, handler) ->
+            builder
+                .append("    ")
+                .append(name)
+                .append(": ")
+                .append(handler.helpMessage())
+                .append('\n'));
     return builder.toString();
   }
-
-  private String helpEntry(String name, CommandHandler handler) {
-    return "    " + name + ": " + handler.helpMessage();
-  }
 }
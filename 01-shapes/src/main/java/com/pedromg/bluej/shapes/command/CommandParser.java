@@ -1,5 +1,6 @@
 package com.pedromg.bluej.shapes.command;
 
+import com.pedromg.bluej.shapes.jfr.CommandParseEvent;
 import com.pedromg.bluej.shapes.preconditions.PreConditions;
 import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
 import java.util.ArrayList;
@@ -17,14 +18,22 @@ public class CommandParser {
    * @return the parse command request
    */
   public CommandRequest parse(String[] args) {
+    CommandParseEvent event = new CommandParseEvent();
+    event.begin();
+    CommandRequest request = parseArguments(args);
+    event.commit(args.length);
+    return request;
+  }
+
+  private CommandRequest parseArguments(String[] args) {
     PreConditions.require(args.length >= 1, "<action> argument must be present");
 
     String action = args[0];
-    List<String> arguments = List.of(args).subList(1, args.length);
 
-    List<String> params = new ArrayList<>(arguments.size());
-    Set<String> flags = new LinkedHashSet<>(arguments.size());
-    for (String arg : arguments) {
+    List<String> params = new ArrayList<>(args.length - 1);
+    Set<String> flags = new LinkedHashSet<>(args.length - 1);
+    for (int i = 1; i < args.length; i++) {
+      String arg = args[i];
       if (arg.startsWith("--")) {
         flags.add(arg.substring(2));
       } else {
@@ -34,4 +43,55 @@ public class CommandParser {
 
     return new CommandRequest(action, params, flags);
   }
+
+  /**
+   * Parses a single command line, as read from a script, into a CommandRequest instance.
+   *
+   * <p>Arguments are separated by whitespace; single or double quotes group an argument that
+   * contains spaces.
+   *
+   * @param line the command line
+   * @throws PreConditionsException if the line is null, has no {@code <action>} or an unclosed
+   *     quote
+   * @return the parsed command request
+   */
+  public CommandRequest parse(String line) {
+    PreConditions.requireNotNull(line, "line must not be null");
+
+    return parse(tokenize(line));
+  }
+
+  private String[] tokenize(String line) {
+    List<String> tokens = new ArrayList<>();
+    StringBuilder token = new StringBuilder();
+    boolean inToken = false;
+    char quote = 0;
+    for (int i = 0; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (quote != 0) {
+        if (c == quote) {
+          quote = 0;
+        } else {
+          token.append(c);
+        }
+      } else if (c == '"' || c == '\'') {
+        quote = c;
+        inToken = true;
+      } else if (Character.isWhitespace(c)) {
+        if (inToken) {
+          tokens.add(token.toString());
+          token.setLength(0);
+          inToken = false;
+        }
+      } else {
+        token.append(c);
+        inToken = true;
+      }
+    }
+    PreConditions.require(quote == 0, "quote must be closed");
+    if (inToken) {
+      tokens.add(token.toString());
+    }
+    return tokens.toArray(String[]::new);
+  }
 }
@@ -2,15 +2,42 @@ package com.pedromg.bluej.shapes.command;
 
 import com.pedromg.bluej.shapes.preconditions.PreConditions;
 import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Set;
 
-public record CommandRequest(String action, List<String> params, Set<String> flags) {
+public record CommandRequest(
+    String action, List<String> params, Set<String> flags, CommandContext context) {
 
   public CommandRequest {
     PreConditions.requireNotBlank(action, "action must not be blank")
         .andNotNull(params, "params must not be null")
-        .andNotNull(flags, "flags must not be null");
+        .andNotNull(flags, "flags must not be null")
+        .andNotNull(context, "context must not be null");
+  }
+
+  /**
+   * Creates a CommandRequest that runs in the {@link CommandContext#local() context of this
+   * process}.
+   *
+   * @param action the command to run
+   * @param params the positional arguments
+   * @param flags the flags, without their leading dashes
+   * @throws PreConditionsException if the action is blank or another argument is null
+   */
+  public CommandRequest(String action, List<String> params, Set<String> flags) {
+    this(action, params, flags, CommandContext.local());
+  }
+
+  /**
+   * Returns a copy of this request that runs in another context.
+   *
+   * @param context the context to run in
+   * @throws PreConditionsException if the context is null
+   * @return the same command in the given context
+   */
+  public CommandRequest withContext(CommandContext context) {
+    return new CommandRequest(action, params, flags, context);
   }
 
   /**
@@ -25,4 +52,15 @@ public record CommandRequest(String action, List<String> params, Set<String> fla
 
     return flags.contains(flagName.toLowerCase());
   }
+
+  /**
+   * Returns a param as a path, resolved against the working directory of this request.
+   *
+   * @param index the position of the param
+   * @throws IndexOutOfBoundsException if there is no param at {@code index}
+   * @return the absolute path
+   */
+  public Path path(int index) {
+    return context.resolve(params.get(index));
+  }
 }
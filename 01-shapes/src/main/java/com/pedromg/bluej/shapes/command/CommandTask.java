@@ -0,0 +1,94 @@
+package com.pedromg.bluej.shapes.command;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * A future running an action on an executor, which interrupts the action when it is cancelled or
+ * completed exceptionally from outside, such as by {@link CompletableFuture#orTimeout}.
+ *
+ * <p>A plain {@link CompletableFuture#runAsync} leaves the action running after its future is
+ * cancelled. Here the thread running the action is interrupted, so actions that wait or read
+ * through interruptible calls stop early. The interrupt is only delivered while the action runs,
+ * and cleared before the thread goes back to its executor.
+ */
+final class CommandTask extends CompletableFuture<Void> implements Runnable {
+
+  private final Runnable action;
+  private Thread runner;
+  private boolean interrupted;
+
+  private CommandTask(Runnable action) {
+    this.action = action;
+  }
+
+  /**
+   * Starts an action on an executor.
+   *
+   * @param action the action to run
+   * @param executor the executor to run it on
+   * @return the future of the action, failed if the executor rejected it
+   */
+  static CommandTask start(Runnable action, Executor executor) {
+    CommandTask task = new CommandTask(action);
+    try {
+      executor.execute(task);
+    } catch (RuntimeException exception) {
+      task.fail(exception);
+    }
+    return task;
+  }
+
+  @Override
+  public void run() {
+    synchronized (this) {
+      if (isDone()) {
+        return;
+      }
+      runner = Thread.currentThread();
+    }
+    try {
+      action.run();
+      complete(null);
+    } catch (RuntimeException | Error exception) {
+      fail(exception);
+    } finally {
+      synchronized (this) {
+        runner = null;
+        if (interrupted) {
+          Thread.interrupted();
+        }
+      }
+    }
+  }
+
+  @Override
+  public boolean cancel(boolean mayInterruptIfRunning) {
+    boolean cancelled = super.cancel(mayInterruptIfRunning);
+    if (cancelled) {
+      interruptRunner();
+    }
+    return cancelled;
+  }
+
+  @Override
+  public boolean completeExceptionally(Throwable exception) {
+    boolean completed = super.completeExceptionally(exception);
+    if (completed) {
+      interruptRunner();
+    }
+    return completed;
+  }
+
+  /** Fails the task from the inside, without interrupting the thread that is failing it. */
+  private void fail(Throwable exception) {
+    super.completeExceptionally(exception);
+  }
+
+  private synchronized void interruptRunner() {
+    if (runner != null) {
+      interrupted = true;
+      runner.interrupt();
+    }
+  }
+}
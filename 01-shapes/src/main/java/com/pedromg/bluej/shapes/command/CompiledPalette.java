@@ -0,0 +1,205 @@
+package com.pedromg.bluej.shapes.command;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The immutable lookup structure of a {@link CommandPalette}: a hash map of the full names and a
+ * character trie over them for abbreviations and typos.
+ *
+ * <p>A full name is found with a single hash lookup, which beats walking the trie since strings
+ * cache their hash. Only names that miss walk the trie. Names are sorted, so the names under any
+ * trie node form one contiguous range of the sorted array and each node only records that range:
+ * walking the characters of a name tells, without allocating, whether it abbreviates exactly one
+ * command or several. Nodes and edges live in flat arrays, and the edges of a node are sorted by
+ * character and searched by bisection.
+ */
+final class CompiledPalette {
+
+  private static final int NOT_FOUND = -1;
+
+  private static final int MAX_SUGGESTIONS = 5;
+  private static final int MAX_TYPOS = 2;
+
+  private final Map<String, CommandHandler> byName;
+  private final String[] names;
+  private final CommandHandler[] handlers;
+  private final int longestName;
+
+  private final int[] rangeStart;
+  private final int[] rangeEnd;
+  private final int[] firstEdge;
+  private final int[] edgeCount;
+  private final char[] edgeChars;
+  private final int[] edgeTargets;
+  private int nodes;
+  private int edges;
+
+  /**
+   * Compiles the given commands.
+   *
+   * @param commands the commands by name
+   */
+  CompiledPalette(Map<String, CommandHandler> commands) {
+    this.byName = Map.copyOf(commands);
+    this.names = commands.keySet().toArray(new String[0]);
+    Arrays.sort(names);
+    this.handlers = new CommandHandler[names.length];
+    for (int i = 0; i < names.length; i++) {
+      handlers[i] = commands.get(names[i]);
+    }
+
+    // Every character of every name adds at most one node, and every node but the root one edge
+    int capacity = 1;
+    int longest = 0;
+    for (String name : names) {
+      capacity += name.length();
+      longest = Math.max(longest, name.length());
+    }
+    this.longestName = longest;
+    this.rangeStart = new int[capacity];
+    this.rangeEnd = new int[capacity];
+    this.firstEdge = new int[capacity];
+    this.edgeCount = new int[capacity];
+    this.edgeChars = new char[capacity];
+    this.edgeTargets = new int[capacity];
+    build(nodes++, 0, 0, names.length);
+  }
+
+  /**
+   * Returns the handler of a command, given its full name or a prefix that only one command starts
+   * with.
+   *
+   * @return the handler, or null if the name is unknown or ambiguous
+   */
+  CommandHandler handler(String name) {
+    CommandHandler handler = byName.get(name);
+    if (handler != null) {
+      return handler;
+    }
+    int node = walk(name);
+    boolean unique = node != NOT_FOUND && rangeEnd[node] - rangeStart[node] == 1;
+    return unique ? handlers[rangeStart[node]] : null;
+  }
+
+  /**
+   * Returns the commands a name that did not match may have meant: the ones it is a prefix of, or
+   * else the ones within two typos of it, closest first.
+   *
+   * @return at most five command names, possibly none
+   */
+  List<String> suggestions(String name) {
+    int node = walk(name);
+    if (node != NOT_FOUND) {
+      int end = Math.min(rangeEnd[node], rangeStart[node] + MAX_SUGGESTIONS);
+      return List.of(Arrays.copyOfRange(names, rangeStart[node], end));
+    }
+
+    List<List<String>> byTypos = new ArrayList<>();
+    for (int typos = 0; typos <= MAX_TYPOS; typos++) {
+      byTypos.add(new ArrayList<>());
+    }
+    int[][] rows = new int[longestName + 1][name.length() + 1];
+    for (int j = 0; j <= name.length(); j++) {
+      rows[0][j] = j;
+    }
+    collectClose(0, 0, name, rows, byTypos);
+
+    List<String> close = new ArrayList<>();
+    for (List<String> group : byTypos) {
+      close.addAll(group.subList(0, Math.min(group.size(), MAX_SUGGESTIONS - close.size())));
+    }
+    return List.copyOf(close);
+  }
+
+  /** Follows the characters of a name from the root. */
+  private int walk(String name) {
+    int node = 0;
+    for (int i = 0; i < name.length() && node != NOT_FOUND; i++) {
+      node = child(node, name.charAt(i));
+    }
+    return node;
+  }
+
+  private int child(int node, char c) {
+    int low = firstEdge[node];
+    int high = low + edgeCount[node] - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      if (edgeChars[middle] < c) {
+        low = middle + 1;
+      } else if (edgeChars[middle] > c) {
+        high = middle - 1;
+      } else {
+        return edgeTargets[middle];
+      }
+    }
+    return NOT_FOUND;
+  }
+
+  /**
+   * Builds the node for the names in {@code [start, end)}, which share their first {@code depth}
+   * characters. The edges of a node are reserved before its children are built, so they stay
+   * contiguous.
+   */
+  private void build(int node, int depth, int start, int end) {
+    rangeStart[node] = start;
+    rangeEnd[node] = end;
+
+    // The name that ends here, if any, sorts first
+    int first = start < end && names[start].length() == depth ? start + 1 : start;
+    int groups = 0;
+    for (int i = first; i < end; i++) {
+      if (i == first || names[i].charAt(depth) != names[i - 1].charAt(depth)) {
+        groups++;
+      }
+    }
+    firstEdge[node] = edges;
+    edgeCount[node] = groups;
+    int edge = edges;
+    edges += groups;
+
+    int groupStart = first;
+    for (int i = first + 1; i <= end; i++) {
+      if (i == end || names[i].charAt(depth) != names[groupStart].charAt(depth)) {
+        int child = nodes++;
+        edgeChars[edge] = names[groupStart].charAt(depth);
+        edgeTargets[edge++] = child;
+        build(child, depth + 1, groupStart, i);
+        groupStart = i;
+      }
+    }
+  }
+
+  /**
+   * Walks the trie computing one row of the Levenshtein distance table per character, so names that
+   * share a prefix share its rows, and skips every subtree whose row is already more than two typos
+   * away from the name.
+   */
+  private void collectClose(
+      int node, int depth, String name, int[][] rows, List<List<String>> byTypos) {
+    int[] row = rows[depth];
+    int first = rangeStart[node];
+    if (first < rangeEnd[node]
+        && names[first].length() == depth
+        && row[name.length()] <= MAX_TYPOS) {
+      byTypos.get(row[name.length()]).add(names[first]);
+    }
+
+    for (int edge = firstEdge[node]; edge < firstEdge[node] + edgeCount[node]; edge++) {
+      int[] next = rows[depth + 1];
+      next[0] = depth + 1;
+      int smallest = next[0];
+      for (int j = 1; j <= name.length(); j++) {
+        int substitution = row[j - 1] + (name.charAt(j - 1) == edgeChars[edge] ? 0 : 1);
+        next[j] = Math.min(substitution, Math.min(row[j], next[j - 1]) + 1);
+        smallest = Math.min(smallest, next[j]);
+      }
+      if (smallest <= MAX_TYPOS) {
+        collectClose(edgeTargets[edge], depth + 1, name, rows, byTypos);
+      }
+    }
+  }
+}
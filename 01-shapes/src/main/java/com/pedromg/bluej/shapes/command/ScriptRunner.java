@@ -0,0 +1,81 @@
+package com.pedromg.bluej.shapes.command;
+
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+
+public class ScriptRunner {
+
+  private static final String COMMENT_PREFIX = "#";
+
+  private final CommandParser commandParser;
+  private final CommandDispatcher dispatcher;
+  private final PrintStream errors;
+
+  /**
+   * Creates a ScriptRunner
+   *
+   * @param commandParser the parser for each line
+   * @param dispatcher the dispatcher running each command
+   * @param errors where per-line errors are reported
+   * @throws PreConditionsException if any argument is null
+   */
+  public ScriptRunner(
+      CommandParser commandParser, CommandDispatcher dispatcher, PrintStream errors) {
+    PreConditions.requireNotNull(commandParser, "commandParser must not be null")
+        .andNotNull(dispatcher, "dispatcher must not be null")
+        .andNotNull(errors, "errors must not be null");
+
+    this.commandParser = commandParser;
+    this.dispatcher = dispatcher;
+    this.errors = errors;
+  }
+
+  /**
+   * Runs every command of a script, one per line, in this process.
+   *
+   * <p>Blank lines and lines starting with {@code #} are skipped. A line that fails is reported
+   * with its line number and the script goes on with the next one.
+   *
+   * @param script the script to run
+   * @throws IOException if the script cannot be read
+   * @return the number of lines that failed
+   */
+  public int run(BufferedReader script) throws IOException {
+    int failures = 0;
+    int lineNumber = 0;
+    String line;
+    while ((line = script.readLine()) != null) {
+      lineNumber++;
+      String command = line.strip();
+      if (command.isEmpty() || command.startsWith(COMMENT_PREFIX)) {
+        continue;
+      }
+      if (!runLine(lineNumber, command)) {
+        failures++;
+      }
+    }
+    return failures;
+  }
+
+  private boolean runLine(int lineNumber, String line) {
+    try {
+      CommandRequest request = commandParser.parse(line);
+      if (!dispatcher.canHandle(request.action())) {
+        errors.printf(
+            "line %d: unknown command: %s%s%n",
+            lineNumber,
+            request.action(),
+            CommandNotFoundException.didYouMean(dispatcher.suggestions(request.action())));
+        return false;
+      }
+      dispatcher.handle(request);
+      return true;
+    } catch (RuntimeException exception) {
+      errors.printf("line %d: %s%n", lineNumber, exception.getMessage());
+      return false;
+    }
+  }
+}
@@ -2,35 +2,76 @@ package com.pedromg.bluej.shapes.config;
 
 import com.pedromg.bluej.shapes.command.CommandDispatcher;
 import com.pedromg.bluej.shapes.command.CommandPalette;
-import com.pedromg.bluej.shapes.demo.CircleDemo;
 import com.pedromg.bluej.shapes.demo.DemoCatalog;
 import com.pedromg.bluej.shapes.demo.DemoCommand;
-import com.pedromg.bluej.shapes.demo.SquareDemo;
-import com.pedromg.bluej.shapes.demo.TriangleDemo;
+import com.pedromg.bluej.shapes.export.ExportCommand;
+import com.pedromg.bluej.shapes.export.FrameExporter;
+import com.pedromg.bluej.shapes.export.SvgCommand;
+import com.pedromg.bluej.shapes.importer.ImportCommand;
+import com.pedromg.bluej.shapes.importer.ShapeImporter;
+import com.pedromg.bluej.shapes.render.ImageRenderer;
+import com.pedromg.bluej.shapes.render.RenderCommand;
+import com.pedromg.bluej.shapes.ui.LoadCommand;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class CommandConfiguration {
 
   private static final String USAGE_MESSAGE = "run <action> <args>";
 
+  private static final String COMMAND_THREAD_PREFIX = "shapes-command-";
+
   private final CommandPalette commandPalette;
+  private final ExecutorService commandExecutor;
 
   public CommandConfiguration() {
     this.commandPalette = createCommandPalette();
+    this.commandExecutor = createCommandExecutor();
   }
 
+  /**
+   * Creates the dispatcher of the application. Commands run on their own daemon threads, never on
+   * the thread dispatching them, so they can be cancelled or timed out while the dispatching thread
+   * stays responsive.
+   *
+   * @return the dispatcher
+   */
   public CommandDispatcher commandDispatcher() {
-    return new CommandDispatcher(commandPalette);
+    return new CommandDispatcher(commandPalette, commandExecutor);
   }
 
   private CommandPalette createCommandPalette() {
-    return new CommandPalette(USAGE_MESSAGE).add("demo", createDemoCommand());
+    return new CommandPalette(USAGE_MESSAGE)
+        .add("demo", createDemoCommand())
+        .add("render", createRenderCommand())
+        .add("load", new LoadCommand())
+        .add("import", new ImportCommand(new ShapeImporter(System.err)))
+        .add("export", createExportCommand())
+        .add("svg", new SvgCommand())
+        .freeze();
+  }
+
+  private ExecutorService createCommandExecutor() {
+    AtomicInteger counter = new AtomicInteger();
+    return Executors.newCachedThreadPool(
+        runnable -> {
+          Thread thread = new Thread(runnable, COMMAND_THREAD_PREFIX + counter.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        });
   }
 
   private DemoCommand createDemoCommand() {
-    return new DemoCommand(
-        new DemoCatalog()
-            .register("circle", new CircleDemo())
-            .register("square", new SquareDemo())
-            .register("triangle", new TriangleDemo()));
+    return new DemoCommand(DemoCatalog.discovered());
+  }
+
+  private ExportCommand createExportCommand() {
+    int cores = Runtime.getRuntime().availableProcessors();
+    return new ExportCommand(new FrameExporter(cores, cores, cores));
+  }
+
+  private RenderCommand createRenderCommand() {
+    return new RenderCommand(new ImageRenderer());
   }
 }
@@ -0,0 +1,409 @@
+package com.pedromg.bluej.shapes.daemon;
+
+import com.pedromg.bluej.shapes.command.CommandContext;
+import com.pedromg.bluej.shapes.command.CommandDispatcher;
+import com.pedromg.bluej.shapes.command.CommandNotFoundException;
+import com.pedromg.bluej.shapes.command.CommandParser;
+import com.pedromg.bluej.shapes.command.CommandRequest;
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CommandDaemon implements AutoCloseable {
+
+  static final String ARGUMENT_SEPARATOR = "\t";
+  static final String SHUTDOWN_REQUEST = "--shutdown";
+  static final String OK = "ok";
+  static final String BUSY = "busy";
+  static final String ERROR = "error";
+  static final String OUTPUT_PREFIX = "out ";
+  static final String ERROR_OUTPUT_PREFIX = "err ";
+
+  private static final String STANDARD_STREAM = "-";
+
+  private static final int READ_TIMEOUT_MILLIS = 5_000;
+  private static final Set<PosixFilePermission> OWNER_ONLY =
+      PosixFilePermissions.fromString("rwx------");
+
+  private final CommandParser commandParser;
+  private final CommandDispatcher dispatcher;
+  private final Path socket;
+  private final ServerSocketChannel serverChannel;
+  private final ThreadPoolExecutor workers;
+  private final ScheduledThreadPoolExecutor readTimeouts;
+  private final Thread acceptor;
+  private final CountDownLatch stopped = new CountDownLatch(1);
+
+  /**
+   * Creates a daemon listening on a Unix domain socket.
+   *
+   * <p>The socket lives in a directory only its owner can read or write, created if needed, so no
+   * other local user can send commands. A socket left behind by a daemon that did not shut down
+   * cleanly is replaced; one a daemon still listens on is not.
+   *
+   * <p>Each connection carries one request: a line with the client's working directory followed by
+   * the command line arguments, separated by tabs. The command resolves relative paths against that
+   * directory. Whatever it prints is sent back as it is printed, one line at a time prefixed with
+   * {@code out} or {@code err}, and the daemon ends with a status line, {@code ok}, {@code busy} or
+   * {@code error <message>}, and closes the connection. An argument of {@code -} is refused: the
+   * daemon's standard input and output are not the client's.
+   *
+   * <p>Requests run on a fixed pool of {@code workers} threads. Up to {@code queueCapacity}
+   * connections wait for a free worker; any connection beyond that is answered with {@code busy}
+   * straight away instead of piling up.
+   *
+   * @param commandParser the parser for each request
+   * @param dispatcher the dispatcher running each request
+   * @param socket the path of the socket file
+   * @param workers the number of worker threads
+   * @param queueCapacity the number of requests that can wait for a worker
+   * @throws PreConditionsException if any argument is null or out of range
+   * @throws UncheckedIOException if the socket cannot be bound, if a daemon already listens on it,
+   *     or if its directory is not private to the current user
+   */
+  public CommandDaemon(
+      CommandParser commandParser,
+      CommandDispatcher dispatcher,
+      Path socket,
+      int workers,
+      int queueCapacity) {
+    PreConditions.requireNotNull(commandParser, "commandParser must not be null")
+        .andNotNull(dispatcher, "dispatcher must not be null")
+        .andNotNull(socket, "socket must not be null")
+        .and(workers > 0, "workers must be positive")
+        .and(queueCapacity > 0, "queueCapacity must be positive");
+
+    this.commandParser = commandParser;
+    this.dispatcher = dispatcher;
+    this.socket = socket.toAbsolutePath();
+    this.serverChannel = bind(this.socket);
+    this.workers =
+        new ThreadPoolExecutor(
+            workers,
+            workers,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            namedThreads("shapes-daemon-worker-"),
+            new ThreadPoolExecutor.AbortPolicy());
+    this.readTimeouts = new ScheduledThreadPoolExecutor(1, namedThreads("shapes-daemon-timeout-"));
+    this.readTimeouts.setRemoveOnCancelPolicy(true);
+    this.acceptor = new Thread(this::acceptConnections, "shapes-daemon-acceptor");
+  }
+
+  /** Starts accepting connections on a dedicated thread. */
+  public void start() {
+    acceptor.start();
+  }
+
+  /**
+   * Returns the default socket path: {@code daemon.sock} in the {@code .shapes} directory of the
+   * user's home.
+   *
+   * @return the path the daemon listens on unless told otherwise
+   */
+  public static Path defaultSocket() {
+    return Path.of(System.getProperty("user.home"), ".shapes", "daemon.sock");
+  }
+
+  /**
+   * Returns the socket this daemon listens on.
+   *
+   * @return the absolute path of the socket file
+   */
+  public Path socket() {
+    return socket;
+  }
+
+  /**
+   * Waits until the daemon has shut down, either through {@link #close()} or a {@code --shutdown}
+   * request.
+   *
+   * @throws InterruptedException if the waiting thread is interrupted
+   */
+  public void awaitShutdown() throws InterruptedException {
+    stopped.await();
+  }
+
+  /**
+   * Stops accepting connections and waits for the requests already accepted to finish.
+   *
+   * <p>Closing an already closed daemon does nothing.
+   */
+  @Override
+  public void close() {
+    stopAccepting();
+    try {
+      if (acceptor.isAlive()) {
+        awaitShutdown();
+      }
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void acceptConnections() {
+    try {
+      while (serverChannel.isOpen()) {
+        SocketChannel connection = serverChannel.accept();
+        try {
+          workers.execute(() -> serve(connection));
+        } catch (RejectedExecutionException exception) {
+          reply(connection, BUSY);
+        }
+      }
+    } catch (ClosedChannelException exception) {
+      // The server socket was closed: time to shut down
+    } catch (IOException exception) {
+      System.err.println("daemon stopped accepting connections: " + exception.getMessage());
+    } finally {
+      stopAccepting();
+      drainWorkers();
+      readTimeouts.shutdownNow();
+      stopped.countDown();
+    }
+  }
+
+  private void serve(SocketChannel connection) {
+    String line;
+    ScheduledFuture<?> timeout =
+        readTimeouts.schedule(() -> close(connection), READ_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    try {
+      BufferedReader reader =
+          new BufferedReader(
+              new InputStreamReader(Channels.newInputStream(connection), StandardCharsets.UTF_8));
+      line = reader.readLine();
+    } catch (IOException exception) {
+      // The client sent nothing in time or went away; there is no one left to answer
+      close(connection);
+      return;
+    } finally {
+      timeout.cancel(false);
+    }
+    Response response = new Response(Channels.newOutputStream(connection));
+    response.line(handle(line, response));
+    close(connection);
+  }
+
+  private String handle(String line, Response response) {
+    if (line == null || line.isEmpty()) {
+      return ERROR + " empty request";
+    }
+    String[] fields = line.split(ARGUMENT_SEPARATOR, -1);
+    String[] args = Arrays.copyOfRange(fields, 1, fields.length);
+    if (args.length == 1 && SHUTDOWN_REQUEST.equals(args[0])) {
+      stopAccepting();
+      return OK;
+    }
+    if (Arrays.asList(args).contains(STANDARD_STREAM)) {
+      return ERROR + " - is not available through the daemon, pass a file instead";
+    }
+    try (PrintStream out = response.stream(OUTPUT_PREFIX);
+        PrintStream err = response.stream(ERROR_OUTPUT_PREFIX)) {
+      CommandContext context = new CommandContext(Path.of(fields[0]), out, err);
+      CommandRequest request = commandParser.parse(args).withContext(context);
+      if (!dispatcher.canHandle(request.action())) {
+        return ERROR
+            + " unknown command: "
+            + request.action()
+            + CommandNotFoundException.didYouMean(dispatcher.suggestions(request.action()));
+      }
+      dispatcher.handle(request);
+      return OK;
+    } catch (RuntimeException exception) {
+      return ERROR + " " + exception.getMessage();
+    }
+  }
+
+  private void reply(SocketChannel connection, String response) {
+    try (connection) {
+      OutputStream output = Channels.newOutputStream(connection);
+      output.write((response + "\n").getBytes(StandardCharsets.UTF_8));
+      output.flush();
+    } catch (IOException exception) {
+      // The client went away before reading the response; nothing left to tell it
+    }
+  }
+
+  private void stopAccepting() {
+    try {
+      serverChannel.close();
+      Files.deleteIfExists(socket);
+    } catch (IOException exception) {
+      // Closing is best effort; the acceptor stops either way
+    }
+  }
+
+  private static void close(SocketChannel connection) {
+    try {
+      connection.close();
+    } catch (IOException exception) {
+      // The connection is being dropped either way
+    }
+  }
+
+  private void drainWorkers() {
+    workers.shutdown();
+    try {
+      workers.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    } catch (InterruptedException exception) {
+      workers.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static ServerSocketChannel bind(Path socket) {
+    try {
+      createPrivateDirectory(socket.getParent());
+      if (Files.exists(socket)) {
+        if (isListening(socket)) {
+          throw new IOException("a daemon already listens on " + socket);
+        }
+        Files.delete(socket);
+      }
+      ServerSocketChannel channel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+      try {
+        channel.bind(UnixDomainSocketAddress.of(socket));
+      } catch (IOException exception) {
+        channel.close();
+        throw exception;
+      }
+      return channel;
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+  private static void createPrivateDirectory(Path directory) throws IOException {
+    if (!FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+      Files.createDirectories(directory);
+      return;
+    }
+
+    Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(OWNER_ONLY));
+    UserPrincipal user =
+        directory
+            .getFileSystem()
+            .getUserPrincipalLookupService()
+            .lookupPrincipalByName(System.getProperty("user.name"));
+    if (!Files.getOwner(directory).equals(user)) {
+      throw new IOException(directory + " is not owned by " + user.getName());
+    }
+    if (!Files.getPosixFilePermissions(directory).equals(OWNER_ONLY)) {
+      Files.setPosixFilePermissions(directory, OWNER_ONLY);
+    }
+  }
+
+  private static boolean isListening(Path socket) {
+    try (SocketChannel probe = SocketChannel.open(UnixDomainSocketAddress.of(socket))) {
+      return true;
+    } catch (IOException exception) {
+      return false;
+    }
+  }
+
+  private static ThreadFactory namedThreads(String prefix) {
+    AtomicInteger counter = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  /**
+   * The response to one request, written to the connection a line at a time. Lines printed by the
+   * command from several threads are never interleaved within a line.
+   */
+  private static final class Response {
+
+    private final OutputStream output;
+    private boolean clientGone;
+
+    Response(OutputStream output) {
+      this.output = output;
+    }
+
+    /** Returns a stream sending each line printed to it with the given prefix. */
+    PrintStream stream(String prefix) {
+      return new PrintStream(new PrefixedLines(this, prefix), true, StandardCharsets.UTF_8);
+    }
+
+    synchronized void line(String line) {
+      if (clientGone) {
+        return;
+      }
+      try {
+        output.write((line + "\n").getBytes(StandardCharsets.UTF_8));
+        output.flush();
+      } catch (IOException exception) {
+        // The client went away; the command runs to the end regardless
+        clientGone = true;
+      }
+    }
+  }
+
+  /** Buffers the bytes of a line until it ends, then sends it as a single response line. */
+  private static final class PrefixedLines extends OutputStream {
+
+    private final Response response;
+    private final String prefix;
+    private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+
+    PrefixedLines(Response response, String prefix) {
+      this.response = response;
+      this.prefix = prefix;
+    }
+
+    @Override
+    public void write(int b) {
+      if (b == '\n') {
+        endLine();
+      } else if (b != '\r') {
+        line.write(b);
+      }
+    }
+
+    @Override
+    public void close() {
+      if (line.size() > 0) {
+        endLine();
+      }
+    }
+
+    private void endLine() {
+      response.line(prefix + line.toString(StandardCharsets.UTF_8));
+      line.reset();
+    }
+  }
+}
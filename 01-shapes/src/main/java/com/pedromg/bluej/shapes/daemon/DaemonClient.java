@@ -0,0 +1,104 @@
+package com.pedromg.bluej.shapes.daemon;
+
+import com.pedromg.bluej.shapes.command.CommandContext;
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+public class DaemonClient {
+
+  private final Path socket;
+
+  /**
+   * Creates a client for a daemon listening on a Unix domain socket.
+   *
+   * @param socket the path of the socket file the daemon listens on
+   * @throws PreConditionsException if the socket is null
+   */
+  public DaemonClient(Path socket) {
+    PreConditions.requireNotNull(socket, "socket must not be null");
+
+    this.socket = socket;
+  }
+
+  /**
+   * Forwards the given command line arguments to the daemon, to run in the working directory of
+   * this process, and prints what the command prints to the standard streams of this process.
+   *
+   * @param args the command line arguments; must not contain tabs or line breaks
+   * @throws PreConditionsException if args is null, empty or holds an invalid argument
+   * @throws IOException if the daemon cannot be reached
+   * @return the status line: {@code ok}, {@code busy} or {@code error <message>}
+   */
+  public String send(String[] args) throws IOException {
+    return send(args, CommandContext.local());
+  }
+
+  /**
+   * Forwards the given command line arguments to the daemon and waits for the command to finish.
+   *
+   * <p>The command resolves relative paths against the working directory of {@code context}, and
+   * what it prints is written to the streams of {@code context} as it arrives.
+   *
+   * @param args the command line arguments; must not contain tabs or line breaks
+   * @param context where the command runs and prints to; its working directory must not contain
+   *     tabs or line breaks either
+   * @throws PreConditionsException if args is null, empty or holds an invalid argument, or if
+   *     context is null or has an invalid working directory
+   * @throws IOException if the daemon cannot be reached
+   * @return the status line: {@code ok}, {@code busy} or {@code error <message>}
+   */
+  public String send(String[] args, CommandContext context) throws IOException {
+    PreConditions.requireNotNull(args, "args must not be null")
+        .and(args.length > 0, "args must not be empty")
+        .andNotNull(context, "context must not be null");
+    for (String arg : args) {
+      requireSingleField(arg, "arg");
+    }
+    String workingDirectory = context.workingDirectory().toString();
+    requireSingleField(workingDirectory, "working directory");
+
+    try (SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(socket))) {
+      OutputStream output = Channels.newOutputStream(channel);
+      String request =
+          workingDirectory
+              + CommandDaemon.ARGUMENT_SEPARATOR
+              + String.join(CommandDaemon.ARGUMENT_SEPARATOR, args)
+              + "\n";
+      output.write(request.getBytes(StandardCharsets.UTF_8));
+      output.flush();
+
+      BufferedReader reader =
+          new BufferedReader(
+              new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8));
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.startsWith(CommandDaemon.OUTPUT_PREFIX)) {
+          context.out().println(line.substring(CommandDaemon.OUTPUT_PREFIX.length()));
+        } else if (line.startsWith(CommandDaemon.ERROR_OUTPUT_PREFIX)) {
+          context.err().println(line.substring(CommandDaemon.ERROR_OUTPUT_PREFIX.length()));
+        } else {
+          return line;
+        }
+      }
+      return CommandDaemon.ERROR + " no response";
+    }
+  }
+
+  private static void requireSingleField(String field, String name) {
+    PreConditions.require(field != null, "%s must not be null", name)
+        .and(field.indexOf('\t') < 0, "%s must not contain tabs", name)
+        .and(
+            field.indexOf('\n') < 0 && field.indexOf('\r') < 0,
+            "%s must not contain line breaks",
+            name);
+  }
+}
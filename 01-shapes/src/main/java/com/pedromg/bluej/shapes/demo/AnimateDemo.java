@@ -0,0 +1,127 @@
+package com.pedromg.bluej.shapes.demo;
+
+import com.pedromg.bluej.shapes.animation.ActiveAnimation;
+import com.pedromg.bluej.shapes.animation.AnimationMode;
+import com.pedromg.bluej.shapes.animation.AnimationRenderer;
+import com.pedromg.bluej.shapes.animation.AnimationState;
+import com.pedromg.bluej.shapes.animation.BufferedAnimation;
+import com.pedromg.bluej.shapes.animation.FrameLoop;
+import com.pedromg.bluej.shapes.animation.FrameStats;
+import com.pedromg.bluej.shapes.animation.TimerAnimation;
+import com.pedromg.bluej.shapes.domain.ShapeType;
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import com.pedromg.bluej.shapes.render.GeometryRenderer;
+import com.pedromg.bluej.shapes.render.LevelOfDetail;
+import com.pedromg.bluej.shapes.ui.Canvas;
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import javax.swing.JPanel;
+
+public class AnimateDemo implements Demo {
+
+  public static final int DEFAULT_SHAPES = 10_000;
+
+  public static final int WIDTH = 380;
+  public static final int HEIGHT = 660;
+  public static final int STEPS_PER_SECOND = 60;
+  private static final float MIN_SHAPE_PIXELS = 3f;
+  private static final long FRAME_BUDGET_NANOS = TimeUnit.SECONDS.toNanos(1) / STEPS_PER_SECOND;
+  private static final long REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+  private static final long SEED = 42;
+  private static final Color[] COLORS = {Color.RED, Color.BLUE, Color.YELLOW, Color.GREEN};
+
+  private final AnimationMode mode;
+  private final int shapes;
+
+  /**
+   * Creates a demo animating the given number of shapes.
+   *
+   * @param mode how frames are painted
+   * @param shapes the number of shapes to animate
+   * @throws PreConditionsException if the mode is null or the number of shapes is not positive
+   */
+  public AnimateDemo(AnimationMode mode, int shapes) {
+    PreConditions.requireNotNull(mode, "mode must not be null")
+        .and(shapes > 0, "shapes must be positive");
+
+    this.mode = mode;
+    this.shapes = shapes;
+  }
+
+  /**
+   * Displays small circles, squares and triangles moving, spinning and pulsing back and forth, and
+   * prints the frame rate and frame times every five seconds.
+   *
+   * <p>Shapes smaller than three pixels are filled as rectangles, and anti-aliasing is turned off
+   * while frames take longer than a step.
+   *
+   * @param canvas the canvas to animate the shapes in
+   * @throws PreConditionsException if {@code canvas} is null
+   */
+  public void execute(Canvas canvas) {
+    PreConditions.requireNotNull(canvas, "canvas must not be null");
+
+    AnimationState state = createState(shapes);
+    AnimationRenderer renderer =
+        new AnimationRenderer(
+            new GeometryRenderer(), new LevelOfDetail(MIN_SHAPE_PIXELS, FRAME_BUDGET_NANOS));
+    FrameLoop frameLoop = new FrameLoop(state, STEPS_PER_SECOND);
+    FrameStats frameStats = new FrameStats(REPORT_INTERVAL_NANOS, System.out::println);
+    Dimension size = new Dimension(WIDTH, HEIGHT);
+
+    switch (mode) {
+      case TIMER -> {
+        TimerAnimation animation = new TimerAnimation(state, renderer, frameLoop, frameStats, size);
+        canvas.draw(animation);
+        animation.start();
+      }
+      case ACTIVE -> {
+        ActiveAnimation animation =
+            new ActiveAnimation(state, renderer, frameLoop, frameStats, size);
+        JPanel holder = new JPanel(new BorderLayout());
+        holder.add(animation);
+        canvas.draw(holder);
+        animation.start();
+      }
+      case BUFFERED -> {
+        BufferedAnimation animation =
+            new BufferedAnimation(state, renderer, frameLoop, frameStats, size);
+        canvas.draw(animation);
+        animation.start();
+      }
+    }
+  }
+
+  /**
+   * Creates the shapes and tweens of the demo. The same number of shapes always gives the same
+   * animation.
+   *
+   * @param shapes the number of shapes to animate
+   * @return a new state, not stepped yet
+   */
+  public static AnimationState createState(int shapes) {
+    Random random = new Random(SEED);
+    AnimationState state = new AnimationState(shapes);
+    for (int i = 0; i < shapes; i++) {
+      ShapeType type = ShapeType.fromCode(i % 3);
+      int size = type == ShapeType.CIRCLE ? 2 + random.nextInt(4) : 4 + random.nextInt(8);
+      int index =
+          state.add(
+              type.create(size, COLORS[i % COLORS.length]),
+              random.nextFloat() * WIDTH,
+              random.nextFloat() * HEIGHT);
+      state.tween(
+          index,
+          random.nextFloat() * WIDTH,
+          random.nextFloat() * HEIGHT,
+          (random.nextFloat() - 0.5f) * 4f * (float) Math.PI,
+          0.5f + random.nextFloat(),
+          1f + random.nextFloat() * 3f);
+    }
+    return state;
+  }
+}
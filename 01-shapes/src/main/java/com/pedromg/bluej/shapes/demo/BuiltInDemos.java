@@ -0,0 +1,22 @@
+package com.pedromg.bluej.shapes.demo;
+
+import com.pedromg.bluej.shapes.animation.AnimationMode;
+
+/** The demos shipped with the application. */
+public class BuiltInDemos implements DemoProvider {
+
+  @Override
+  public void registerDemos(DemoCatalog catalog) {
+    catalog
+        .register("circle", () -> new CircleDemo())
+        .register("square", () -> new SquareDemo())
+        .register("triangle", () -> new TriangleDemo())
+        .register("animate", () -> new AnimateDemo(AnimationMode.TIMER, AnimateDemo.DEFAULT_SHAPES))
+        .register(
+            "animate-active",
+            () -> new AnimateDemo(AnimationMode.ACTIVE, AnimateDemo.DEFAULT_SHAPES))
+        .register(
+            "animate-buffered",
+            () -> new AnimateDemo(AnimationMode.BUFFERED, AnimateDemo.DEFAULT_SHAPES));
+  }
+}
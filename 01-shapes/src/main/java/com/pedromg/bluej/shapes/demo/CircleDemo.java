@@ -4,7 +4,6 @@ import com.pedromg.bluej.shapes.domain.Circle;
 import com.pedromg.bluej.shapes.preconditions.PreConditions;
 import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
 import com.pedromg.bluej.shapes.ui.Canvas;
-import com.pedromg.bluej.shapes.ui.CirclePanel;
 import java.awt.Color;
 
 public class CircleDemo implements Demo {
@@ -19,7 +18,6 @@ public class CircleDemo implements Demo {
     PreConditions.requireNotNull(canvas, "canvas must not be null");
 
     Circle circle = new Circle(100, Color.RED);
-    CirclePanel circlePanel = new CirclePanel(circle);
-    canvas.draw(circlePanel);
+    canvas.draw(circle, 0, 0);
   }
 }
@@ -1,20 +1,62 @@
 package com.pedromg.bluej.shapes.demo;
 
+import com.pedromg.bluej.shapes.jfr.DemoLookupEvent;
 import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.function.Supplier;
 
+/**
+ * The demos the {@code demo} command can run, by name.
+ *
+ * <p>Demos are registered as suppliers and only created when found. They can also be {@link
+ * #discover(Iterable) discovered} from {@link DemoProvider}s: providers are only loaded the first
+ * time the catalog is read, so commands that run no demo never load them, and a demo class is only
+ * loaded when that demo is found. A demo registered directly takes precedence over a discovered
+ * demo with the same name.
+ */
 public class DemoCatalog {
 
-  private final Map<String, Demo> catalog;
+  private final Map<String, Supplier<? extends Demo>> catalog;
+  private final List<Iterable<DemoProvider>> undiscovered;
 
   public DemoCatalog() {
     catalog = new LinkedHashMap<>();
+    undiscovered = new ArrayList<>();
   }
 
-  public DemoCatalog register(String name, Demo demo) {
+  /**
+   * Creates a catalog of the demos of every {@link DemoProvider} listed on the class path.
+   *
+   * @return the catalog, whose providers are loaded when it is first read
+   */
+  public static DemoCatalog discovered() {
+    return new DemoCatalog().discover(ServiceLoader.load(DemoProvider.class));
+  }
+
+  public synchronized DemoCatalog register(String name, Demo demo) {
+    PreConditions.requireNotBlank(name, "name must not be blank")
+        .andNotNull(demo, "demo must not be null");
+
+    catalog.put(name, () -> demo);
+    return this;
+  }
+
+  /**
+   * Registers a demo that is only created, and its class only loaded, when it is found.
+   *
+   * @param name the name of the demo
+   * @param demo the supplier creating the demo
+   * @throws PreConditionsException if the name is blank or the supplier is null
+   * @return this catalog
+   */
+  public synchronized DemoCatalog register(String name, Supplier<? extends Demo> demo) {
     PreConditions.requireNotBlank(name, "name must not be blank")
         .andNotNull(demo, "demo must not be null");
 
@@ -22,14 +64,60 @@ public class DemoCatalog {
     return this;
   }
 
+  /**
+   * Registers the demos of the given providers the first time this catalog is read.
+   *
+   * <p>The providers are not iterated here, so a {@link ServiceLoader} does not load any of them
+   * yet.
+   *
+   * @param providers the providers to register demos from
+   * @throws PreConditionsException if providers is null
+   * @return this catalog
+   */
+  public synchronized DemoCatalog discover(Iterable<DemoProvider> providers) {
+    PreConditions.requireNotNull(providers, "providers must not be null");
+
+    undiscovered.add(providers);
+    return this;
+  }
+
+  /**
+   * Creates the demo registered under a name.
+   *
+   * @param demoName the name of the demo
+   * @throws PreConditionsException if the name is blank or no demo is registered under it, listing
+   *     the available demos
+   * @return the demo
+   */
   public Demo find(String demoName) {
-    PreConditions.requireNotBlank(demoName, "demoName must not be blank")
-        .and(catalog.containsKey(demoName), "demoName must be registered first");
+    PreConditions.requireNotBlank(demoName, "demoName must not be blank");
+    Supplier<? extends Demo> supplier = catalog().get(demoName);
+    PreConditions.require(
+        supplier != null,
+        () -> String.format("unknown demo %s, available demos: %s", demoName, availableDemos()));
 
-    return catalog.get(demoName);
+    DemoLookupEvent event = new DemoLookupEvent();
+    event.begin();
+    Demo demo = supplier.get();
+    event.commit(demoName);
+    return demo;
   }
 
   public Set<String> availableDemos() {
-    return Collections.unmodifiableSet(catalog.keySet());
+    return Collections.unmodifiableSet(catalog().keySet());
+  }
+
+  /** Returns the registered demos, after letting any pending providers register theirs. */
+  private synchronized Map<String, Supplier<? extends Demo>> catalog() {
+    if (!undiscovered.isEmpty()) {
+      List<Iterable<DemoProvider>> pending = List.copyOf(undiscovered);
+      undiscovered.clear();
+      DemoCatalog found = new DemoCatalog();
+      for (Iterable<DemoProvider> providers : pending) {
+        providers.forEach(provider -> provider.registerDemos(found));
+      }
+      found.catalog.forEach(catalog::putIfAbsent);
+    }
+    return catalog;
   }
 }
@@ -2,12 +2,17 @@ package com.pedromg.bluej.shapes.demo;
 
 import com.pedromg.bluej.shapes.command.CommandHandler;
 import com.pedromg.bluej.shapes.command.CommandRequest;
+import com.pedromg.bluej.shapes.jfr.DemoExecuteEvent;
+import com.pedromg.bluej.shapes.jfr.EdtQueueEvent;
 import com.pedromg.bluej.shapes.preconditions.PreConditions;
 import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
 import com.pedromg.bluej.shapes.ui.Canvas;
+import com.pedromg.bluej.shapes.ui.EventDispatch;
 
 public class DemoCommand implements CommandHandler {
 
+  private static final String HUD_FLAG = "hud";
+
   private final DemoCatalog demoCatalog;
 
   /**
@@ -24,25 +29,49 @@ public class DemoCommand implements CommandHandler {
   /**
    * Executes the demo command associated to the specified shape.
    *
+   * <p>With the {@code --hud} flag the canvas shows its paint times in an overlay. The request is
+   * validated on the calling thread; the canvas is then created and the demo executed on the Swing
+   * event dispatch thread, and this method waits for them to finish.
+   *
    * @param request command line request containing {@code shape} param
    * @throws PreConditionsException if the arguments are invalid or the shape param is not in demo
-   *     catalog
+   *     catalog, listing the available demos
    */
   public void handle(CommandRequest request) {
     validatePreConditions(request);
 
     String shape = request.params().get(0);
     Demo demo = demoCatalog.find(shape);
+    boolean hud = request.hasFlag(HUD_FLAG);
+
+    EdtQueueEvent queued = new EdtQueueEvent();
+    queued.begin();
+    EventDispatch.runAndWait(
+        () -> {
+          queued.commit("demo " + shape);
+          Canvas canvas = new Canvas();
+          if (hud) {
+            canvas.showHud();
+          }
+          canvas.show();
 
-    Canvas canvas = new Canvas();
-    canvas.show();
-    demo.execute(canvas);
+          DemoExecuteEvent event = new DemoExecuteEvent();
+          event.begin();
+          demo.execute(canvas);
+          event.commit(demo.getClass());
+        });
   }
 
+  /**
+   * Describes the command without reading the catalog, so printing the help does not load any
+   * {@link DemoProvider}. The available demos are listed when an unknown one is requested.
+   *
+   * @return the help message
+   */
   @Override
   public String helpMessage() {
-    return String.format(
-        "Runs the requested demo. Available demos: %s", demoCatalog.availableDemos());
+    return "Runs the requested demo, such as circle, square, triangle or animate, with --hud to"
+        + " overlay paint times";
   }
 
   private void validatePreConditions(CommandRequest request) {
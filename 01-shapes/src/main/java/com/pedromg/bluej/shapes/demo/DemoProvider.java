@@ -0,0 +1,22 @@
+package com.pedromg.bluej.shapes.demo;
+
+/**
+ * A set of demos, found on the class path through {@link java.util.ServiceLoader}.
+ *
+ * <p>Implementations are listed in {@code
+ * META-INF/services/com.pedromg.bluej.shapes.demo.DemoProvider} and need a public no-argument
+ * constructor. One provider usually registers every demo of a plugin.
+ */
+public interface DemoProvider {
+
+  /**
+   * Registers the demos of this provider as lazy entries.
+   *
+   * <p>Suppliers should create demos with lambdas such as {@code () -> new MyDemo()}. A constructor
+   * reference such as {@code MyDemo::new} loads the class of the demo as soon as it is registered,
+   * while the lambda only loads it when the demo is found.
+   *
+   * @param catalog the catalog to register the demos in
+   */
+  void registerDemos(DemoCatalog catalog);
+}
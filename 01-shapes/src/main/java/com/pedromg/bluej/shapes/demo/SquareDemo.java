@@ -4,7 +4,6 @@ import com.pedromg.bluej.shapes.domain.Square;
 import com.pedromg.bluej.shapes.preconditions.PreConditions;
 import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
 import com.pedromg.bluej.shapes.ui.Canvas;
-import com.pedromg.bluej.shapes.ui.SquarePanel;
 import java.awt.Color;
 
 public class SquareDemo implements Demo {
@@ -19,7 +18,6 @@ public class SquareDemo implements Demo {
     PreConditions.requireNotNull(canvas, "canvas must not be null");
 
     Square square = new Square(200, Color.BLUE);
-    SquarePanel squarePanel = new SquarePanel(square);
-    canvas.draw(squarePanel);
+    canvas.draw(square, 0, 0);
   }
 }
@@ -4,7 +4,6 @@ import com.pedromg.bluej.shapes.domain.Triangle;
 import com.pedromg.bluej.shapes.preconditions.PreConditions;
 import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
 import com.pedromg.bluej.shapes.ui.Canvas;
-import com.pedromg.bluej.shapes.ui.TrianglePanel;
 import java.awt.Color;
 
 public class TriangleDemo implements Demo {
@@ -19,7 +18,6 @@ public class TriangleDemo implements Demo {
     PreConditions.requireNotNull(canvas, "canvas must not be null");
 
     Triangle triangle = new Triangle(200, Color.YELLOW);
-    TrianglePanel trianglePanel = new TrianglePanel(triangle);
-    canvas.draw(trianglePanel);
+    canvas.draw(triangle, 0, 0);
   }
 }
@@ -0,0 +1,73 @@
+package com.pedromg.bluej.shapes.domain;
+
+import java.util.Arrays;
+
+/** Growable on-heap columns backed by primitive arrays. */
+class ArrayShapeColumns implements ShapeColumns {
+
+  private byte[] types;
+  private int[] sizes;
+  private int[] xs;
+  private int[] ys;
+  private int[] argbs;
+
+  ArrayShapeColumns(int capacity) {
+    types = new byte[capacity];
+    sizes = new int[capacity];
+    xs = new int[capacity];
+    ys = new int[capacity];
+    argbs = new int[capacity];
+  }
+
+  @Override
+  public int capacity() {
+    return types.length;
+  }
+
+  @Override
+  public boolean ensureCapacity(int capacity) {
+    if (capacity > types.length) {
+      int grown = Math.max(capacity, types.length + (types.length >> 1) + 1);
+      types = Arrays.copyOf(types, grown);
+      sizes = Arrays.copyOf(sizes, grown);
+      xs = Arrays.copyOf(xs, grown);
+      ys = Arrays.copyOf(ys, grown);
+      argbs = Arrays.copyOf(argbs, grown);
+    }
+    return true;
+  }
+
+  @Override
+  public void set(int index, int typeCode, int size, int x, int y, int argb) {
+    types[index] = (byte) typeCode;
+    sizes[index] = size;
+    xs[index] = x;
+    ys[index] = y;
+    argbs[index] = argb;
+  }
+
+  @Override
+  public int typeCode(int index) {
+    return types[index];
+  }
+
+  @Override
+  public int size(int index) {
+    return sizes[index];
+  }
+
+  @Override
+  public int x(int index) {
+    return xs[index];
+  }
+
+  @Override
+  public int y(int index) {
+    return ys[index];
+  }
+
+  @Override
+  public int argb(int index) {
+    return argbs[index];
+  }
+}
@@ -0,0 +1,93 @@
+package com.pedromg.bluej.shapes.domain;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+/**
+ * Fixed-capacity columns laid out back to back in a single {@link ByteBuffer}.
+ *
+ * <p>For a capacity of {@code n} the layout is: {@code n} type bytes padded to a multiple of four,
+ * then {@code n} sizes, {@code n} x positions, {@code n} y positions and {@code n} ARGB values,
+ * each as a 32-bit integer.
+ */
+class BufferShapeColumns implements ShapeColumns {
+
+  private final int capacity;
+  private final ByteBuffer types;
+  private final IntBuffer sizes;
+  private final IntBuffer xs;
+  private final IntBuffer ys;
+  private final IntBuffer argbs;
+
+  BufferShapeColumns(ByteBuffer buffer, int capacity) {
+    this.capacity = capacity;
+    this.types = buffer.slice(0, capacity);
+    this.sizes = intColumn(buffer, typesLength(capacity), 0, capacity);
+    this.xs = intColumn(buffer, typesLength(capacity), 1, capacity);
+    this.ys = intColumn(buffer, typesLength(capacity), 2, capacity);
+    this.argbs = intColumn(buffer, typesLength(capacity), 3, capacity);
+  }
+
+  static long bytesFor(int capacity) {
+    return typesLength(capacity) + 4L * capacity * Integer.BYTES;
+  }
+
+  static int typesLength(int capacity) {
+    return (capacity + 3) & ~3;
+  }
+
+  private static IntBuffer intColumn(ByteBuffer buffer, int intsOffset, int column, int capacity) {
+    int length = capacity * Integer.BYTES;
+    return buffer.slice(intsOffset + column * length, length).order(buffer.order()).asIntBuffer();
+  }
+
+  @Override
+  public int capacity() {
+    return capacity;
+  }
+
+  @Override
+  public boolean ensureCapacity(int capacity) {
+    return capacity <= this.capacity;
+  }
+
+  @Override
+  public void set(int index, int typeCode, int size, int x, int y, int argb) {
+    types.put(index, (byte) typeCode);
+    sizes.put(index, size);
+    xs.put(index, x);
+    ys.put(index, y);
+    argbs.put(index, argb);
+  }
+
+  @Override
+  public int typeCode(int index) {
+    return types.get(index);
+  }
+
+  @Override
+  public int size(int index) {
+    return sizes.get(index);
+  }
+
+  @Override
+  public int x(int index) {
+    return xs.get(index);
+  }
+
+  @Override
+  public int y(int index) {
+    return ys.get(index);
+  }
+
+  @Override
+  public int argb(int index) {
+    return argbs.get(index);
+  }
+
+  static ByteBuffer allocate(int capacity) {
+    return ByteBuffer.allocateDirect(Math.toIntExact(bytesFor(capacity)))
+        .order(ByteOrder.nativeOrder());
+  }
+}
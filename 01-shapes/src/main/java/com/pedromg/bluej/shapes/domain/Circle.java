@@ -4,7 +4,7 @@ import com.pedromg.bluej.shapes.preconditions.PreConditions;
 import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
 import java.awt.Color;
 
-public record Circle(int radiusInPixels, Color color) {
+public record Circle(int radiusInPixels, Color color) implements Shape {
 
   /**
    * Constructs a new Circle with the specified radius and color.
@@ -14,7 +14,7 @@ public record Circle(int radiusInPixels, Color color) {
    * @throws PreConditionsException if radiusInPixels is not greater than zero or if color is null
    */
   public Circle {
-    PreConditions.require(radiusInPixels > 0, "radius must be a positive number")
+    PreConditions.requirePositive(radiusInPixels, "radius must be a positive number")
         .andNotNull(color, "color must not be null");
   }
 
@@ -26,4 +26,21 @@ public record Circle(int radiusInPixels, Color color) {
   public int diameterInPixels() {
     return radiusInPixels * 2;
   }
+
+  /** Returns the diameter, as the circle fills a square box. */
+  @Override
+  public int widthInPixels() {
+    return diameterInPixels();
+  }
+
+  /** Returns the diameter, as the circle fills a square box. */
+  @Override
+  public int heightInPixels() {
+    return diameterInPixels();
+  }
+
+  @Override
+  public ShapeType type() {
+    return ShapeType.CIRCLE;
+  }
 }
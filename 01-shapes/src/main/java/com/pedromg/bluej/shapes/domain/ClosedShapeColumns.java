@@ -0,0 +1,53 @@
+package com.pedromg.bluej.shapes.domain;
+
+/** The columns of a closed store, which reject every access once the shapes were let go. */
+final class ClosedShapeColumns implements ShapeColumns {
+
+  static final ClosedShapeColumns INSTANCE = new ClosedShapeColumns();
+
+  private ClosedShapeColumns() {}
+
+  @Override
+  public int capacity() {
+    return 0;
+  }
+
+  @Override
+  public boolean ensureCapacity(int capacity) {
+    return false;
+  }
+
+  @Override
+  public void set(int index, int typeCode, int size, int x, int y, int argb) {
+    throw closed();
+  }
+
+  @Override
+  public int typeCode(int index) {
+    throw closed();
+  }
+
+  @Override
+  public int size(int index) {
+    throw closed();
+  }
+
+  @Override
+  public int x(int index) {
+    throw closed();
+  }
+
+  @Override
+  public int y(int index) {
+    throw closed();
+  }
+
+  @Override
+  public int argb(int index) {
+    throw closed();
+  }
+
+  private static IllegalStateException closed() {
+    return new IllegalStateException("store is closed");
+  }
+}
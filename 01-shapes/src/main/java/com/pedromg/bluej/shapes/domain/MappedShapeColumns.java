@@ -0,0 +1,126 @@
+package com.pedromg.bluej.shapes.domain;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+/**
+ * Read-only columns of a {@link SceneFile}, read in place from a mapping of the file.
+ *
+ * <p>A single mapping cannot exceed 2 GB, so the file is mapped as consecutive regions of a fixed
+ * power-of-two size, 1 GB by default: a file smaller than that maps as one region, and a file of
+ * any size maps as a handful. Every column starts on a multiple of four bytes, so a value never
+ * straddles two regions. The regions are released when the columns are garbage collected; a thread
+ * still reading them keeps them alive, so there is nothing to unmap by hand.
+ */
+final class MappedShapeColumns implements ShapeColumns {
+
+  static final int DEFAULT_REGION_SHIFT = 30;
+
+  private final MappedByteBuffer[] regions;
+  private final int regionShift;
+  private final long regionMask;
+  private final int capacity;
+  private final long types;
+  private final long sizes;
+  private final long xs;
+  private final long ys;
+  private final long argbs;
+
+  private MappedShapeColumns(
+      MappedByteBuffer[] regions, int regionShift, long offset, int capacity) {
+    this.regions = regions;
+    this.regionShift = regionShift;
+    this.regionMask = (1L << regionShift) - 1;
+    this.capacity = capacity;
+    long column = (long) capacity * Integer.BYTES;
+    this.types = offset;
+    this.sizes = offset + BufferShapeColumns.typesLength(capacity);
+    this.xs = sizes + column;
+    this.ys = xs + column;
+    this.argbs = ys + column;
+  }
+
+  /**
+   * Maps the columns of {@code capacity} shapes that start {@code offset} bytes into a file.
+   *
+   * @param channel the file, open for reading
+   * @param offset the position of the type column; a multiple of four
+   * @param capacity the number of shapes in the file
+   * @param order the byte order of the values
+   * @param regionShift the base-2 logarithm of the size of each mapped region, at least 2 and at
+   *     most 30
+   * @throws IOException if the file cannot be mapped
+   * @return the columns
+   */
+  static MappedShapeColumns map(
+      FileChannel channel, long offset, int capacity, ByteOrder order, int regionShift)
+      throws IOException {
+    long length = offset + BufferShapeColumns.bytesFor(capacity);
+    long regionBytes = 1L << regionShift;
+    MappedByteBuffer[] regions =
+        new MappedByteBuffer[(int) ((length + regionBytes - 1) >>> regionShift)];
+    for (int i = 0; i < regions.length; i++) {
+      long start = (long) i << regionShift;
+      regions[i] = channel.map(MapMode.READ_ONLY, start, Math.min(regionBytes, length - start));
+      regions[i].order(order);
+    }
+    return new MappedShapeColumns(regions, regionShift, offset, capacity);
+  }
+
+  @Override
+  public int capacity() {
+    return capacity;
+  }
+
+  @Override
+  public boolean ensureCapacity(int capacity) {
+    return capacity <= this.capacity;
+  }
+
+  @Override
+  public void set(int index, int typeCode, int size, int x, int y, int argb) {
+    throw new UnsupportedOperationException("scene files are read-only");
+  }
+
+  @Override
+  public int typeCode(int index) {
+    long position = types + checkIndex(index);
+    return regions[(int) (position >>> regionShift)].get((int) (position & regionMask));
+  }
+
+  @Override
+  public int size(int index) {
+    return intAt(sizes, index);
+  }
+
+  @Override
+  public int x(int index) {
+    return intAt(xs, index);
+  }
+
+  @Override
+  public int y(int index) {
+    return intAt(ys, index);
+  }
+
+  @Override
+  public int argb(int index) {
+    return intAt(argbs, index);
+  }
+
+  private int intAt(long column, int index) {
+    long position = column + (long) checkIndex(index) * Integer.BYTES;
+    return regions[(int) (position >>> regionShift)].getInt((int) (position & regionMask));
+  }
+
+  private int checkIndex(int index) {
+    if (index < 0 || index >= capacity) {
+      throw new IndexOutOfBoundsException(
+          "index " + index + " out of range for capacity " + capacity);
+    }
+    return index;
+  }
+}
@@ -0,0 +1,29 @@
+package com.pedromg.bluej.shapes.domain;
+
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.awt.Rectangle;
+
+public record PlacedShape(Shape shape, int x, int y) {
+
+  /**
+   * Places a shape so that the top-left corner of its enclosing box is at ({@code x}, {@code y}).
+   *
+   * @param shape the shape to place; must not be null
+   * @param x the left edge in pixels
+   * @param y the top edge in pixels
+   * @throws PreConditionsException if the shape is null
+   */
+  public PlacedShape {
+    PreConditions.requireNotNull(shape, "shape must not be null");
+  }
+
+  /**
+   * Returns the box enclosing the placed shape.
+   *
+   * @return a new rectangle with the position and size of the shape
+   */
+  public Rectangle bounds() {
+    return new Rectangle(x, y, shape.widthInPixels(), shape.heightInPixels());
+  }
+}
@@ -0,0 +1,129 @@
+package com.pedromg.bluej.shapes.domain;
+
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+
+public class Scene implements AutoCloseable {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final ShapeStore store;
+
+  private int width;
+  private int height;
+
+  public Scene() {
+    this(ShapeStore.onHeap(INITIAL_CAPACITY));
+  }
+
+  /**
+   * Creates a scene over the shapes already held by {@code store}; shapes added later are written
+   * to the same store.
+   *
+   * @param store the columnar storage of the scene; must not be null
+   * @throws PreConditionsException if the store is null
+   */
+  public Scene(ShapeStore store) {
+    PreConditions.requireNotNull(store, "store must not be null");
+
+    this.store = store;
+    for (int i = 0; i < store.size(); i++) {
+      grow(i);
+    }
+  }
+
+  /** Creates a scene whose extent is already known, without scanning the store. */
+  Scene(ShapeStore store, int width, int height) {
+    this.store = store;
+    this.width = width;
+    this.height = height;
+  }
+
+  /**
+   * Places a shape in this scene. Shapes are painted in insertion order, so later shapes cover
+   * earlier ones.
+   *
+   * @param shape the shape to add; must not be null
+   * @param x the left edge of the shape in pixels; must not be negative
+   * @param y the top edge of the shape in pixels; must not be negative
+   * @throws PreConditionsException if the shape is null or the position is negative
+   * @return the index of the new shape
+   */
+  public int add(Shape shape, int x, int y) {
+    PreConditions.requireNotNull(shape, "shape must not be null")
+        .and(x >= 0 && y >= 0, "position must not be negative");
+
+    int index = store.add(shape, x, y);
+    grow(index);
+    return index;
+  }
+
+  /**
+   * Places a shape from its raw attributes, without creating a record.
+   *
+   * @param type the shape type; must not be null
+   * @param sizeInPixels the radius for circles or the side length otherwise; must be positive
+   * @param x the left edge of the shape in pixels; must not be negative
+   * @param y the top edge of the shape in pixels; must not be negative
+   * @param argb the packed color, as returned by {@link java.awt.Color#getRGB()}
+   * @throws PreConditionsException if an argument is invalid
+   * @return the index of the new shape
+   */
+  public int add(ShapeType type, int sizeInPixels, int x, int y, int argb) {
+    PreConditions.require(x >= 0 && y >= 0, "position must not be negative");
+
+    int index = store.add(type, sizeInPixels, x, y, argb);
+    grow(index);
+    return index;
+  }
+
+  /**
+   * Returns the placed shape at the given index.
+   *
+   * @param index the index returned by {@link #add(Shape, int, int)}
+   * @throws IndexOutOfBoundsException if the index is out of range
+   * @return the placed shape
+   */
+  public PlacedShape get(int index) {
+    return store.placed(index);
+  }
+
+  /** Returns the number of shapes in this scene. */
+  public int size() {
+    return store.size();
+  }
+
+  /** Returns the width of the area, starting at the origin, that holds every shape. */
+  public int width() {
+    return width;
+  }
+
+  /** Returns the height of the area, starting at the origin, that holds every shape. */
+  public int height() {
+    return height;
+  }
+
+  /**
+   * Returns the columnar storage of this scene, for consumers that scan many shapes.
+   *
+   * @return the store
+   */
+  public ShapeStore store() {
+    return store;
+  }
+
+  /**
+   * Lets go of the memory behind the shapes of this scene, such as the mapping of a {@link
+   * SceneFile}, which is released once no thread reads it any more. The scene is empty afterwards
+   * and must not be painted any more.
+   */
+  @Override
+  public void close() {
+    store.close();
+  }
+
+  private void grow(int index) {
+    width = Math.max(width, store.x(index) + store.widthInPixels(index));
+    height = Math.max(height, store.y(index) + store.heightInPixels(index));
+  }
+}
@@ -0,0 +1,182 @@
+package com.pedromg.bluej.shapes.domain;
+
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Reads and writes scenes in a fixed-width binary format that is used in place through {@link
+ * FileChannel#map memory mapping}.
+ *
+ * <p>Every value is little-endian. A 32-byte header holds the magic number {@code SHPS}, the format
+ * version, the number of shapes {@code n} and the width and height of the scene, followed by
+ * reserved zeros. Then come the columns of a {@link ShapeStore}: {@code n} type bytes padded to a
+ * multiple of four, then {@code n} sizes, {@code n} x positions, {@code n} y positions and {@code
+ * n} ARGB values, each as a 32-bit integer.
+ *
+ * <p>Opening a file parses only the header: the file is mapped in regions of 1 GB and the renderers
+ * read shapes straight from them, so the cost does not depend on the number of shapes and pages are
+ * loaded as they are touched. Files larger than 2 GB map as several regions. Processes that open
+ * the same file share its pages through the operating system's file cache. The mapping is released
+ * once the scene, or the last thread reading it, is garbage collected.
+ */
+public final class SceneFile {
+
+  /** The first four bytes of a scene file, {@code SHPS} in ASCII. */
+  public static final int MAGIC = 0x53_48_50_53;
+
+  public static final int VERSION = 1;
+
+  static final int HEADER_BYTES = 32;
+
+  /** The most shapes a file can hold, as shapes are indexed by an int. */
+  public static final int MAX_SHAPES = Integer.MAX_VALUE - 3;
+
+  private static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+  private static final int BLOCK_BYTES = 64 * 1024;
+
+  private SceneFile() {}
+
+  /**
+   * Opens a scene file read-only. The file is closed on return; its mapping stays valid until the
+   * scene is garbage collected.
+   *
+   * <p>The shapes are not validated: a corrupt type code is only reported when that shape is read.
+   * The scene is full, so shapes cannot be added to it.
+   *
+   * @param file the file to open; must not be null
+   * @throws PreConditionsException if the file is not a scene file or is truncated
+   * @throws IOException if the file cannot be read
+   * @return a scene backed by the mapped file
+   */
+  public static Scene open(Path file) throws IOException {
+    return open(file, MappedShapeColumns.DEFAULT_REGION_SHIFT);
+  }
+
+  /** Opens a scene file like {@link #open(Path)}, mapping it in regions of 2^regionShift bytes. */
+  static Scene open(Path file, int regionShift) throws IOException {
+    PreConditions.requireNotNull(file, "file must not be null");
+
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long length = channel.size();
+      ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ORDER);
+      while (header.hasRemaining() && channel.read(header, header.position()) > 0) {
+        // Keep reading until the header is complete or the file ends
+      }
+      PreConditions.require(!header.hasRemaining(), "not a scene file: %s", file)
+          .and(header.getInt(0) == MAGIC, "not a scene file: %s", file)
+          .and(header.getInt(4) == VERSION, "unsupported scene file version: %d", header.getInt(4));
+      int count = header.getInt(8);
+      int width = header.getInt(12);
+      int height = header.getInt(16);
+      PreConditions.require(count >= 0 && count <= MAX_SHAPES, "invalid shape count: %d", count)
+          .and(width >= 0 && height >= 0, "scene size must not be negative")
+          .and(
+              length >= HEADER_BYTES + BufferShapeColumns.bytesFor(count),
+              "scene file is truncated: %s",
+              file);
+
+      ShapeColumns columns =
+          MappedShapeColumns.map(channel, HEADER_BYTES, count, ORDER, regionShift);
+      return new Scene(ShapeStore.over(columns, count), width, height);
+    }
+  }
+
+  /**
+   * Writes a scene to a file in the same layout {@link #open(Path)} reads, replacing any previous
+   * content.
+   *
+   * <p>The scene is written to a new file next to the target, which is then moved over it. Scenes
+   * still mapped from the old file, in this process or another, keep reading the old content, so a
+   * scene can be saved over the file it was opened from.
+   *
+   * @param scene the scene to write; must not be null
+   * @param file the file to write; must not be null
+   * @throws PreConditionsException if an argument is null or the scene has too many shapes
+   * @throws IOException if the file cannot be written
+   */
+  public static void save(Scene scene, Path file) throws IOException {
+    PreConditions.requireNotNull(scene, "scene must not be null")
+        .andNotNull(file, "file must not be null");
+    ShapeStore store = scene.store();
+    int count = store.size();
+    PreConditions.require(
+        count <= MAX_SHAPES, "scene must not hold more than %d shapes", MAX_SHAPES);
+
+    Path target = file.toAbsolutePath();
+    Path temporary =
+        target.resolveSibling(
+            "."
+                + target.getFileName()
+                + "."
+                + Long.toHexString(ThreadLocalRandom.current().nextLong())
+                + ".tmp");
+    try {
+      try (FileChannel channel =
+          FileChannel.open(temporary, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+        write(channel, store.columns(), count, scene.width(), scene.height());
+      }
+      move(temporary, target);
+    } finally {
+      Files.deleteIfExists(temporary);
+    }
+  }
+
+  private static void write(
+      FileChannel channel, ShapeColumns source, int count, int width, int height)
+      throws IOException {
+    ByteBuffer block = ByteBuffer.allocate(BLOCK_BYTES).order(ORDER);
+    block.putInt(MAGIC).putInt(VERSION).putInt(count).putInt(width).putInt(height);
+    block.position(HEADER_BYTES);
+
+    for (int i = 0; i < BufferShapeColumns.typesLength(count); i++) {
+      if (!block.hasRemaining()) {
+        flush(channel, block);
+      }
+      block.put(i < count ? (byte) source.typeCode(i) : 0);
+    }
+    writeInts(channel, block, count, source::size);
+    writeInts(channel, block, count, source::x);
+    writeInts(channel, block, count, source::y);
+    writeInts(channel, block, count, source::argb);
+    flush(channel, block);
+  }
+
+  private static void writeInts(
+      FileChannel channel, ByteBuffer block, int count, IntUnaryOperator column)
+      throws IOException {
+    for (int i = 0; i < count; i++) {
+      if (block.remaining() < Integer.BYTES) {
+        flush(channel, block);
+      }
+      block.putInt(column.applyAsInt(i));
+    }
+  }
+
+  private static void flush(FileChannel channel, ByteBuffer block) throws IOException {
+    block.flip();
+    while (block.hasRemaining()) {
+      channel.write(block);
+    }
+    block.clear();
+  }
+
+  private static void move(Path source, Path target) throws IOException {
+    try {
+      Files.move(
+          source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (AtomicMoveNotSupportedException exception) {
+      Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+}
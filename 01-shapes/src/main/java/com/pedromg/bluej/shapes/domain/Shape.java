@@ -0,0 +1,45 @@
+package com.pedromg.bluej.shapes.domain;
+
+import java.awt.Color;
+
+public sealed interface Shape permits Circle, Square, Triangle {
+
+  /**
+   * Returns the width of the box enclosing this shape.
+   *
+   * @return the width in pixels
+   */
+  int widthInPixels();
+
+  /**
+   * Returns the height of the box enclosing this shape.
+   *
+   * @return the height in pixels
+   */
+  int heightInPixels();
+
+  /**
+   * Returns the fill color of this shape.
+   *
+   * @return the color
+   */
+  Color color();
+
+  /**
+   * Returns the type tag of this shape.
+   *
+   * @return the shape type
+   */
+  ShapeType type();
+
+  /**
+   * Tests whether a pixel lies inside this shape, using its exact geometry.
+   *
+   * @param x the column of the pixel, relative to the left edge of the enclosing box
+   * @param y the row of the pixel, relative to the top edge of the enclosing box
+   * @return true if the pixel is inside the shape
+   */
+  default boolean contains(int x, int y) {
+    return type().contains(ShapeType.sizeOf(this), x, y);
+  }
+}
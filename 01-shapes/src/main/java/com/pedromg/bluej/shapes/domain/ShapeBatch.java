@@ -0,0 +1,112 @@
+package com.pedromg.bluej.shapes.domain;
+
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.awt.Color;
+
+/**
+ * Raw shape rows to be validated in bulk before any record is built.
+ *
+ * <p>Validating shapes one record at a time throws at the first bad row and pays for a stack trace
+ * each time. A batch instead checks every row in one tight loop over primitive columns, collects
+ * the broken rules into a {@link ValidationReport} and then builds records for the valid rows only,
+ * so bad input costs a few bytes in the report instead of an exception.
+ *
+ * <p>The batch reads the given arrays in place; do not change them while it is in use.
+ */
+public final class ShapeBatch {
+
+  /** The largest size whose box dimensions, twice the radius for circles, still fit an int. */
+  public static final int MAX_SIZE = Integer.MAX_VALUE / 2;
+
+  private static final int TYPES = ShapeType.values().length;
+
+  private final byte[] typeCodes;
+  private final int[] sizes;
+  private final int[] argbs;
+  private final int rows;
+
+  /**
+   * Creates a batch over the first {@code rows} entries of the given columns.
+   *
+   * @param typeCodes the type of each row, as a {@link ShapeType} ordinal
+   * @param sizes the radius for circles or the side length otherwise, per row
+   * @param argbs the packed color of each row, as returned by {@link Color#getRGB()}
+   * @param rows the number of rows
+   * @throws PreConditionsException if a column is null or shorter than {@code rows}
+   */
+  public ShapeBatch(byte[] typeCodes, int[] sizes, int[] argbs, int rows) {
+    PreConditions.requireNotNull(typeCodes, "typeCodes must not be null")
+        .andNotNull(sizes, "sizes must not be null")
+        .andNotNull(argbs, "argbs must not be null")
+        .and(rows >= 0, "rows must not be negative");
+    PreConditions.require(
+            typeCodes.length >= rows, "typeCodes must hold at least %d rows", (long) rows)
+        .and(sizes.length >= rows, "sizes must hold at least %d rows", (long) rows)
+        .and(argbs.length >= rows, "argbs must hold at least %d rows", (long) rows);
+
+    this.typeCodes = typeCodes;
+    this.sizes = sizes;
+    this.argbs = argbs;
+    this.rows = rows;
+  }
+
+  public int rows() {
+    return rows;
+  }
+
+  /**
+   * Checks every row against every {@link ValidationRule}, without throwing.
+   *
+   * @return the report of the broken rules
+   */
+  public ValidationReport validate() {
+    ValidationReport report = new ValidationReport(rows);
+    for (int row = 0; row < rows; row++) {
+      int typeCode = typeCodes[row];
+      if (typeCode < 0 || typeCode >= TYPES) {
+        report.add(row, ValidationRule.UNKNOWN_TYPE);
+      }
+      int size = sizes[row];
+      if (size <= 0) {
+        report.add(row, ValidationRule.NON_POSITIVE_SIZE);
+      } else if (size > MAX_SIZE) {
+        report.add(row, ValidationRule.SIZE_TOO_LARGE);
+      }
+    }
+    return report;
+  }
+
+  /**
+   * Builds the records of the rows the report found valid, in row order.
+   *
+   * <p>Consecutive rows of the same color share one {@link Color} instance.
+   *
+   * @param report the report returned by {@link #validate()} for this batch
+   * @throws PreConditionsException if the report is null or was made for a different batch size
+   * @return the shapes of the valid rows
+   */
+  public Shape[] validShapes(ValidationReport report) {
+    PreConditions.requireNotNull(report, "report must not be null");
+    PreConditions.require(report.rowsChecked() == rows, "report must be made for this batch");
+
+    Shape[] shapes = new Shape[rows - report.invalidRows()];
+    int built = 0;
+    int error = 0;
+    Color color = null;
+    for (int row = 0; row < rows; row++) {
+      if (error < report.errorCount() && report.row(error) == row) {
+        while (error < report.errorCount() && report.row(error) == row) {
+          error++;
+        }
+        continue;
+      }
+      int argb = argbs[row];
+      if (color == null || color.getRGB() != argb) {
+        color = new Color(argb, true);
+      }
+      shapes[built++] = ShapeType.fromCode(typeCodes[row]).create(sizes[row], color);
+    }
+    return shapes;
+  }
+}
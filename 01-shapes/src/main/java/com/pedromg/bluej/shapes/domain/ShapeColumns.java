@@ -0,0 +1,26 @@
+package com.pedromg.bluej.shapes.domain;
+
+/** Primitive storage behind a {@link ShapeStore}, one column per attribute. */
+interface ShapeColumns {
+
+  int capacity();
+
+  /**
+   * Makes room for at least {@code capacity} rows.
+   *
+   * @return false if this storage has a fixed capacity that is too small
+   */
+  boolean ensureCapacity(int capacity);
+
+  void set(int index, int typeCode, int size, int x, int y, int argb);
+
+  int typeCode(int index);
+
+  int size(int index);
+
+  int x(int index);
+
+  int y(int index);
+
+  int argb(int index);
+}
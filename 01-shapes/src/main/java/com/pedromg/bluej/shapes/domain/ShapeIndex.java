@@ -0,0 +1,215 @@
+package com.pedromg.bluej.shapes.domain;
+
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Uniform grid over the shapes of a {@link ShapeStore}, for picking and region queries.
+ *
+ * <p>Every shape is listed in each cell its enclosing box touches, so a query only looks at the
+ * shapes of the cells it covers instead of the whole store. Candidates are then confirmed with the
+ * exact geometry of {@link ShapeType}. Coordinates outside the grid are clamped to its border
+ * cells, and the grid is rebuilt larger when the shapes outgrow it. The grid never holds more than
+ * {@value #MAX_CELLS} cells: shapes spread over a larger area get larger cells instead.
+ *
+ * <p>Call {@link #update()} after adding shapes to the store. Queries do not modify the index, so
+ * they may run concurrently between updates.
+ */
+public class ShapeIndex {
+
+  private static final int DEFAULT_CELL_SIZE = 64;
+  private static final int INITIAL_CELL_CAPACITY = 4;
+  static final int MAX_CELLS = 1 << 20;
+
+  private final ShapeStore store;
+  private int cellSize;
+
+  private int columns;
+  private int rows;
+  private int[][] cells;
+  private int[] cellCounts;
+  private int indexed;
+
+  public ShapeIndex(ShapeStore store) {
+    this(store, DEFAULT_CELL_SIZE);
+  }
+
+  /**
+   * Creates an index over {@code store} and indexes the shapes it already holds.
+   *
+   * @param store the shapes to index; must not be null
+   * @param cellSize the side length of a grid cell in pixels, doubled as often as needed to keep
+   *     the grid within {@value #MAX_CELLS} cells; must be positive
+   * @throws PreConditionsException if the store is null or the cell size is not positive
+   */
+  public ShapeIndex(ShapeStore store, int cellSize) {
+    PreConditions.requireNotNull(store, "store must not be null")
+        .and(cellSize > 0, "cellSize must be a positive number");
+
+    this.store = store;
+    this.cellSize = cellSize;
+    allocate(1, 1);
+    update();
+  }
+
+  /** Indexes the shapes added to the store since the last update. */
+  public void update() {
+    long width = (long) columns * cellSize;
+    long height = (long) rows * cellSize;
+    long maxRight = width;
+    long maxBottom = height;
+    for (int i = indexed; i < store.size(); i++) {
+      maxRight = Math.max(maxRight, (long) store.x(i) + store.widthInPixels(i));
+      maxBottom = Math.max(maxBottom, (long) store.y(i) + store.heightInPixels(i));
+    }
+
+    if (maxRight > width || maxBottom > height) {
+      grow(maxRight + (maxRight >> 1), maxBottom + (maxBottom >> 1));
+      indexed = 0;
+    }
+
+    for (int i = indexed; i < store.size(); i++) {
+      insert(i);
+    }
+    indexed = store.size();
+  }
+
+  /**
+   * Finds the topmost shape covering a pixel, which is the last one painted there.
+   *
+   * @param x the column of the pixel
+   * @param y the row of the pixel
+   * @return the index of the shape in the store, or -1 if no shape covers the pixel
+   */
+  public int shapeAt(int x, int y) {
+    int cell = column(x) * rows + row(y);
+    int[] candidates = cells[cell];
+    for (int k = cellCounts[cell] - 1; k >= 0; k--) {
+      int i = candidates[k];
+      int localX = x - store.x(i);
+      int localY = y - store.y(i);
+      if (store.type(i).contains(store.sizeInPixels(i), localX, localY)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Finds the shapes whose exact geometry overlaps a rectangle.
+   *
+   * @param x the left edge of the rectangle
+   * @param y the top edge of the rectangle
+   * @param width the width of the rectangle
+   * @param height the height of the rectangle
+   * @return the indexes of the shapes in the store, in painting order
+   */
+  public int[] shapesIn(int x, int y, int width, int height) {
+    IntStream.Builder found = IntStream.builder();
+    forEachCandidate(
+        x,
+        y,
+        width,
+        height,
+        i -> {
+          int localX = x - store.x(i);
+          int localY = y - store.y(i);
+          if (store.type(i).intersects(store.sizeInPixels(i), localX, localY, width, height)) {
+            found.add(i);
+          }
+        });
+    return found.build().sorted().toArray();
+  }
+
+  /**
+   * Visits, exactly once each and in no particular order, the shapes whose enclosing box overlaps a
+   * rectangle. This is the cheap query used for culling; see {@link #shapesIn(int, int, int, int)}
+   * for exact geometry.
+   *
+   * @param x the left edge of the rectangle
+   * @param y the top edge of the rectangle
+   * @param width the width of the rectangle
+   * @param height the height of the rectangle
+   * @param action receives the index of each shape in the store
+   */
+  public void forEachCandidate(int x, int y, int width, int height, IntConsumer action) {
+    if (width <= 0 || height <= 0) {
+      return;
+    }
+    long right = (long) x + width;
+    long bottom = (long) y + height;
+    for (int column = column(x); column <= column(right - 1); column++) {
+      for (int row = row(y); row <= row(bottom - 1); row++) {
+        int cell = column * rows + row;
+        int[] candidates = cells[cell];
+        for (int k = 0; k < cellCounts[cell]; k++) {
+          int i = candidates[k];
+          int shapeX = store.x(i);
+          int shapeY = store.y(i);
+          if (shapeX < right
+              && shapeY < bottom
+              && (long) shapeX + store.widthInPixels(i) > x
+              && (long) shapeY + store.heightInPixels(i) > y
+              // a shape spanning several cells is reported only by the cell holding the
+              // top-left corner of its overlap with the query
+              && column(Math.max(x, shapeX)) == column
+              && row(Math.max(y, shapeY)) == row) {
+            action.accept(i);
+          }
+        }
+      }
+    }
+  }
+
+  /** Reallocates the grid to cover a width and a height, with cells as small as allowed. */
+  private void grow(long width, long height) {
+    long size = cellSize;
+    while (cellsFor(width, size) > MAX_CELLS / cellsFor(height, size)) {
+      size *= 2;
+    }
+    cellSize = (int) Math.min(size, Integer.MAX_VALUE);
+    allocate((int) cellsFor(width, cellSize), (int) cellsFor(height, cellSize));
+  }
+
+  private void allocate(int columns, int rows) {
+    this.columns = columns;
+    this.rows = rows;
+    this.cells = new int[columns * rows][];
+    this.cellCounts = new int[columns * rows];
+  }
+
+  private void insert(int i) {
+    int x = store.x(i);
+    int y = store.y(i);
+    int lastColumn = column((long) x + store.widthInPixels(i) - 1);
+    int lastRow = row((long) y + store.heightInPixels(i) - 1);
+    for (int column = column(x); column <= lastColumn; column++) {
+      for (int row = row(y); row <= lastRow; row++) {
+        int cell = column * rows + row;
+        int[] candidates = cells[cell];
+        if (candidates == null) {
+          candidates = new int[INITIAL_CELL_CAPACITY];
+        } else if (cellCounts[cell] == candidates.length) {
+          candidates = Arrays.copyOf(candidates, candidates.length * 2);
+        }
+        candidates[cellCounts[cell]++] = i;
+        cells[cell] = candidates;
+      }
+    }
+  }
+
+  private static long cellsFor(long extent, long cellSize) {
+    return Math.max(1, (extent + cellSize - 1) / cellSize);
+  }
+
+  private int column(long x) {
+    return (int) Math.min(columns - 1, Math.max(0, Math.floorDiv(x, cellSize)));
+  }
+
+  private int row(long y) {
+    return (int) Math.min(rows - 1, Math.max(0, Math.floorDiv(y, cellSize)));
+  }
+}
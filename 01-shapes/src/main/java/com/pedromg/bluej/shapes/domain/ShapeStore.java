@@ -0,0 +1,215 @@
+package com.pedromg.bluej.shapes.domain;
+
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.awt.Color;
+
+/**
+ * Struct-of-arrays storage for placed shapes.
+ *
+ * <p>Each shape takes 17 bytes split over five primitive columns (type tag, size, x, y and packed
+ * ARGB) instead of a record, a placement and a {@link Color} on the heap, and scanning a column
+ * reads memory in order. Columns live either in growable on-heap arrays or in a fixed-capacity
+ * direct {@link java.nio.ByteBuffer}.
+ *
+ * <p>{@link #shape(int)} hands out flyweight records: shapes with the same type, size and color
+ * share one instance, so painting or hit-testing a large store does not allocate per shape.
+ *
+ * <p>Any number of threads may read a store concurrently, as long as no shapes are being added. A
+ * thread reading a store while it is closed either reads the shapes it held or gets an {@link
+ * IllegalStateException}.
+ */
+public final class ShapeStore {
+
+  private static final int FLYWEIGHT_SLOTS = 1024;
+
+  private volatile ShapeColumns columns;
+  private final Shape[] flyweights;
+  private int size;
+
+  private ShapeStore(ShapeColumns columns, int size) {
+    this.columns = columns;
+    this.flyweights = new Shape[FLYWEIGHT_SLOTS];
+    this.size = size;
+  }
+
+  /**
+   * Creates an empty store backed by on-heap arrays that grow as shapes are added.
+   *
+   * @param initialCapacity the number of shapes to make room for; must not be negative
+   * @throws PreConditionsException if the capacity is negative
+   * @return the new store
+   */
+  public static ShapeStore onHeap(int initialCapacity) {
+    PreConditions.require(initialCapacity >= 0, "initialCapacity must not be negative");
+
+    return new ShapeStore(new ArrayShapeColumns(initialCapacity), 0);
+  }
+
+  /**
+   * Creates an empty store backed by a direct buffer outside the Java heap.
+   *
+   * @param capacity the maximum number of shapes; must not be negative
+   * @throws PreConditionsException if the capacity is negative
+   * @return the new store
+   */
+  public static ShapeStore offHeap(int capacity) {
+    PreConditions.require(capacity >= 0, "capacity must not be negative");
+
+    return new ShapeStore(
+        new BufferShapeColumns(BufferShapeColumns.allocate(capacity), capacity), 0);
+  }
+
+  /** Creates a store over columns that already hold {@code size} shapes. */
+  static ShapeStore over(ShapeColumns columns, int size) {
+    return new ShapeStore(columns, size);
+  }
+
+  /**
+   * Returns the number of shapes in this store.
+   *
+   * @return the number of shapes
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns the number of shapes this store can hold before it has to grow.
+   *
+   * @return the capacity
+   */
+  public int capacity() {
+    return columns.capacity();
+  }
+
+  /**
+   * Adds a shape placed at the given position.
+   *
+   * @param shape the shape to add; must not be null
+   * @param x the left edge in pixels
+   * @param y the top edge in pixels
+   * @throws PreConditionsException if the shape is null or a fixed-capacity store is full
+   * @return the index of the new shape
+   */
+  public int add(Shape shape, int x, int y) {
+    PreConditions.requireNotNull(shape, "shape must not be null");
+
+    return add(shape.type(), ShapeType.sizeOf(shape), x, y, shape.color().getRGB());
+  }
+
+  /**
+   * Adds a shape from its raw attributes.
+   *
+   * @param type the shape type; must not be null
+   * @param sizeInPixels the radius for circles or the side length otherwise; must be positive
+   * @param x the left edge in pixels
+   * @param y the top edge in pixels
+   * @param argb the packed color, as returned by {@link Color#getRGB()}
+   * @throws PreConditionsException if an argument is invalid or a fixed-capacity store is full
+   * @return the index of the new shape
+   */
+  public int add(ShapeType type, int sizeInPixels, int x, int y, int argb) {
+    PreConditions.requireNotNull(type, "type must not be null")
+        .andPositive(sizeInPixels, "size must be a positive number")
+        .and(columns.ensureCapacity(size + 1), "store is full");
+
+    columns.set(size, type.ordinal(), sizeInPixels, x, y, argb);
+    return size++;
+  }
+
+  /** Returns the type of the shape at {@code index}. */
+  public ShapeType type(int index) {
+    return ShapeType.fromCode(columns.typeCode(checkIndex(index)));
+  }
+
+  /** Returns the radius (circles) or side length (squares and triangles) at {@code index}. */
+  public int sizeInPixels(int index) {
+    return columns.size(checkIndex(index));
+  }
+
+  /** Returns the left edge of the shape at {@code index}. */
+  public int x(int index) {
+    return columns.x(checkIndex(index));
+  }
+
+  /** Returns the top edge of the shape at {@code index}. */
+  public int y(int index) {
+    return columns.y(checkIndex(index));
+  }
+
+  /** Returns the packed ARGB color of the shape at {@code index}. */
+  public int argb(int index) {
+    return columns.argb(checkIndex(index));
+  }
+
+  /** Returns the width of the box enclosing the shape at {@code index}. */
+  public int widthInPixels(int index) {
+    return type(index).widthOf(sizeInPixels(index));
+  }
+
+  /** Returns the height of the box enclosing the shape at {@code index}. */
+  public int heightInPixels(int index) {
+    return type(index).heightOf(sizeInPixels(index));
+  }
+
+  /**
+   * Returns the shape at {@code index} as a record.
+   *
+   * <p>Records are flyweights: equal shapes usually come back as the same instance, and a new
+   * record is only created when its (type, size, color) combination is not cached yet.
+   *
+   * @param index the index of the shape
+   * @throws IndexOutOfBoundsException if the index is out of range
+   * @return the shape, without its position
+   */
+  public Shape shape(int index) {
+    ShapeType type = type(index);
+    int sizeInPixels = columns.size(index);
+    int argb = columns.argb(index);
+
+    int slot = (31 * (31 * type.ordinal() + sizeInPixels) + argb) & (FLYWEIGHT_SLOTS - 1);
+    Shape cached = flyweights[slot];
+    if (cached != null
+        && cached.type() == type
+        && cached.widthInPixels() == type.widthOf(sizeInPixels)
+        && cached.color().getRGB() == argb) {
+      return cached;
+    }
+    Shape shape = type.create(sizeInPixels, new Color(argb, true));
+    flyweights[slot] = shape;
+    return shape;
+  }
+
+  /**
+   * Returns the shape at {@code index} together with its position.
+   *
+   * @param index the index of the shape
+   * @throws IndexOutOfBoundsException if the index is out of range
+   * @return a new placed shape
+   */
+  public PlacedShape placed(int index) {
+    return new PlacedShape(shape(index), columns.x(index), columns.y(index));
+  }
+
+  /**
+   * Lets go of the memory behind this store, such as the mapping of a {@link SceneFile}, so that it
+   * is released once no thread reads it any more. The store is then empty and rejects new shapes.
+   * Closing a closed store has no effect.
+   */
+  public void close() {
+    columns = ClosedShapeColumns.INSTANCE;
+    size = 0;
+  }
+
+  ShapeColumns columns() {
+    return columns;
+  }
+
+  private int checkIndex(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("index " + index + " out of range for size " + size);
+    }
+    return index;
+  }
+}
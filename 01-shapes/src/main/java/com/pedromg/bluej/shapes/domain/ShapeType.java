@@ -0,0 +1,222 @@
+package com.pedromg.bluej.shapes.domain;
+
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.awt.Color;
+
+public enum ShapeType {
+  CIRCLE("circle"),
+  SQUARE("square"),
+  TRIANGLE("triangle");
+
+  private static final ShapeType[] VALUES = values();
+
+  private final String label;
+
+  ShapeType(String label) {
+    this.label = label;
+  }
+
+  /**
+   * Returns the lower-case name used for this type on the command line.
+   *
+   * @return the label
+   */
+  public String label() {
+    return label;
+  }
+
+  /**
+   * Creates a shape of this type.
+   *
+   * @param sizeInPixels the radius for circles or the side length for squares and triangles
+   * @param color the fill color
+   * @throws PreConditionsException if the size is not positive or the color is null
+   * @return the new shape
+   */
+  public Shape create(int sizeInPixels, Color color) {
+    return switch (this) {
+      case CIRCLE -> new Circle(sizeInPixels, color);
+      case SQUARE -> new Square(sizeInPixels, color);
+      case TRIANGLE -> new Triangle(sizeInPixels, color);
+    };
+  }
+
+  /**
+   * Returns the width of the box enclosing a shape of this type, without creating the shape.
+   *
+   * @param sizeInPixels the radius for circles or the side length for squares and triangles
+   * @return the width in pixels
+   */
+  public int widthOf(int sizeInPixels) {
+    return this == CIRCLE ? sizeInPixels * 2 : sizeInPixels;
+  }
+
+  /**
+   * Returns the height of the box enclosing a shape of this type, without creating the shape.
+   *
+   * @param sizeInPixels the radius for circles or the side length for squares and triangles
+   * @return the height in pixels
+   */
+  public int heightOf(int sizeInPixels) {
+    return switch (this) {
+      case CIRCLE -> sizeInPixels * 2;
+      case SQUARE -> sizeInPixels;
+      case TRIANGLE -> Triangle.heightFor(sizeInPixels);
+    };
+  }
+
+  /**
+   * Tests whether a pixel lies inside a shape of this type, using its exact geometry.
+   *
+   * <p>Coordinates are relative to the top-left corner of the box enclosing the shape, and a pixel
+   * is inside when its center is. Circles use a radius test and triangles a barycentric test over
+   * the same vertices the renderers fill.
+   *
+   * @param sizeInPixels the radius for circles or the side length for squares and triangles
+   * @param x the column of the pixel
+   * @param y the row of the pixel
+   * @return true if the pixel is inside the shape
+   */
+  public boolean contains(int sizeInPixels, int x, int y) {
+    double px = x + 0.5;
+    double py = y + 0.5;
+    return switch (this) {
+      case CIRCLE -> {
+        double dx = px - sizeInPixels;
+        double dy = py - sizeInPixels;
+        yield dx * dx + dy * dy <= (double) sizeInPixels * sizeInPixels;
+      }
+      case SQUARE -> x >= 0 && y >= 0 && x < sizeInPixels && y < sizeInPixels;
+      case TRIANGLE -> triangleContains(sizeInPixels, px, py);
+    };
+  }
+
+  /**
+   * Tests whether a shape of this type overlaps a rectangle, using its exact geometry.
+   *
+   * <p>Coordinates are relative to the top-left corner of the box enclosing the shape.
+   *
+   * @param sizeInPixels the radius for circles or the side length for squares and triangles
+   * @param x the left edge of the rectangle
+   * @param y the top edge of the rectangle
+   * @param width the width of the rectangle
+   * @param height the height of the rectangle
+   * @return true if the shape and the rectangle share at least one point
+   */
+  public boolean intersects(int sizeInPixels, int x, int y, int width, int height) {
+    int shapeWidth = widthOf(sizeInPixels);
+    int shapeHeight = heightOf(sizeInPixels);
+    if (width <= 0
+        || height <= 0
+        || x >= shapeWidth
+        || y >= shapeHeight
+        || x + width <= 0
+        || y + height <= 0) {
+      return false;
+    }
+    return switch (this) {
+      case CIRCLE -> {
+        double closestX = Math.max(x, Math.min(sizeInPixels, x + width));
+        double closestY = Math.max(y, Math.min(sizeInPixels, y + height));
+        double dx = closestX - sizeInPixels;
+        double dy = closestY - sizeInPixels;
+        yield dx * dx + dy * dy <= (double) sizeInPixels * sizeInPixels;
+      }
+      case SQUARE -> true;
+      case TRIANGLE -> triangleIntersects(sizeInPixels, x, y, width, height);
+    };
+  }
+
+  private static boolean triangleContains(int lengthInPixels, double px, double py) {
+    double ax = 0;
+    double ay = Triangle.heightFor(lengthInPixels);
+    double bx = lengthInPixels / 2; // integer apex, as filled by the renderer
+    double by = 0;
+    double cx = lengthInPixels;
+    double cy = ay;
+
+    double denominator = (by - cy) * (ax - cx) + (cx - bx) * (ay - cy);
+    double weightA = ((by - cy) * (px - cx) + (cx - bx) * (py - cy)) / denominator;
+    double weightB = ((cy - ay) * (px - cx) + (ax - cx) * (py - cy)) / denominator;
+    double weightC = 1 - weightA - weightB;
+    return weightA >= 0 && weightB >= 0 && weightC >= 0;
+  }
+
+  /** Separating axis test over the triangle edge normals; the box axes were already checked. */
+  private static boolean triangleIntersects(
+      int lengthInPixels, int x, int y, int width, int height) {
+    int triangleHeight = Triangle.heightFor(lengthInPixels);
+    int[] xs = {0, lengthInPixels / 2, lengthInPixels};
+    int[] ys = {triangleHeight, 0, triangleHeight};
+    for (int i = 0; i < 3; i++) {
+      int j = (i + 1) % 3;
+      long normalX = ys[i] - ys[j];
+      long normalY = xs[j] - xs[i];
+
+      long triangleMin = Long.MAX_VALUE;
+      long triangleMax = Long.MIN_VALUE;
+      for (int k = 0; k < 3; k++) {
+        long projection = normalX * xs[k] + normalY * ys[k];
+        triangleMin = Math.min(triangleMin, projection);
+        triangleMax = Math.max(triangleMax, projection);
+      }
+
+      long rectangleMin = Long.MAX_VALUE;
+      long rectangleMax = Long.MIN_VALUE;
+      for (int corner = 0; corner < 4; corner++) {
+        long cornerX = (corner & 1) == 0 ? x : x + width;
+        long cornerY = (corner & 2) == 0 ? y : y + height;
+        long projection = normalX * cornerX + normalY * cornerY;
+        rectangleMin = Math.min(rectangleMin, projection);
+        rectangleMax = Math.max(rectangleMax, projection);
+      }
+
+      if (rectangleMax < triangleMin || triangleMax < rectangleMin) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the size a shape was created with, as accepted by {@link #create(int, Color)}.
+   *
+   * @param shape the shape to inspect
+   * @return the radius for circles or the side length for squares and triangles
+   */
+  public static int sizeOf(Shape shape) {
+    return shape instanceof Circle circle ? circle.radiusInPixels() : shape.widthInPixels();
+  }
+
+  /**
+   * Finds the type with the given label.
+   *
+   * @param label the label to look up
+   * @throws PreConditionsException if no type has that label
+   * @return the matching type
+   */
+  public static ShapeType fromLabel(String label) {
+    PreConditions.requireNotBlank(label, "shape type must not be blank");
+
+    for (ShapeType type : VALUES) {
+      if (type.label.equals(label)) {
+        return type;
+      }
+    }
+    throw new PreConditionsException("unknown shape type: " + label);
+  }
+
+  /**
+   * Finds the type with the given ordinal, as stored in compact encodings.
+   *
+   * @param code the ordinal of the type
+   * @throws PreConditionsException if the code is out of range
+   * @return the matching type
+   */
+  public static ShapeType fromCode(int code) {
+    PreConditions.require(code >= 0 && code < VALUES.length, "unknown shape type code: %d", code);
+
+    return VALUES[code];
+  }
+}
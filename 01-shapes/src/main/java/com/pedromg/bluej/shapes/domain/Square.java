@@ -4,7 +4,7 @@ import com.pedromg.bluej.shapes.preconditions.PreConditions;
 import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
 import java.awt.Color;
 
-public record Square(int lengthInPixels, Color color) {
+public record Square(int lengthInPixels, Color color) implements Shape {
 
   /**
    * Creates a new square with the given side length and color.
@@ -15,7 +15,24 @@ public record Square(int lengthInPixels, Color color) {
    *     null
    */
   public Square {
-    PreConditions.require(lengthInPixels > 0, "length must be a positive number")
+    PreConditions.requirePositive(lengthInPixels, "length must be a positive number")
         .andNotNull(color, "color must not be null");
   }
+
+  /** Returns the side length of the square. */
+  @Override
+  public int widthInPixels() {
+    return lengthInPixels;
+  }
+
+  /** Returns the side length of the square. */
+  @Override
+  public int heightInPixels() {
+    return lengthInPixels;
+  }
+
+  @Override
+  public ShapeType type() {
+    return ShapeType.SQUARE;
+  }
 }
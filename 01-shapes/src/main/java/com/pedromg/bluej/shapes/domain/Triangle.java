@@ -4,7 +4,7 @@ import com.pedromg.bluej.shapes.preconditions.PreConditions;
 import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
 import java.awt.Color;
 
-public record Triangle(int lengthInPixels, Color color) {
+public record Triangle(int lengthInPixels, Color color) implements Shape {
 
   private static final double TRIANGLE_HEIGHT_FACTOR = Math.sqrt(3) / 2;
 
@@ -17,7 +17,7 @@ public record Triangle(int lengthInPixels, Color color) {
    *     null
    */
   public Triangle {
-    PreConditions.require(lengthInPixels > 0, "length must be a positive number")
+    PreConditions.requirePositive(lengthInPixels, "length must be a positive number")
         .andNotNull(color, "color must not be null");
   }
 
@@ -29,7 +29,29 @@ public record Triangle(int lengthInPixels, Color color) {
    * @see <a href= "https://en.wikipedia.org/wiki/Equilateral_triangle#Height">Height of an
    *     equilateral triangle</a>
    */
+  @Override
   public int heightInPixels() {
+    return heightFor(lengthInPixels);
+  }
+
+  /**
+   * Returns the height in pixels of an equilateral triangle with the given side length.
+   *
+   * @param lengthInPixels the length of each side in pixels
+   * @return the height of the triangle in pixels
+   */
+  public static int heightFor(int lengthInPixels) {
     return (int) Math.ceil(TRIANGLE_HEIGHT_FACTOR * lengthInPixels);
   }
+
+  /** Returns the side length of the triangle, which is also the length of its base. */
+  @Override
+  public int widthInPixels() {
+    return lengthInPixels;
+  }
+
+  @Override
+  public ShapeType type() {
+    return ShapeType.TRIANGLE;
+  }
 }
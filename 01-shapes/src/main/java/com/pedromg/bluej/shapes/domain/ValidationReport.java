@@ -0,0 +1,112 @@
+package com.pedromg.bluej.shapes.domain;
+
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.util.Arrays;
+
+/**
+ * The rows of a {@link ShapeBatch} that break a {@link ValidationRule}.
+ *
+ * <p>Each error takes five bytes: the row index and the ordinal of the rule. Errors are kept in row
+ * order, and a row breaking several rules has one error per rule.
+ */
+public final class ValidationReport {
+
+  private static final int INITIAL_CAPACITY = 16;
+  private static final int SUMMARY_ERRORS = 10;
+  private static final ValidationRule[] RULES = ValidationRule.values();
+
+  private final int rowsChecked;
+  private int[] rows = new int[INITIAL_CAPACITY];
+  private byte[] rules = new byte[INITIAL_CAPACITY];
+  private int errorCount;
+  private int invalidRows;
+
+  ValidationReport(int rowsChecked) {
+    this.rowsChecked = rowsChecked;
+  }
+
+  void add(int row, ValidationRule rule) {
+    if (errorCount == rows.length) {
+      int capacity = rows.length * 2;
+      rows = Arrays.copyOf(rows, capacity);
+      rules = Arrays.copyOf(rules, capacity);
+    }
+    if (errorCount == 0 || rows[errorCount - 1] != row) {
+      invalidRows++;
+    }
+    rows[errorCount] = row;
+    rules[errorCount] = (byte) rule.ordinal();
+    errorCount++;
+  }
+
+  public int rowsChecked() {
+    return rowsChecked;
+  }
+
+  public int errorCount() {
+    return errorCount;
+  }
+
+  /**
+   * Returns the number of distinct rows with at least one error.
+   *
+   * @return the number of invalid rows
+   */
+  public int invalidRows() {
+    return invalidRows;
+  }
+
+  public boolean isValid() {
+    return errorCount == 0;
+  }
+
+  /**
+   * Returns the row of an error.
+   *
+   * @param error the index of the error, from 0 to {@link #errorCount()}
+   * @return the index of the row in the batch
+   */
+  public int row(int error) {
+    return rows[error];
+  }
+
+  /**
+   * Returns the rule broken by an error.
+   *
+   * @param error the index of the error, from 0 to {@link #errorCount()}
+   * @return the rule
+   */
+  public ValidationRule rule(int error) {
+    return RULES[rules[error]];
+  }
+
+  /**
+   * Throws if any row is invalid. The exception has no stack trace: the report says where the
+   * problem is.
+   *
+   * @throws PreConditionsException with the {@link #toString() summary} if any row is invalid
+   */
+  public void throwIfInvalid() {
+    if (!isValid()) {
+      throw PreConditionsException.withoutStackTrace(toString());
+    }
+  }
+
+  /** Returns the number of invalid rows and the first few errors. */
+  @Override
+  public String toString() {
+    StringBuilder summary =
+        new StringBuilder()
+            .append(invalidRows)
+            .append(" of ")
+            .append(rowsChecked)
+            .append(" rows are invalid");
+    for (int error = 0; error < Math.min(errorCount, SUMMARY_ERRORS); error++) {
+      summary.append("\n  row ").append(rows[error]).append(": ").append(rule(error).message());
+    }
+    if (errorCount > SUMMARY_ERRORS) {
+      summary.append("\n  ... and ").append(errorCount - SUMMARY_ERRORS).append(" more errors");
+    }
+    return summary.toString();
+  }
+}
@@ -0,0 +1,23 @@
+package com.pedromg.bluej.shapes.domain;
+
+/** A rule a raw shape row can break, as reported by {@link ShapeBatch#validate()}. */
+public enum ValidationRule {
+  UNKNOWN_TYPE("type code must be 0 (circle), 1 (square) or 2 (triangle)"),
+  NON_POSITIVE_SIZE("size must be a positive number"),
+  SIZE_TOO_LARGE("size must not exceed " + ShapeBatch.MAX_SIZE);
+
+  private final String message;
+
+  ValidationRule(String message) {
+    this.message = message;
+  }
+
+  /**
+   * Returns a description of what the rule requires.
+   *
+   * @return the message
+   */
+  public String message() {
+    return message;
+  }
+}
@@ -0,0 +1,100 @@
+package com.pedromg.bluej.shapes.export;
+
+import com.pedromg.bluej.shapes.animation.AnimationRenderer;
+import com.pedromg.bluej.shapes.animation.AnimationState;
+import com.pedromg.bluej.shapes.domain.Shape;
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import com.pedromg.bluej.shapes.render.ShapeRenderer;
+import java.awt.Graphics2D;
+import java.util.function.Supplier;
+
+/**
+ * The frames of an animation, one fixed step apart.
+ *
+ * <p>Each painter steps its own copy of the state, created by the given supplier, up to the frame
+ * it paints. Stepping is cheap next to painting, so painters can work on different frames at once
+ * without sharing any state.
+ */
+public final class AnimationFrames implements FrameSource {
+
+  private final Supplier<AnimationState> states;
+  private final ShapeRenderer<Shape> renderer;
+  private final int frameCount;
+  private final float secondsPerFrame;
+  private final int width;
+  private final int height;
+
+  /**
+   * Creates a source of animation frames.
+   *
+   * @param states creates the state at frame 0, the same every time; must not be null
+   * @param renderer the renderer used to fill shapes; must not be null
+   * @param frameCount the number of frames; must be positive
+   * @param framesPerSecond the number of frames per second of animation; must be positive
+   * @param width the width of each frame in pixels; must be positive
+   * @param height the height of each frame in pixels; must be positive
+   * @throws PreConditionsException if any argument is invalid
+   */
+  public AnimationFrames(
+      Supplier<AnimationState> states,
+      ShapeRenderer<Shape> renderer,
+      int frameCount,
+      int framesPerSecond,
+      int width,
+      int height) {
+    PreConditions.requireNotNull(states, "states must not be null")
+        .andNotNull(renderer, "renderer must not be null")
+        .andPositive(frameCount, "frameCount must be positive")
+        .andPositive(framesPerSecond, "framesPerSecond must be positive")
+        .andPositive(width, "width must be positive")
+        .andPositive(height, "height must be positive");
+
+    this.states = states;
+    this.renderer = renderer;
+    this.frameCount = frameCount;
+    this.secondsPerFrame = 1f / framesPerSecond;
+    this.width = width;
+    this.height = height;
+  }
+
+  @Override
+  public int frameCount() {
+    return frameCount;
+  }
+
+  @Override
+  public int width() {
+    return width;
+  }
+
+  @Override
+  public int height() {
+    return height;
+  }
+
+  @Override
+  public FramePainter newPainter() {
+    return new AnimationPainter(states.get());
+  }
+
+  private final class AnimationPainter implements FramePainter {
+
+    private final AnimationState state;
+    private final AnimationRenderer animationRenderer;
+    private int steppedFrames;
+
+    private AnimationPainter(AnimationState state) {
+      this.state = state;
+      this.animationRenderer = new AnimationRenderer(renderer);
+    }
+
+    @Override
+    public void paint(Graphics2D graphics, int frame) {
+      for (; steppedFrames < frame; steppedFrames++) {
+        state.step(secondsPerFrame);
+      }
+      animationRenderer.render(graphics, state, 1f);
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package com.pedromg.bluej.shapes.export;
+
+import com.pedromg.bluej.shapes.command.CommandHandler;
+import com.pedromg.bluej.shapes.command.CommandRequest;
+import com.pedromg.bluej.shapes.demo.AnimateDemo;
+import com.pedromg.bluej.shapes.domain.Scene;
+import com.pedromg.bluej.shapes.domain.SceneFile;
+import com.pedromg.bluej.shapes.domain.Shape;
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import com.pedromg.bluej.shapes.render.AliasedRenderer;
+import com.pedromg.bluej.shapes.render.GeometryRenderer;
+import com.pedromg.bluej.shapes.render.ShapeRenderer;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+public class ExportCommand implements CommandHandler {
+
+  private static final String ANIMATION = "animate";
+  private static final String INDEXED_FLAG = "indexed";
+  private static final int DEFAULT_FRAMES = 120;
+
+  private final FrameExporter exporter;
+
+  /**
+   * Creates an ExportCommand
+   *
+   * @param exporter the pipeline writing the frames
+   * @throws PreConditionsException if exporter is null
+   */
+  public ExportCommand(FrameExporter exporter) {
+    PreConditions.requireNotNull(exporter, "exporter must not be null");
+    this.exporter = exporter;
+  }
+
+  /**
+   * Exports a saved scene, or frames of the {@code animate} demo, to PNG files in a directory,
+   * without opening a window.
+   *
+   * <p>A scene gives a single frame. The animation gives {@code frames} frames, a positive number
+   * that fits an int and 120 by default, at the demo's 60 steps per second. With the {@code
+   * --indexed} flag shapes are painted without anti-aliasing and frames are written with a color
+   * palette.
+   *
+   * @param request command line request containing the {@code source} and {@code directory} params
+   *     and, for the animation, an optional {@code frames} param
+   * @throws PreConditionsException if the arguments are invalid
+   * @throws UncheckedIOException if the scene cannot be read or a frame cannot be written
+   */
+  @Override
+  public void handle(CommandRequest request) {
+    validatePreConditions(request);
+
+    String source = request.params().get(0);
+    Path directory = request.path(1);
+    boolean indexed = request.hasFlag(INDEXED_FLAG);
+    ShapeRenderer<Shape> renderer =
+        indexed ? new AliasedRenderer(new GeometryRenderer()) : new GeometryRenderer();
+    try {
+      if (source.equals(ANIMATION)) {
+        exporter.export(animationFrames(request, renderer), directory, indexed);
+        return;
+      }
+      try (Scene scene = SceneFile.open(request.path(0))) {
+        exporter.export(new SceneFrames(scene, renderer), directory, indexed);
+      }
+    } catch (IOException exception) {
+      throw new UncheckedIOException("could not export " + source + " to " + directory, exception);
+    }
+  }
+
+  @Override
+  public String helpMessage() {
+    return "Exports <scene file> or animate [<frames>] as PNG files into <directory>,"
+        + " with --indexed to write frames with a color palette";
+  }
+
+  private static FrameSource animationFrames(
+      CommandRequest request, ShapeRenderer<Shape> renderer) {
+    int frames =
+        request.params().size() == 3 ? Integer.parseInt(request.params().get(2)) : DEFAULT_FRAMES;
+    return new AnimationFrames(
+        () -> AnimateDemo.createState(AnimateDemo.DEFAULT_SHAPES),
+        renderer,
+        frames,
+        AnimateDemo.STEPS_PER_SECOND,
+        AnimateDemo.WIDTH,
+        AnimateDemo.HEIGHT);
+  }
+
+  private void validatePreConditions(CommandRequest request) {
+    PreConditions preConditions =
+        PreConditions.requireNotNull(request, "request must not be null")
+            .and(
+                request.params().size() == 2 || request.params().size() == 3,
+                "request must have two or three arguments")
+            .andNotBlank(request.params().get(0), "source must not be blank")
+            .andNotBlank(request.params().get(1), "directory must not be blank")
+            .and(
+                request.params().size() == 2 || request.params().get(0).equals(ANIMATION),
+                "frames can only be given for the animation");
+    if (request.params().size() == 3) {
+      preConditions
+          .and(() -> Integer.parseInt(request.params().get(2)), "frames must be a number")
+          .andPositive(Integer.parseInt(request.params().get(2)), "frames must be positive");
+    }
+  }
+}
@@ -0,0 +1,9 @@
+package com.pedromg.bluej.shapes.export;
+
+/**
+ * The outcome of an export.
+ *
+ * @param frames the number of PNG files written
+ * @param indexedFrames how many of them were written with a color palette
+ */
+public record ExportSummary(int frames, int indexedFrames) {}
@@ -0,0 +1,216 @@
+package com.pedromg.bluej.shapes.export;
+
+import com.pedromg.bluej.shapes.export.FrameSource.FramePainter;
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.imageio.ImageIO;
+
+/**
+ * Writes the frames of a {@link FrameSource} to PNG files through a two-stage pipeline.
+ *
+ * <p>Rasterizer threads take the next frame number, paint it into a free image and put it on a
+ * bounded queue; encoder threads take painted frames off the queue, compress them to PNG and write
+ * them. Compressing a frame costs about as much as painting it, so overlapping the two keeps every
+ * core busy. Images come from a fixed pool and go back to it once written, which bounds memory to a
+ * few frames whatever their number: when the encoders fall behind, the rasterizers wait for a free
+ * image.
+ *
+ * <p>Frames are written as {@code frame-00000.png}, {@code frame-00001.png} and so on. With palette
+ * indexing, frames of at most 256 colors are written with one byte per pixel; others stay ARGB.
+ */
+public class FrameExporter {
+
+  private static final String FORMAT = "png";
+  private static final Frame END = new Frame(-1, null);
+
+  private final int rasterizers;
+  private final int encoders;
+  private final int queueCapacity;
+
+  /**
+   * Creates a FrameExporter
+   *
+   * @param rasterizers the number of threads painting frames; must be positive
+   * @param encoders the number of threads encoding and writing frames; must be positive
+   * @param queueCapacity the number of painted frames that may wait for an encoder, on top of one
+   *     frame per thread; must be positive
+   * @throws PreConditionsException if any argument is not positive
+   */
+  public FrameExporter(int rasterizers, int encoders, int queueCapacity) {
+    PreConditions.requirePositive(rasterizers, "rasterizers must be positive")
+        .andPositive(encoders, "encoders must be positive")
+        .andPositive(queueCapacity, "queueCapacity must be positive");
+
+    this.rasterizers = rasterizers;
+    this.encoders = encoders;
+    this.queueCapacity = queueCapacity;
+  }
+
+  /**
+   * Paints and writes every frame of the source, and waits until all of them are written.
+   *
+   * <p>If any frame fails, the other threads are interrupted and the files already written are left
+   * in place. Either way, no thread paints the source any more once this method returns, so the
+   * caller may release it.
+   *
+   * @param source the frames to export; must not be null
+   * @param directory the directory to write into, created if missing; must not be null
+   * @param indexed whether to write frames of few colors with a palette
+   * @throws PreConditionsException if an argument is null
+   * @throws IOException if a frame cannot be written, or the calling thread is interrupted
+   * @return the number of frames written, and how many of them were indexed
+   */
+  public ExportSummary export(FrameSource source, Path directory, boolean indexed)
+      throws IOException {
+    PreConditions.requireNotNull(source, "source must not be null")
+        .andNotNull(directory, "directory must not be null");
+    Files.createDirectories(directory);
+
+    Pipeline pipeline = new Pipeline(source, directory);
+    ExecutorService threads = Executors.newFixedThreadPool(rasterizers + encoders);
+    CompletionService<Integer> tasks = new ExecutorCompletionService<>(threads);
+    try {
+      List<Future<Integer>> rasterizing = new ArrayList<>();
+      for (int i = 0; i < rasterizers; i++) {
+        FramePainter painter = source.newPainter();
+        rasterizing.add(tasks.submit(() -> pipeline.rasterize(painter)));
+      }
+      for (int i = 0; i < encoders; i++) {
+        tasks.submit(() -> pipeline.encode(indexed ? new Palette() : null));
+      }
+
+      int rasterizersLeft = rasterizers;
+      int indexedFrames = 0;
+      for (int finished = 0; finished < rasterizers + encoders; finished++) {
+        Future<Integer> task = tasks.take();
+        indexedFrames += task.get();
+        if (rasterizing.contains(task) && --rasterizersLeft == 0) {
+          for (int i = 0; i < encoders; i++) {
+            pipeline.ready.add(END);
+          }
+        }
+      }
+      return new ExportSummary(source.frameCount(), indexedFrames);
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("interrupted while exporting frames");
+    } catch (ExecutionException exception) {
+      Throwable cause = exception.getCause();
+      if (cause instanceof IOException ioException) {
+        throw ioException;
+      }
+      if (cause instanceof UncheckedIOException uncheckedIOException) {
+        throw uncheckedIOException.getCause();
+      }
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException(cause);
+    } finally {
+      threads.shutdownNow();
+      awaitTermination(threads);
+    }
+  }
+
+  /** Waits for the threads of an export to stop, keeping the interrupt status of the caller. */
+  private static void awaitTermination(ExecutorService threads) {
+    boolean interrupted = Thread.interrupted();
+    while (true) {
+      try {
+        if (threads.awaitTermination(1, TimeUnit.SECONDS)) {
+          break;
+        }
+      } catch (InterruptedException exception) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private record Frame(int number, BufferedImage image) {}
+
+  /** The queues and counters shared by the threads of one export. */
+  private final class Pipeline {
+
+    private final FrameSource source;
+    private final Path directory;
+    private final AtomicInteger nextFrame = new AtomicInteger();
+    private final BlockingQueue<BufferedImage> free;
+    private final BlockingQueue<Frame> ready;
+
+    private Pipeline(FrameSource source, Path directory) {
+      this.source = source;
+      this.directory = directory;
+
+      int images = queueCapacity + rasterizers + encoders;
+      this.free = new ArrayBlockingQueue<>(images);
+      for (int i = 0; i < images; i++) {
+        free.add(new BufferedImage(source.width(), source.height(), BufferedImage.TYPE_INT_ARGB));
+      }
+      // Room for every image and every end marker, so that adding never blocks
+      this.ready = new ArrayBlockingQueue<>(images + encoders);
+    }
+
+    private int rasterize(FramePainter painter) throws InterruptedException {
+      int frame;
+      while ((frame = nextFrame.getAndIncrement()) < source.frameCount()) {
+        BufferedImage image = free.take();
+        Arrays.fill(((DataBufferInt) image.getRaster().getDataBuffer()).getData(), 0);
+        Graphics2D graphics = image.createGraphics();
+        try {
+          painter.paint(graphics, frame);
+        } finally {
+          graphics.dispose();
+        }
+        ready.add(new Frame(frame, image));
+      }
+      return 0;
+    }
+
+    private int encode(Palette palette) throws IOException, InterruptedException {
+      int indexedFrames = 0;
+      Frame frame;
+      while ((frame = ready.take()) != END) {
+        BufferedImage image = frame.image();
+        BufferedImage indexedImage = palette == null ? null : palette.index(image);
+        if (indexedImage != null) {
+          image = indexedImage;
+          indexedFrames++;
+        }
+        Path file = directory.resolve(String.format(Locale.ROOT, "frame-%05d.png", frame.number()));
+        if (!ImageIO.write(image, FORMAT, file.toFile())) {
+          throw new IOException("no PNG writer for " + file);
+        }
+        free.add(frame.image());
+      }
+      return indexedFrames;
+    }
+  }
+}
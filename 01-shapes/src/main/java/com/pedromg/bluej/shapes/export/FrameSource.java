@@ -0,0 +1,34 @@
+package com.pedromg.bluej.shapes.export;
+
+import java.awt.Graphics2D;
+
+/** A numbered sequence of frames of the same size, painted on demand. */
+public interface FrameSource {
+
+  int frameCount();
+
+  int width();
+
+  int height();
+
+  /**
+   * Creates a painter for one thread. Several painters may paint frames of the same source at once.
+   *
+   * @return a new painter
+   */
+  FramePainter newPainter();
+
+  /** Paints frames of a {@link FrameSource}, for a single thread. */
+  @FunctionalInterface
+  interface FramePainter {
+
+    /**
+     * Paints a frame into a cleared, transparent image. A painter is asked for frames in increasing
+     * order, with gaps where other painters took frames.
+     *
+     * @param graphics the graphics context of the image, without any rendering hint set
+     * @param frame the number of the frame, from 0
+     */
+    void paint(Graphics2D graphics, int frame);
+  }
+}
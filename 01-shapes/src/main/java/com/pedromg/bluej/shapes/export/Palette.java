@@ -0,0 +1,91 @@
+package com.pedromg.bluej.shapes.export;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.awt.image.IndexColorModel;
+import java.awt.image.Raster;
+import java.awt.image.WritableRaster;
+import java.util.Arrays;
+
+/**
+ * Converts frames of few colors to palette-indexed images, one byte per pixel instead of four.
+ *
+ * <p>Frames of flat-colored shapes painted without anti-aliasing hold little more than the colors
+ * of their shapes, and compress much better indexed. The pixel buffer is reused from one frame to
+ * the next, so a palette belongs to a single thread.
+ */
+final class Palette {
+
+  static final int MAX_COLORS = 256;
+
+  private static final int SLOTS = 1024;
+  private static final int[] BANDS = {0};
+
+  private final int[] keys = new int[SLOTS];
+  private final int[] slotIndices = new int[SLOTS];
+  private final int[] colors = new int[MAX_COLORS];
+  private int size;
+  private byte[] pixels = new byte[0];
+
+  /**
+   * Indexes the colors of an ARGB image.
+   *
+   * @param image a {@link BufferedImage#TYPE_INT_ARGB} image
+   * @return an indexed copy of the image, or null if it has more than {@value #MAX_COLORS} colors
+   */
+  BufferedImage index(BufferedImage image) {
+    int[] argbs = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+    int length = image.getWidth() * image.getHeight();
+    if (pixels.length < length) {
+      pixels = new byte[length];
+    }
+    Arrays.fill(slotIndices, 0);
+    size = 0;
+
+    int previous = 0;
+    int previousIndex = -1;
+    for (int i = 0; i < length; i++) {
+      int argb = argbs[i];
+      if (argb != previous || previousIndex < 0) {
+        previousIndex = indexOf(argb);
+        if (previousIndex < 0) {
+          return null;
+        }
+        previous = argb;
+      }
+      pixels[i] = (byte) previousIndex;
+    }
+
+    IndexColorModel model = new IndexColorModel(8, size, colors, 0, true, -1, DataBuffer.TYPE_BYTE);
+    WritableRaster raster =
+        Raster.createInterleavedRaster(
+            new DataBufferByte(pixels, length),
+            image.getWidth(),
+            image.getHeight(),
+            image.getWidth(),
+            1,
+            BANDS,
+            null);
+    return new BufferedImage(model, raster, false, null);
+  }
+
+  /** Returns the index of a color, adding it if there is room, or -1 if the palette is full. */
+  private int indexOf(int argb) {
+    int slot = (argb * 0x9E3779B9) >>> 22;
+    while (slotIndices[slot] != 0) {
+      if (keys[slot] == argb) {
+        return slotIndices[slot] - 1;
+      }
+      slot = (slot + 1) & (SLOTS - 1);
+    }
+    if (size == MAX_COLORS) {
+      return -1;
+    }
+    keys[slot] = argb;
+    colors[size] = argb;
+    slotIndices[slot] = ++size;
+    return size - 1;
+  }
+}
@@ -0,0 +1,52 @@
+package com.pedromg.bluej.shapes.export;
+
+import com.pedromg.bluej.shapes.domain.Scene;
+import com.pedromg.bluej.shapes.domain.Shape;
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import com.pedromg.bluej.shapes.render.SceneRenderer;
+import com.pedromg.bluej.shapes.render.ShapeRenderer;
+
+/** A single frame showing a whole scene. */
+public final class SceneFrames implements FrameSource {
+
+  private final Scene scene;
+  private final ShapeRenderer<Shape> renderer;
+
+  /**
+   * Creates a source of one frame, sized to the area covered by the scene.
+   *
+   * @param scene the scene to paint; must not be null and must hold at least one shape
+   * @param renderer the renderer used to fill shapes; must not be null
+   * @throws PreConditionsException if an argument is null or the scene is empty
+   */
+  public SceneFrames(Scene scene, ShapeRenderer<Shape> renderer) {
+    PreConditions.requireNotNull(scene, "scene must not be null")
+        .andNotNull(renderer, "renderer must not be null")
+        .and(scene.size() > 0, "scene must not be empty");
+
+    this.scene = scene;
+    this.renderer = renderer;
+  }
+
+  @Override
+  public int frameCount() {
+    return 1;
+  }
+
+  @Override
+  public int width() {
+    return scene.width();
+  }
+
+  @Override
+  public int height() {
+    return scene.height();
+  }
+
+  @Override
+  public FramePainter newPainter() {
+    SceneRenderer sceneRenderer = new SceneRenderer(renderer);
+    return (graphics, frame) -> sceneRenderer.render(graphics, scene);
+  }
+}
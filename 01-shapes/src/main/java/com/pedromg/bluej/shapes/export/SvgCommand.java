@@ -0,0 +1,68 @@
+package com.pedromg.bluej.shapes.export;
+
+import com.pedromg.bluej.shapes.command.CommandHandler;
+import com.pedromg.bluej.shapes.command.CommandRequest;
+import com.pedromg.bluej.shapes.domain.Scene;
+import com.pedromg.bluej.shapes.domain.SceneFile;
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+public class SvgCommand implements CommandHandler {
+
+  private static final String STANDARD_OUTPUT = "-";
+  private static final int BUFFER_CHARS = 64 * 1024;
+
+  /**
+   * Writes a saved scene as an SVG document to a file, or to the output of the request's {@link
+   * com.pedromg.bluej.shapes.command.CommandContext context} when the file is {@code -}, without
+   * opening a window.
+   *
+   * @param request command line request containing the {@code scene file} and {@code output} params
+   * @throws PreConditionsException if the arguments are invalid
+   * @throws UncheckedIOException if the scene cannot be read or the document cannot be written
+   */
+  @Override
+  public void handle(CommandRequest request) {
+    validatePreConditions(request);
+
+    String source = request.params().get(0);
+    String output = request.params().get(1);
+    try (Scene scene = SceneFile.open(request.path(0))) {
+      if (output.equals(STANDARD_OUTPUT)) {
+        Writer writer = writer(request.context().out());
+        new SvgWriter(writer).write(scene);
+        writer.flush();
+        return;
+      }
+      try (Writer writer = writer(Files.newOutputStream(request.path(1)))) {
+        new SvgWriter(writer).write(scene);
+      }
+    } catch (IOException exception) {
+      throw new UncheckedIOException("could not export " + source + " to " + output, exception);
+    }
+  }
+
+  @Override
+  public String helpMessage() {
+    return "Writes <scene file> as an SVG document to <file> (- for standard output)";
+  }
+
+  private static Writer writer(OutputStream stream) {
+    return new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8), BUFFER_CHARS);
+  }
+
+  private void validatePreConditions(CommandRequest request) {
+    PreConditions.requireNotNull(request, "request must not be null")
+        .and(request.params().size() == 2, "request must have two arguments")
+        .andNotBlank(request.params().get(0), "scene file must not be blank")
+        .andNotBlank(request.params().get(1), "output must not be blank");
+  }
+}
@@ -0,0 +1,178 @@
+package com.pedromg.bluej.shapes.export;
+
+import com.pedromg.bluej.shapes.domain.Scene;
+import com.pedromg.bluej.shapes.domain.ShapeStore;
+import com.pedromg.bluej.shapes.domain.Triangle;
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes scenes as SVG documents, one element per shape, straight from the columns of the scene.
+ *
+ * <p>Circles become {@code <circle>}, squares {@code <rect>} and triangles {@code <polygon>} with
+ * the vertices filled by {@link com.pedromg.bluej.shapes.render.TriangleRenderer}. Elements are
+ * written as they are read and no document tree is built: each one is formatted into a small reused
+ * buffer and handed to the writer in a single call, so writing a shape does not allocate and memory
+ * stays the same whatever the size of the scene. The writer should still be buffered, so that
+ * elements reach the output in large blocks.
+ *
+ * <p>A SvgWriter is not thread-safe.
+ */
+public final class SvgWriter {
+
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  /** Room for the longest element: a polygon of six 20-digit coordinates and an opacity. */
+  private static final int LINE_CHARS = 256;
+
+  private final Writer out;
+  private final char[] line = new char[LINE_CHARS];
+  private int length;
+
+  /**
+   * Creates a SvgWriter
+   *
+   * @param out where the documents are written; must not be null
+   * @throws PreConditionsException if out is null
+   */
+  public SvgWriter(Writer out) {
+    PreConditions.requireNotNull(out, "out must not be null");
+    this.out = out;
+  }
+
+  /**
+   * Writes a scene as a complete SVG document sized to the area it covers. The writer is neither
+   * flushed nor closed.
+   *
+   * @param scene the scene to write; must not be null
+   * @throws PreConditionsException if the scene is null
+   * @throws IOException if the writer fails
+   * @return the number of shapes written
+   */
+  public int write(Scene scene) throws IOException {
+    PreConditions.requireNotNull(scene, "scene must not be null");
+
+    out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+    append("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"");
+    append(scene.width());
+    append("\" height=\"");
+    append(scene.height());
+    append("\" viewBox=\"0 0 ");
+    append(scene.width());
+    append(' ');
+    append(scene.height());
+    append("\">\n");
+    flushLine();
+
+    ShapeStore store = scene.store();
+    int count = store.size();
+    for (int i = 0; i < count; i++) {
+      shape(store, i);
+      flushLine();
+    }
+
+    out.write("</svg>\n");
+    return count;
+  }
+
+  private void shape(ShapeStore store, int index) {
+    long x = store.x(index);
+    long y = store.y(index);
+    int size = store.sizeInPixels(index);
+    switch (store.type(index)) {
+      case CIRCLE -> {
+        append("<circle cx=\"");
+        append(x + size);
+        append("\" cy=\"");
+        append(y + size);
+        append("\" r=\"");
+        append(size);
+      }
+      case SQUARE -> {
+        append("<rect x=\"");
+        append(x);
+        append("\" y=\"");
+        append(y);
+        append("\" width=\"");
+        append(size);
+        append("\" height=\"");
+        append(size);
+      }
+      case TRIANGLE -> {
+        long bottom = y + Triangle.heightFor(size);
+        append("<polygon points=\"");
+        point(x, bottom);
+        append(' ');
+        point(x + size / 2, y);
+        append(' ');
+        point(x + size, bottom);
+      }
+    }
+    append('"');
+    fill(store.argb(index));
+    append("/>\n");
+  }
+
+  private void point(long x, long y) {
+    append(x);
+    append(',');
+    append(y);
+  }
+
+  /** Appends {@code fill="#rrggbb"}, followed by the opacity when the color is translucent. */
+  private void fill(int argb) {
+    append(" fill=\"#");
+    for (int digit = 0; digit < 6; digit++) {
+      append(HEX_DIGITS[(argb >>> (20 - 4 * digit)) & 0xf]);
+    }
+    append('"');
+
+    int alpha = argb >>> 24;
+    if (alpha != 0xff) {
+      append(" fill-opacity=\"");
+      int thousandths = (alpha * 1000 + 127) / 255;
+      if (thousandths == 0) {
+        append('0');
+      } else {
+        append("0.");
+        append((char) ('0' + thousandths / 100));
+        append((char) ('0' + thousandths / 10 % 10));
+        append((char) ('0' + thousandths % 10));
+      }
+      append('"');
+    }
+  }
+
+  private void append(char c) {
+    line[length++] = c;
+  }
+
+  private void append(String text) {
+    text.getChars(0, text.length(), line, length);
+    length += text.length();
+  }
+
+  private void append(long value) {
+    if (value < 0) {
+      append('-');
+    }
+    long rest = Math.abs(value);
+    int digits = 1;
+    for (long power = 10; power <= rest && digits < 19; power *= 10) {
+      digits++;
+    }
+    for (int position = length + digits - 1; position >= length; position--) {
+      line[position] = (char) ('0' + rest % 10);
+      rest /= 10;
+    }
+    length += digits;
+  }
+
+  /** Writes the line built so far with a single call, since every call takes the writer's lock. */
+  private void flushLine() throws IOException {
+    out.write(line, 0, length);
+    length = 0;
+  }
+}
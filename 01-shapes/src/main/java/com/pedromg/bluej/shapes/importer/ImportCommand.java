@@ -0,0 +1,153 @@
+package com.pedromg.bluej.shapes.importer;
+
+import com.pedromg.bluej.shapes.command.CommandHandler;
+import com.pedromg.bluej.shapes.command.CommandRequest;
+import com.pedromg.bluej.shapes.domain.Scene;
+import com.pedromg.bluej.shapes.domain.SceneFile;
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import com.pedromg.bluej.shapes.ui.Canvas;
+import com.pedromg.bluej.shapes.ui.EventDispatch;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.concurrent.CancellationException;
+import java.util.function.Consumer;
+import javax.swing.SwingUtilities;
+
+public class ImportCommand implements CommandHandler {
+
+  private static final String STANDARD_INPUT = "-";
+  private static final String HUD_FLAG = "hud";
+
+  private final ShapeImporter importer;
+
+  /**
+   * Creates an ImportCommand
+   *
+   * @param importer the importer reading the shapes
+   * @throws PreConditionsException if importer is null
+   */
+  public ImportCommand(ShapeImporter importer) {
+    PreConditions.requireNotNull(importer, "importer must not be null");
+    this.importer = importer;
+  }
+
+  /**
+   * Imports shapes from a text file, or from the standard input when the file is {@code -}.
+   *
+   * <p>With a single argument the shapes are shown in a new canvas while they are read: each chunk
+   * is drawn on the event dispatch thread as soon as it is parsed, so the first shapes appear long
+   * before a large input is done. Closing the canvas stops the import. With a second argument the
+   * shapes are saved to that {@link SceneFile} instead, without opening a window. With the {@code
+   * --hud} flag the canvas shows its paint times in an overlay.
+   *
+   * @param request command line request containing the {@code input} param and an optional {@code
+   *     scene file} param
+   * @throws PreConditionsException if the arguments are invalid
+   * @throws UncheckedIOException if the input cannot be read or the scene file cannot be written
+   * @throws CancellationException if the canvas is closed before the input is read to the end
+   */
+  @Override
+  public void handle(CommandRequest request) {
+    validatePreConditions(request);
+
+    String input = request.params().get(0);
+    ShapeImporter reporting = importer.reportingTo(request.context().err());
+    try {
+      if (request.params().size() == 2) {
+        save(reporting, request);
+      } else {
+        show(reporting, request);
+      }
+    } catch (IOException exception) {
+      throw new UncheckedIOException("could not import " + input, exception);
+    }
+  }
+
+  @Override
+  public String helpMessage() {
+    return "Imports shapes from <file> (- for standard input), one type,size,color,x,y per line"
+        + " in CSV or JSON, and shows them, or saves them to [<scene file>]";
+  }
+
+  private static void show(ShapeImporter importer, CommandRequest request) throws IOException {
+    Canvas canvas =
+        EventDispatch.callAndWait(
+            () -> {
+              Canvas shown = new Canvas();
+              if (request.hasFlag(HUD_FLAG)) {
+                shown.showHud();
+              }
+              shown.show();
+              return shown;
+            });
+
+    run(
+        importer,
+        request,
+        chunk -> {
+          if (canvas.isClosed()) {
+            chunk.release();
+            throw new CancellationException("import stopped: its canvas was closed");
+          }
+          SwingUtilities.invokeLater(
+              () -> {
+                try {
+                  if (canvas.isClosed()) {
+                    return;
+                  }
+                  for (int row = 0; row < chunk.rows(); row++) {
+                    canvas.draw(
+                        chunk.type(row),
+                        chunk.sizeInPixels(row),
+                        chunk.x(row),
+                        chunk.y(row),
+                        chunk.argb(row));
+                  }
+                } finally {
+                  chunk.release();
+                }
+              });
+        });
+  }
+
+  private static void save(ShapeImporter importer, CommandRequest request) throws IOException {
+    Scene scene = new Scene();
+    run(
+        importer,
+        request,
+        chunk -> {
+          for (int row = 0; row < chunk.rows(); row++) {
+            scene.add(
+                chunk.type(row),
+                chunk.sizeInPixels(row),
+                chunk.x(row),
+                chunk.y(row),
+                chunk.argb(row));
+          }
+          chunk.release();
+        });
+    SceneFile.save(scene, request.path(1));
+  }
+
+  private static void run(ShapeImporter importer, CommandRequest request, Consumer<ShapeChunk> sink)
+      throws IOException {
+    if (request.params().get(0).equals(STANDARD_INPUT)) {
+      importer.run(System.in, sink);
+      return;
+    }
+    try (InputStream stream = Files.newInputStream(request.path(0))) {
+      importer.run(stream, sink);
+    }
+  }
+
+  private void validatePreConditions(CommandRequest request) {
+    PreConditions.requireNotNull(request, "request must not be null")
+        .and(
+            request.params().size() == 1 || request.params().size() == 2,
+            "request must have one or two arguments")
+        .andNotBlank(request.params().get(0), "input must not be blank");
+  }
+}
@@ -0,0 +1,9 @@
+package com.pedromg.bluej.shapes.importer;
+
+/**
+ * The outcome of an import.
+ *
+ * @param shapes the number of shapes handed over in chunks
+ * @param rejectedLines the number of lines that were reported and skipped
+ */
+public record ImportSummary(long shapes, long rejectedLines) {}
@@ -0,0 +1,115 @@
+package com.pedromg.bluej.shapes.importer;
+
+import com.pedromg.bluej.shapes.domain.ShapeBatch;
+import com.pedromg.bluej.shapes.domain.ShapeType;
+import com.pedromg.bluej.shapes.domain.ValidationReport;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * A reusable block of imported shapes, stored as primitive columns.
+ *
+ * <p>Chunks come from a fixed pool owned by the {@link ShapeImporter}. Whoever receives a chunk
+ * must call {@link #release()} once done with it; until then the importer cannot reuse it, which is
+ * what bounds the memory of an import.
+ */
+public final class ShapeChunk {
+
+  private final byte[] typeCodes;
+  private final int[] sizes;
+  private final int[] argbs;
+  private final int[] xs;
+  private final int[] ys;
+  private final long[] lines;
+  private final BlockingQueue<ShapeChunk> pool;
+  private int rows;
+
+  ShapeChunk(int capacity, BlockingQueue<ShapeChunk> pool) {
+    this.typeCodes = new byte[capacity];
+    this.sizes = new int[capacity];
+    this.argbs = new int[capacity];
+    this.xs = new int[capacity];
+    this.ys = new int[capacity];
+    this.lines = new long[capacity];
+    this.pool = pool;
+  }
+
+  public int rows() {
+    return rows;
+  }
+
+  /** Returns the type of the shape at {@code row}. */
+  public ShapeType type(int row) {
+    return ShapeType.fromCode(typeCodes[row]);
+  }
+
+  /** Returns the radius (circles) or side length (squares and triangles) at {@code row}. */
+  public int sizeInPixels(int row) {
+    return sizes[row];
+  }
+
+  /** Returns the left edge of the shape at {@code row}. */
+  public int x(int row) {
+    return xs[row];
+  }
+
+  /** Returns the top edge of the shape at {@code row}. */
+  public int y(int row) {
+    return ys[row];
+  }
+
+  /** Returns the packed ARGB color of the shape at {@code row}. */
+  public int argb(int row) {
+    return argbs[row];
+  }
+
+  /** Returns the line of the input the shape at {@code row} was read from, starting at 1. */
+  public long line(int row) {
+    return lines[row];
+  }
+
+  /** Hands this chunk back to its importer, which may then overwrite it. */
+  public void release() {
+    rows = 0;
+    pool.add(this);
+  }
+
+  boolean isFull() {
+    return rows == typeCodes.length;
+  }
+
+  void add(int typeCode, int size, int argb, int x, int y, long line) {
+    typeCodes[rows] = (byte) typeCode;
+    sizes[rows] = size;
+    argbs[rows] = argb;
+    xs[rows] = x;
+    ys[rows] = y;
+    lines[rows] = line;
+    rows++;
+  }
+
+  ValidationReport validate() {
+    return new ShapeBatch(typeCodes, sizes, argbs, rows).validate();
+  }
+
+  /** Drops the rows of the report, keeping the others in order. */
+  void removeInvalid(ValidationReport report) {
+    int kept = 0;
+    int error = 0;
+    for (int row = 0; row < rows; row++) {
+      if (error < report.errorCount() && report.row(error) == row) {
+        while (error < report.errorCount() && report.row(error) == row) {
+          error++;
+        }
+        continue;
+      }
+      typeCodes[kept] = typeCodes[row];
+      sizes[kept] = sizes[row];
+      argbs[kept] = argbs[row];
+      xs[kept] = xs[row];
+      ys[kept] = ys[row];
+      lines[kept] = lines[row];
+      kept++;
+    }
+    rows = kept;
+  }
+}
@@ -0,0 +1,228 @@
+package com.pedromg.bluej.shapes.importer;
+
+import com.pedromg.bluej.shapes.domain.ValidationReport;
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.PrintStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+
+/**
+ * Streams shapes from text, one per line, and hands them over in chunks as they are read.
+ *
+ * <p>Lines are CSV, {@code type,size,color,x,y}, or JSON objects with the same keys; both may be
+ * mixed, blank lines are skipped and a first line of {@code type,size,color,x,y} is taken as a
+ * header. Bytes are parsed in place from a fixed read buffer, and shapes are collected into a fixed
+ * pool of {@link ShapeChunk chunks}. Each full chunk is validated in bulk and passed on; reading
+ * then goes on with a free chunk, and waits when none is left. Memory is therefore bounded by the
+ * buffer and the pool, whatever the size of the input, and a slow consumer slows the import down.
+ *
+ * <p>A line that cannot be parsed or breaks a validation rule is reported with its line number and
+ * skipped.
+ */
+public class ShapeImporter {
+
+  public static final int DEFAULT_CHUNK_ROWS = 4096;
+  public static final int DEFAULT_CHUNKS = 4;
+  public static final int DEFAULT_BUFFER_BYTES = 64 * 1024;
+
+  static final String LINE_TOO_LONG = "line is too long";
+
+  private final int chunkRows;
+  private final int chunks;
+  private final int bufferBytes;
+  private final PrintStream errors;
+
+  /**
+   * Creates a ShapeImporter with the default chunk and buffer sizes.
+   *
+   * @param errors where rejected lines are reported; must not be null
+   * @throws PreConditionsException if errors is null
+   */
+  public ShapeImporter(PrintStream errors) {
+    this(DEFAULT_CHUNK_ROWS, DEFAULT_CHUNKS, DEFAULT_BUFFER_BYTES, errors);
+  }
+
+  /**
+   * Creates a ShapeImporter
+   *
+   * @param chunkRows the number of shapes per chunk; must be positive
+   * @param chunks the number of chunks that may be in use at once; must be positive
+   * @param bufferBytes the size of the read buffer, which is also the longest line; must be
+   *     positive
+   * @param errors where rejected lines are reported; must not be null
+   * @throws PreConditionsException if any argument is invalid
+   */
+  public ShapeImporter(int chunkRows, int chunks, int bufferBytes, PrintStream errors) {
+    PreConditions.requirePositive(chunkRows, "chunkRows must be positive")
+        .andPositive(chunks, "chunks must be positive")
+        .andPositive(bufferBytes, "bufferBytes must be positive")
+        .andNotNull(errors, "errors must not be null");
+
+    this.chunkRows = chunkRows;
+    this.chunks = chunks;
+    this.bufferBytes = bufferBytes;
+    this.errors = errors;
+  }
+
+  /**
+   * Returns an importer with the same chunk and buffer sizes that reports rejected lines elsewhere.
+   *
+   * @param errors where rejected lines are reported; must not be null
+   * @throws PreConditionsException if errors is null
+   * @return the importer reporting to {@code errors}
+   */
+  public ShapeImporter reportingTo(PrintStream errors) {
+    return new ShapeImporter(chunkRows, chunks, bufferBytes, errors);
+  }
+
+  /**
+   * Reads every line of the input on the calling thread, passing each chunk of valid shapes to
+   * {@code sink} as soon as it fills up, and the last one at the end.
+   *
+   * <p>The sink owns each chunk it receives until it calls {@link ShapeChunk#release()}, and may
+   * hand it to another thread. The sink stops the import by throwing an unchecked exception, which
+   * is passed on to the caller. The input is not closed.
+   *
+   * @param input the text to import, in UTF-8 or ASCII; must not be null
+   * @param sink receives the chunks of valid shapes; must not be null
+   * @throws PreConditionsException if an argument is null
+   * @throws IOException if the input cannot be read, or the thread is interrupted while waiting for
+   *     a free chunk
+   * @return the number of shapes imported and of lines rejected
+   */
+  public ImportSummary run(InputStream input, Consumer<ShapeChunk> sink) throws IOException {
+    PreConditions.requireNotNull(input, "input must not be null")
+        .andNotNull(sink, "sink must not be null");
+
+    BlockingQueue<ShapeChunk> pool = new ArrayBlockingQueue<>(chunks);
+    for (int i = 0; i < chunks; i++) {
+      pool.add(new ShapeChunk(chunkRows, pool));
+    }
+    ImportRun run = new ImportRun(pool, sink);
+
+    byte[] buffer = new byte[bufferBytes];
+    int start = 0;
+    int scan = 0;
+    int limit = 0;
+    boolean skipping = false;
+    int read;
+    while ((read = input.read(buffer, limit, buffer.length - limit)) >= 0) {
+      limit += read;
+      for (; scan < limit; scan++) {
+        if (buffer[scan] == '\n') {
+          if (skipping) {
+            run.line++;
+            skipping = false;
+          } else {
+            run.accept(buffer, start, scan);
+          }
+          start = scan + 1;
+        }
+      }
+      if (start == 0 && limit == buffer.length) {
+        if (!skipping) {
+          run.reject(run.line + 1, LINE_TOO_LONG);
+          skipping = true;
+        }
+        start = 0;
+        scan = 0;
+        limit = 0;
+      } else {
+        System.arraycopy(buffer, start, buffer, 0, limit - start);
+        limit -= start;
+        scan -= start;
+        start = 0;
+      }
+    }
+    if (!skipping && start < limit) {
+      run.accept(buffer, start, limit);
+    }
+    run.finish();
+    return new ImportSummary(run.shapes, run.rejectedLines);
+  }
+
+  /** The state of one call to {@link #run}. */
+  private final class ImportRun {
+
+    private final BlockingQueue<ShapeChunk> pool;
+    private final Consumer<ShapeChunk> sink;
+    private final ShapeLineParser parser = new ShapeLineParser();
+    private ShapeChunk chunk;
+    private long line;
+    private long shapes;
+    private long rejectedLines;
+
+    private ImportRun(BlockingQueue<ShapeChunk> pool, Consumer<ShapeChunk> sink) {
+      this.pool = pool;
+      this.sink = sink;
+    }
+
+    private void accept(byte[] bytes, int start, int end) throws IOException {
+      line++;
+      start = ShapeLineParser.trimStart(bytes, start, end);
+      end = ShapeLineParser.trimEnd(bytes, start, end);
+      if (start == end || (line == 1 && ShapeLineParser.isCsvHeader(bytes, start, end))) {
+        return;
+      }
+
+      String error = parser.parse(bytes, start, end);
+      if (error != null) {
+        reject(line, error);
+        return;
+      }
+      if (chunk == null) {
+        chunk = take();
+      }
+      chunk.add(parser.typeCode(), parser.size(), parser.argb(), parser.x(), parser.y(), line);
+      if (chunk.isFull()) {
+        deliver();
+      }
+    }
+
+    private void reject(long line, String reason) {
+      errors.printf("line %d: %s%n", line, reason);
+      rejectedLines++;
+    }
+
+    private void finish() {
+      if (chunk != null) {
+        deliver();
+      }
+    }
+
+    private void deliver() {
+      ShapeChunk full = chunk;
+      chunk = null;
+
+      ValidationReport report = full.validate();
+      if (!report.isValid()) {
+        for (int i = 0; i < report.errorCount(); i++) {
+          errors.printf("line %d: %s%n", full.line(report.row(i)), report.rule(i).message());
+        }
+        rejectedLines += report.invalidRows();
+        full.removeInvalid(report);
+      }
+
+      shapes += full.rows();
+      if (full.rows() > 0) {
+        sink.accept(full);
+      } else {
+        full.release();
+      }
+    }
+
+    private ShapeChunk take() throws IOException {
+      try {
+        return pool.take();
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("interrupted while waiting for a free chunk");
+      }
+    }
+  }
+}
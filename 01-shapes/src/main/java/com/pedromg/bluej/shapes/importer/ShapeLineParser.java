@@ -0,0 +1,311 @@
+package com.pedromg.bluej.shapes.importer;
+
+import com.pedromg.bluej.shapes.domain.ShapeType;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parses one shape per line, straight from the bytes of the input.
+ *
+ * <p>A line is either CSV, {@code type,size,color,x,y}, or a flat JSON object with the same keys,
+ * such as {@code {"type":"circle","size":10,"color":"#ff0000","x":0,"y":0}}. Colors are {@code
+ * #rrggbb} or {@code #aarrggbb}. Fields are read in place and no {@code String} is created, so
+ * parsing a line does not allocate. An unknown type is not an error here: it is parsed as type code
+ * {@code -1} and left to the {@link com.pedromg.bluej.shapes.domain.ShapeBatch validation}.
+ */
+final class ShapeLineParser {
+
+  static final String WRONG_FIELD_COUNT = "expected type,size,color,x,y";
+  static final String BAD_SIZE = "size must be a number";
+  static final String BAD_COLOR = "color must be a #rrggbb or #aarrggbb value";
+  static final String BAD_POSITION = "position must be a non-negative number";
+  static final String MALFORMED_JSON = "malformed JSON object";
+  static final String MISSING_JSON_FIELD = "JSON object must have type, size, color, x and y";
+
+  private static final int TYPE = 0;
+  private static final int SIZE = 1;
+  private static final int COLOR = 2;
+  private static final int X = 3;
+  private static final int Y = 4;
+  private static final byte[][] KEYS = ascii("type", "size", "color", "x", "y");
+  private static final int ALL_KEYS = (1 << KEYS.length) - 1;
+
+  private static final byte[][] LABELS = labels();
+  private static final byte[] CSV_HEADER =
+      "type,size,color,x,y".getBytes(StandardCharsets.US_ASCII);
+
+  private int typeCode;
+  private int size;
+  private int argb;
+  private int x;
+  private int y;
+
+  /** The value of the last number or color parsed. */
+  private int value;
+
+  int typeCode() {
+    return typeCode;
+  }
+
+  int size() {
+    return size;
+  }
+
+  int argb() {
+    return argb;
+  }
+
+  int x() {
+    return x;
+  }
+
+  int y() {
+    return y;
+  }
+
+  /**
+   * Tests whether a trimmed line is the optional CSV header.
+   *
+   * @return true if the line is {@code type,size,color,x,y}
+   */
+  static boolean isCsvHeader(byte[] bytes, int start, int end) {
+    return equalsAscii(bytes, start, end, CSV_HEADER);
+  }
+
+  /**
+   * Parses a trimmed, non-empty line into the fields of this parser.
+   *
+   * @return null on success, otherwise the reason the line was rejected
+   */
+  String parse(byte[] bytes, int start, int end) {
+    return bytes[start] == '{' ? parseJson(bytes, start + 1, end) : parseCsv(bytes, start, end);
+  }
+
+  private String parseCsv(byte[] bytes, int start, int end) {
+    int position = start;
+    for (int field = TYPE; field <= Y; field++) {
+      int fieldEnd = indexOf(bytes, (byte) ',', position, end);
+      if ((fieldEnd == end) != (field == Y)) {
+        return WRONG_FIELD_COUNT;
+      }
+      String error =
+          parseField(
+              field,
+              bytes,
+              trimStart(bytes, position, fieldEnd),
+              trimEnd(bytes, position, fieldEnd));
+      if (error != null) {
+        return error;
+      }
+      position = fieldEnd + 1;
+    }
+    return null;
+  }
+
+  private String parseJson(byte[] bytes, int start, int end) {
+    int seen = 0;
+    int position = skipSpaces(bytes, start, end);
+    while (position < end && bytes[position] != '}') {
+      if (bytes[position] != '"') {
+        return MALFORMED_JSON;
+      }
+      int keyStart = position + 1;
+      int keyEnd = indexOf(bytes, (byte) '"', keyStart, end);
+      position = skipSpaces(bytes, keyEnd + 1, end);
+      if (position >= end || bytes[position] != ':') {
+        return MALFORMED_JSON;
+      }
+      position = skipSpaces(bytes, position + 1, end);
+
+      int valueStart;
+      int valueEnd;
+      if (position < end && bytes[position] == '"') {
+        valueStart = position + 1;
+        valueEnd = indexOf(bytes, (byte) '"', valueStart, end);
+        if (valueEnd == end) {
+          return MALFORMED_JSON;
+        }
+        position = valueEnd + 1;
+      } else {
+        valueStart = position;
+        while (position < end && isNumberByte(bytes[position])) {
+          position++;
+        }
+        valueEnd = position;
+      }
+
+      int field = key(bytes, keyStart, keyEnd);
+      if (field >= 0) {
+        String error = parseField(field, bytes, valueStart, valueEnd);
+        if (error != null) {
+          return error;
+        }
+        seen |= 1 << field;
+      }
+
+      position = skipSpaces(bytes, position, end);
+      if (position < end && bytes[position] == ',') {
+        position = skipSpaces(bytes, position + 1, end);
+      } else if (position >= end || bytes[position] != '}') {
+        return MALFORMED_JSON;
+      }
+    }
+    if (position >= end || skipSpaces(bytes, position + 1, end) != end) {
+      return MALFORMED_JSON;
+    }
+    return seen == ALL_KEYS ? null : MISSING_JSON_FIELD;
+  }
+
+  private String parseField(int field, byte[] bytes, int start, int end) {
+    switch (field) {
+      case TYPE -> typeCode = type(bytes, start, end);
+      case SIZE -> {
+        if (!parseInt(bytes, start, end)) {
+          return BAD_SIZE;
+        }
+        size = value;
+      }
+      case COLOR -> {
+        if (!parseColor(bytes, start, end)) {
+          return BAD_COLOR;
+        }
+        argb = value;
+      }
+      case X, Y -> {
+        if (!parseInt(bytes, start, end) || value < 0) {
+          return BAD_POSITION;
+        }
+        if (field == X) {
+          x = value;
+        } else {
+          y = value;
+        }
+      }
+      default -> throw new IllegalArgumentException("unknown field: " + field);
+    }
+    return null;
+  }
+
+  private static int type(byte[] bytes, int start, int end) {
+    for (int code = 0; code < LABELS.length; code++) {
+      if (equalsAscii(bytes, start, end, LABELS[code])) {
+        return code;
+      }
+    }
+    return -1;
+  }
+
+  private static int key(byte[] bytes, int start, int end) {
+    for (int field = 0; field < KEYS.length; field++) {
+      if (equalsAscii(bytes, start, end, KEYS[field])) {
+        return field;
+      }
+    }
+    return -1;
+  }
+
+  private boolean parseInt(byte[] bytes, int start, int end) {
+    boolean negative = start < end && bytes[start] == '-';
+    int position = negative ? start + 1 : start;
+    if (position == end) {
+      return false;
+    }
+    long result = 0;
+    for (; position < end; position++) {
+      int digit = bytes[position] - '0';
+      if (digit < 0 || digit > 9) {
+        return false;
+      }
+      result = result * 10 + digit;
+      if (result > Integer.MAX_VALUE + 1L) {
+        return false;
+      }
+    }
+    result = negative ? -result : result;
+    if (result > Integer.MAX_VALUE) {
+      return false;
+    }
+    value = (int) result;
+    return true;
+  }
+
+  private boolean parseColor(byte[] bytes, int start, int end) {
+    int digits = end - start - 1;
+    if ((digits != 6 && digits != 8) || bytes[start] != '#') {
+      return false;
+    }
+    int result = 0;
+    for (int position = start + 1; position < end; position++) {
+      int digit = Character.digit(bytes[position], 16);
+      if (digit < 0) {
+        return false;
+      }
+      result = (result << 4) | digit;
+    }
+    value = digits == 6 ? 0xff000000 | result : result;
+    return true;
+  }
+
+  private static boolean isNumberByte(byte b) {
+    return b == '-' || (b >= '0' && b <= '9');
+  }
+
+  private static boolean equalsAscii(byte[] bytes, int start, int end, byte[] expected) {
+    if (end - start != expected.length) {
+      return false;
+    }
+    for (int i = 0; i < expected.length; i++) {
+      if (bytes[start + i] != expected[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  static int indexOf(byte[] bytes, byte target, int start, int end) {
+    for (int position = start; position < end; position++) {
+      if (bytes[position] == target) {
+        return position;
+      }
+    }
+    return end;
+  }
+
+  static int trimStart(byte[] bytes, int start, int end) {
+    while (start < end && isSpace(bytes[start])) {
+      start++;
+    }
+    return start;
+  }
+
+  static int trimEnd(byte[] bytes, int start, int end) {
+    while (end > start && isSpace(bytes[end - 1])) {
+      end--;
+    }
+    return end;
+  }
+
+  private static int skipSpaces(byte[] bytes, int start, int end) {
+    return trimStart(bytes, start, end);
+  }
+
+  private static boolean isSpace(byte b) {
+    return b == ' ' || b == '\t' || b == '\r';
+  }
+
+  private static byte[][] ascii(String... words) {
+    byte[][] bytes = new byte[words.length][];
+    for (int i = 0; i < words.length; i++) {
+      bytes[i] = words[i].getBytes(StandardCharsets.US_ASCII);
+    }
+    return bytes;
+  }
+
+  private static byte[][] labels() {
+    ShapeType[] types = ShapeType.values();
+    String[] labels = new String[types.length];
+    for (int code = 0; code < types.length; code++) {
+      labels[code] = types[code].label();
+    }
+    return ascii(labels);
+  }
+}
@@ -0,0 +1,48 @@
+package com.pedromg.bluej.shapes.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.pedromg.bluej.shapes.CommandDispatch")
+@Label("Command Dispatch")
+@Description("Dispatch of a command request to its handler, including the handler's own work")
+@Category({"Shapes", "Command"})
+public final class CommandDispatchEvent extends Event {
+
+  public static final String OK = "ok";
+  public static final String UNKNOWN = "unknown";
+  public static final String FAILED = "failed";
+  public static final String CANCELLED = "cancelled";
+
+  @Label("Action")
+  private String action;
+
+  @Label("Handler")
+  private String handler;
+
+  @Label("Outcome")
+  @Description(
+      "ok, unknown (no handler for the action), failed (the handler threw) or cancelled (the"
+          + " command was cancelled or timed out)")
+  private String outcome;
+
+  /**
+   * Ends the event and commits it if it is enabled and over its threshold.
+   *
+   * @param action the action of the request
+   * @param handler the class of the handler, or null if there was none
+   * @param outcome {@link #OK}, {@link #UNKNOWN}, {@link #FAILED} or {@link #CANCELLED}
+   */
+  public void commit(String action, Class<?> handler, String outcome) {
+    end();
+    if (shouldCommit()) {
+      this.action = action;
+      this.handler = handler == null ? null : handler.getName();
+      this.outcome = outcome;
+      commit();
+    }
+  }
+}
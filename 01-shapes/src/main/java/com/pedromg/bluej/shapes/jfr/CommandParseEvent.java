@@ -0,0 +1,30 @@
+package com.pedromg.bluej.shapes.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.pedromg.bluej.shapes.CommandParse")
+@Label("Command Parse")
+@Description("Parsing of the command line arguments into a request")
+@Category({"Shapes", "Command"})
+public final class CommandParseEvent extends Event {
+
+  @Label("Arguments")
+  private int arguments;
+
+  /**
+   * Ends the event and commits it if it is enabled and over its threshold.
+   *
+   * @param arguments the number of arguments parsed
+   */
+  public void commit(int arguments) {
+    end();
+    if (shouldCommit()) {
+      this.arguments = arguments;
+      commit();
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package com.pedromg.bluej.shapes.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.pedromg.bluej.shapes.DemoExecute")
+@Label("Demo Execute")
+@Description("Execution of a demo on a freshly shown canvas")
+@Category({"Shapes", "Demo"})
+public final class DemoExecuteEvent extends Event {
+
+  @Label("Demo")
+  private String demo;
+
+  /**
+   * Ends the event and commits it if it is enabled and over its threshold.
+   *
+   * @param demo the class of the demo
+   */
+  public void commit(Class<?> demo) {
+    end();
+    if (shouldCommit()) {
+      this.demo = demo.getName();
+      commit();
+    }
+  }
+}
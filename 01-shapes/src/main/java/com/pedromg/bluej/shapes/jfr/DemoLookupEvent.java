@@ -0,0 +1,30 @@
+package com.pedromg.bluej.shapes.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.pedromg.bluej.shapes.DemoLookup")
+@Label("Demo Lookup")
+@Description("Lookup of a demo in the catalog, including its creation")
+@Category({"Shapes", "Demo"})
+public final class DemoLookupEvent extends Event {
+
+  @Label("Demo")
+  private String demo;
+
+  /**
+   * Ends the event and commits it if it is enabled and over its threshold.
+   *
+   * @param demo the name looked up
+   */
+  public void commit(String demo) {
+    end();
+    if (shouldCommit()) {
+      this.demo = demo;
+      commit();
+    }
+  }
+}
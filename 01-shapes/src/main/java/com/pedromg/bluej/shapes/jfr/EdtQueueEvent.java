@@ -0,0 +1,31 @@
+package com.pedromg.bluej.shapes.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.pedromg.bluej.shapes.EdtQueue")
+@Label("EDT Queueing")
+@Description("Time a task waited in the event queue before the event dispatch thread ran it")
+@Category({"Shapes", "Swing"})
+public final class EdtQueueEvent extends Event {
+
+  @Label("Task")
+  private String task;
+
+  /**
+   * Ends the event and commits it if it is enabled and over its threshold. Call it first thing in
+   * the task, on the event dispatch thread.
+   *
+   * @param task what the task does
+   */
+  public void commit(String task) {
+    end();
+    if (shouldCommit()) {
+      this.task = task;
+      commit();
+    }
+  }
+}
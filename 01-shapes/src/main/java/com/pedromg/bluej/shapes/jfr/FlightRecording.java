@@ -0,0 +1,65 @@
+package com.pedromg.bluej.shapes.jfr;
+
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+public final class FlightRecording implements AutoCloseable {
+
+  private static final String SETTINGS = "default";
+
+  private final Recording recording;
+
+  private FlightRecording(Recording recording) {
+    this.recording = recording;
+  }
+
+  /**
+   * Starts a recording of the JDK's default events plus every event of this app, without any
+   * duration threshold, to be written to the given file when it is closed or, at the latest, when
+   * the JVM exits.
+   *
+   * @param destination the file the recording is written to
+   * @throws PreConditionsException if the destination is null
+   * @throws UncheckedIOException if the destination cannot be written
+   * @return the running recording
+   */
+  public static FlightRecording start(Path destination) {
+    PreConditions.requireNotNull(destination, "destination must not be null");
+
+    try {
+      Recording recording = new Recording(Configuration.getConfiguration(SETTINGS));
+      recording.setName("shapes");
+      recording.setToDisk(true);
+      recording.setDestination(destination);
+      recording.setDumpOnExit(true);
+      recording.enable(CommandParseEvent.class).withoutThreshold();
+      recording.enable(CommandDispatchEvent.class).withoutThreshold();
+      recording.enable(DemoLookupEvent.class).withoutThreshold();
+      recording.enable(DemoExecuteEvent.class).withoutThreshold();
+      recording.enable(EdtQueueEvent.class).withoutThreshold();
+      recording.enable(PaintEvent.class).withoutThreshold();
+      recording.start();
+      return new FlightRecording(recording);
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    } catch (ParseException exception) {
+      throw new IllegalStateException("JDK settings '" + SETTINGS + "' are invalid", exception);
+    }
+  }
+
+  /** Stops the recording and writes it to its destination, unless that already happened. */
+  @Override
+  public void close() {
+    if (recording.getState() == RecordingState.RUNNING) {
+      recording.stop();
+    }
+    recording.close();
+  }
+}
@@ -0,0 +1,40 @@
+package com.pedromg.bluej.shapes.jfr;
+
+import java.awt.Rectangle;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.pedromg.bluej.shapes.Paint")
+@Label("Paint")
+@Description("A paintComponent call of a shape or scene panel")
+@Category({"Shapes", "Swing"})
+public final class PaintEvent extends Event {
+
+  @Label("Component")
+  private String component;
+
+  @Label("Clip Width")
+  private int clipWidth;
+
+  @Label("Clip Height")
+  private int clipHeight;
+
+  /**
+   * Ends the event and commits it if it is enabled and over its threshold.
+   *
+   * @param component the class of the painted component
+   * @param clip the area repainted, or null if it is the whole component
+   */
+  public void commit(Class<?> component, Rectangle clip) {
+    end();
+    if (shouldCommit()) {
+      this.component = component.getName();
+      this.clipWidth = clip == null ? -1 : clip.width;
+      this.clipHeight = clip == null ? -1 : clip.height;
+      commit();
+    }
+  }
+}
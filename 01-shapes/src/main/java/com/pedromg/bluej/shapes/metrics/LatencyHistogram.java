@@ -0,0 +1,105 @@
+package com.pedromg.bluej.shapes.metrics;
+
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of durations in nanoseconds that many threads can record into without locking.
+ *
+ * <p>Durations fall into log-linear buckets: every power of two is split into 32 equal buckets, so
+ * a percentile is off by at most about 3% whatever its magnitude, and the whole range of a {@code
+ * long} fits in a fixed array of under two thousand counters allocated once. Recording is a couple
+ * of atomic increments and never allocates.
+ *
+ * <p>Reads are not a consistent snapshot: counts recorded while a percentile is being computed may
+ * or may not be included.
+ */
+public final class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final AtomicLong total = new AtomicLong();
+  private final AtomicLong max = new AtomicLong();
+
+  /**
+   * Records a duration. Negative durations are recorded as zero.
+   *
+   * @param nanos the duration in nanoseconds
+   */
+  public void record(long nanos) {
+    long value = Math.max(nanos, 0);
+    counts.incrementAndGet(bucketOf(value));
+    total.incrementAndGet();
+
+    long current = max.get();
+    while (value > current && !max.compareAndSet(current, value)) {
+      current = max.get();
+    }
+  }
+
+  public long count() {
+    return total.get();
+  }
+
+  public long max() {
+    return max.get();
+  }
+
+  /**
+   * Returns the duration that the given fraction of the recorded durations does not exceed.
+   *
+   * @param percentile the percentile, from 0 to 100
+   * @throws PreConditionsException if the percentile is out of range
+   * @return the upper bound of the bucket holding the percentile, capped at the maximum, or 0 if
+   *     nothing was recorded
+   */
+  public long percentile(double percentile) {
+    PreConditions.require(percentile >= 0 && percentile <= 100, "percentile must be in [0, 100]");
+
+    long recorded = total.get();
+    if (recorded == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(recorded * percentile / 100));
+    long seen = 0;
+    for (int bucket = 0; bucket < BUCKETS; bucket++) {
+      seen += counts.get(bucket);
+      if (seen >= rank) {
+        return Math.min(upperBoundOf(bucket), max.get());
+      }
+    }
+    return max.get();
+  }
+
+  /** Forgets every recorded duration. */
+  public void reset() {
+    for (int bucket = 0; bucket < BUCKETS; bucket++) {
+      counts.set(bucket, 0);
+    }
+    total.set(0);
+    max.set(0);
+  }
+
+  static int bucketOf(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+    int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+    return (shift + 1) * SUB_BUCKETS + subBucket;
+  }
+
+  static long upperBoundOf(int bucket) {
+    if (bucket < 2 * SUB_BUCKETS) {
+      return bucket;
+    }
+    int shift = bucket / SUB_BUCKETS - 1;
+    long subBucket = bucket % SUB_BUCKETS + SUB_BUCKETS;
+    return ((subBucket + 1) << shift) - 1;
+  }
+}
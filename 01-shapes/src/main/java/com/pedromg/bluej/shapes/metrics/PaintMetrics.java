@@ -0,0 +1,174 @@
+package com.pedromg.bluej.shapes.metrics;
+
+import com.pedromg.bluej.shapes.domain.ShapeType;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Paint durations of whole frames and of single shapes by type.
+ *
+ * <p>Every duration goes into a {@link LatencyHistogram}, so panels can record from the event
+ * dispatch thread while JMX clients read percentiles from theirs.
+ *
+ * <p>Timing every shape costs two clock reads and a histogram update per shape, so it is off until
+ * {@link #setShapeTimingEnabled(boolean) enabled}, over JMX or by showing a paint time overlay.
+ * Frames are always recorded.
+ */
+public class PaintMetrics implements PaintMetricsMBean {
+
+  public static final String OBJECT_NAME = "com.pedromg.bluej.shapes:type=PaintMetrics";
+
+  private static PaintMetrics platform;
+
+  private final LatencyHistogram frames = new LatencyHistogram();
+  private final LatencyHistogram[] shapes = new LatencyHistogram[ShapeType.values().length];
+
+  private volatile boolean shapeTimingEnabled;
+
+  public PaintMetrics() {
+    for (int i = 0; i < shapes.length; i++) {
+      shapes[i] = new LatencyHistogram();
+    }
+  }
+
+  /**
+   * Returns the metrics of this process, registering them in the platform MBean server under
+   * {@value #OBJECT_NAME} the first time.
+   *
+   * <p>If registration fails the metrics are still recorded, just not exposed.
+   *
+   * @return the process-wide metrics
+   */
+  public static synchronized PaintMetrics platform() {
+    if (platform == null) {
+      platform = new PaintMetrics();
+      try {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(OBJECT_NAME);
+        if (!server.isRegistered(name)) {
+          server.registerMBean(platform, name);
+        }
+      } catch (JMException exception) {
+        System.err.println("paint metrics are not exposed over JMX: " + exception.getMessage());
+      }
+    }
+    return platform;
+  }
+
+  /**
+   * Records the time it took to paint a frame.
+   *
+   * @param nanos the duration in nanoseconds
+   */
+  public void recordFrame(long nanos) {
+    frames.record(nanos);
+  }
+
+  /**
+   * Records the time it took to paint a single shape.
+   *
+   * @param type the type of the shape
+   * @param nanos the duration in nanoseconds
+   */
+  public void recordShape(ShapeType type, long nanos) {
+    shapes[type.ordinal()].record(nanos);
+  }
+
+  @Override
+  public boolean isShapeTimingEnabled() {
+    return shapeTimingEnabled;
+  }
+
+  @Override
+  public void setShapeTimingEnabled(boolean enabled) {
+    shapeTimingEnabled = enabled;
+  }
+
+  public LatencyHistogram frames() {
+    return frames;
+  }
+
+  public LatencyHistogram shapes(ShapeType type) {
+    return shapes[type.ordinal()];
+  }
+
+  @Override
+  public long getFrameCount() {
+    return frames.count();
+  }
+
+  @Override
+  public long getFrameP50Micros() {
+    return micros(frames.percentile(50));
+  }
+
+  @Override
+  public long getFrameP99Micros() {
+    return micros(frames.percentile(99));
+  }
+
+  @Override
+  public long getFrameMaxMicros() {
+    return micros(frames.max());
+  }
+
+  @Override
+  public long getCircleP50Micros() {
+    return micros(shapes(ShapeType.CIRCLE).percentile(50));
+  }
+
+  @Override
+  public long getCircleP99Micros() {
+    return micros(shapes(ShapeType.CIRCLE).percentile(99));
+  }
+
+  @Override
+  public long getCircleMaxMicros() {
+    return micros(shapes(ShapeType.CIRCLE).max());
+  }
+
+  @Override
+  public long getSquareP50Micros() {
+    return micros(shapes(ShapeType.SQUARE).percentile(50));
+  }
+
+  @Override
+  public long getSquareP99Micros() {
+    return micros(shapes(ShapeType.SQUARE).percentile(99));
+  }
+
+  @Override
+  public long getSquareMaxMicros() {
+    return micros(shapes(ShapeType.SQUARE).max());
+  }
+
+  @Override
+  public long getTriangleP50Micros() {
+    return micros(shapes(ShapeType.TRIANGLE).percentile(50));
+  }
+
+  @Override
+  public long getTriangleP99Micros() {
+    return micros(shapes(ShapeType.TRIANGLE).percentile(99));
+  }
+
+  @Override
+  public long getTriangleMaxMicros() {
+    return micros(shapes(ShapeType.TRIANGLE).max());
+  }
+
+  @Override
+  public void reset() {
+    frames.reset();
+    for (LatencyHistogram histogram : shapes) {
+      histogram.reset();
+    }
+  }
+
+  private static long micros(long nanos) {
+    return TimeUnit.NANOSECONDS.toMicros(nanos);
+  }
+}
@@ -0,0 +1,43 @@
+package com.pedromg.bluej.shapes.metrics;
+
+/** Paint durations exposed over JMX, in microseconds. */
+public interface PaintMetricsMBean {
+
+  long getFrameCount();
+
+  long getFrameP50Micros();
+
+  long getFrameP99Micros();
+
+  long getFrameMaxMicros();
+
+  long getCircleP50Micros();
+
+  long getCircleP99Micros();
+
+  long getCircleMaxMicros();
+
+  long getSquareP50Micros();
+
+  long getSquareP99Micros();
+
+  long getSquareMaxMicros();
+
+  long getTriangleP50Micros();
+
+  long getTriangleP99Micros();
+
+  long getTriangleMaxMicros();
+
+  boolean isShapeTimingEnabled();
+
+  /**
+   * Turns the recording of single shape durations on or off; frames are always recorded.
+   *
+   * @param enabled whether single shapes are timed
+   */
+  void setShapeTimingEnabled(boolean enabled);
+
+  /** Forgets every recorded duration. */
+  void reset();
+}
@@ -1,7 +1,19 @@
 package com.pedromg.bluej.shapes.preconditions;
 
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Validation of arguments, chained with {@code and...} calls.
+ *
+ * <p>Checks never allocate while they pass: every chain shares one stateless instance, and messages
+ * that need building are taken as a {@link Supplier} or as a template plus argument, formatted only
+ * when the check fails.
+ */
 public class PreConditions {
 
+  private static final PreConditions INSTANCE = new PreConditions();
+
   private PreConditions() {
     /* no-op */
   }
@@ -15,7 +27,7 @@ public class PreConditions {
    * @return this object, for method chaining
    */
   public static PreConditions require(Runnable preCondition, String message) {
-    return new PreConditions().and(preCondition, message);
+    return INSTANCE.and(preCondition, message);
   }
 
   /**
@@ -27,7 +39,60 @@ public class PreConditions {
    * @return this object for method chaining
    */
   public static PreConditions require(boolean preCondition, String message) {
-    return new PreConditions().and(preCondition, message);
+    return INSTANCE.and(preCondition, message);
+  }
+
+  /**
+   * Adds a precondition, which is valid only if {@code preCondition} evaluates to true. The message
+   * is only built if it fails.
+   *
+   * @param preCondition the assertion to test
+   * @param message supplies the error message
+   * @throws PreConditionsException if the {@code preCondition} is false
+   * @return this object for method chaining
+   */
+  public static PreConditions require(boolean preCondition, Supplier<String> message) {
+    return INSTANCE.and(preCondition, message);
+  }
+
+  /**
+   * Adds a precondition, which is valid only if {@code preCondition} evaluates to true. The message
+   * is only formatted if it fails.
+   *
+   * @param preCondition the assertion to test
+   * @param template the error message, a {@link String#format} template with one argument
+   * @param argument the argument of the template
+   * @throws PreConditionsException if the {@code preCondition} is false
+   * @return this object for method chaining
+   */
+  public static PreConditions require(boolean preCondition, String template, long argument) {
+    return INSTANCE.and(preCondition, template, argument);
+  }
+
+  /**
+   * Adds a precondition, which is valid only if {@code preCondition} evaluates to true. The message
+   * is only formatted if it fails.
+   *
+   * @param preCondition the assertion to test
+   * @param template the error message, a {@link String#format} template with one argument
+   * @param argument the argument of the template
+   * @throws PreConditionsException if the {@code preCondition} is false
+   * @return this object for method chaining
+   */
+  public static PreConditions require(boolean preCondition, String template, Object argument) {
+    return INSTANCE.and(preCondition, template, argument);
+  }
+
+  /**
+   * Adds a precondition, which is valid only if {@code value} is greater than zero.
+   *
+   * @param value the number to evaluate
+   * @param message the error message
+   * @throws PreConditionsException if the {@code value} is zero or negative
+   * @return this object for method chaining
+   */
+  public static PreConditions requirePositive(int value, String message) {
+    return INSTANCE.and(value > 0, message);
   }
 
   /**
@@ -63,7 +128,7 @@ public class PreConditions {
    * @return this object for method chaining
    */
   public static PreConditions requireNotBlank(String target, String message) {
-    return new PreConditions().andNotBlank(target, message);
+    return INSTANCE.andNotBlank(target, message);
   }
 
   /**
@@ -75,6 +140,7 @@ public class PreConditions {
    * @return this object, for method chaining
    */
   public PreConditions and(Runnable preCondition, String message) {
+    // The lambda and the try block make this the slowest check: keep it off hot paths
     try {
       preCondition.run();
       return this;
@@ -98,6 +164,68 @@ public class PreConditions {
     return this;
   }
 
+  /**
+   * Adds a precondition, which is valid only if {@code preCondition} evaluates to true. The message
+   * is only built if it fails.
+   *
+   * @param preCondition the assertion to test
+   * @param message supplies the error message
+   * @throws PreConditionsException if the {@code preCondition} is false
+   * @return this object for method chaining
+   */
+  public PreConditions and(boolean preCondition, Supplier<String> message) {
+    if (!preCondition) {
+      throw new PreConditionsException(message.get());
+    }
+    return this;
+  }
+
+  /**
+   * Adds a precondition, which is valid only if {@code preCondition} evaluates to true. The message
+   * is only formatted if it fails.
+   *
+   * @param preCondition the assertion to test
+   * @param template the error message, a {@link String#format} template with one argument
+   * @param argument the argument of the template
+   * @throws PreConditionsException if the {@code preCondition} is false
+   * @return this object for method chaining
+   */
+  public PreConditions and(boolean preCondition, String template, long argument) {
+    if (!preCondition) {
+      throw new PreConditionsException(String.format(Locale.ROOT, template, argument));
+    }
+    return this;
+  }
+
+  /**
+   * Adds a precondition, which is valid only if {@code preCondition} evaluates to true. The message
+   * is only formatted if it fails.
+   *
+   * @param preCondition the assertion to test
+   * @param template the error message, a {@link String#format} template with one argument
+   * @param argument the argument of the template
+   * @throws PreConditionsException if the {@code preCondition} is false
+   * @return this object for method chaining
+   */
+  public PreConditions and(boolean preCondition, String template, Object argument) {
+    if (!preCondition) {
+      throw new PreConditionsException(String.format(Locale.ROOT, template, argument));
+    }
+    return this;
+  }
+
+  /**
+   * Adds a precondition, which is valid only if {@code value} is greater than zero.
+   *
+   * @param value the number to evaluate
+   * @param message the error message
+   * @throws PreConditionsException if the {@code value} is zero or negative
+   * @return this object for method chaining
+   */
+  public PreConditions andPositive(int value, String message) {
+    return and(value > 0, message);
+  }
+
   /**
    * Adds a precondition, which is valid only if {@code preCondition} evaluates to false.
    *
@@ -9,4 +9,27 @@ public class PreConditionsException extends IllegalArgumentException {
   public PreConditionsException(String message, Throwable throwable) {
     super(message, throwable);
   }
+
+  /**
+   * Creates an exception that skips capturing the stack trace, which is most of the cost of
+   * creating one. Use it when the message alone locates the problem, such as a report of bad rows.
+   *
+   * @param message the error message
+   * @return the new exception
+   */
+  public static PreConditionsException withoutStackTrace(String message) {
+    return new StacklessPreConditionsException(message);
+  }
+
+  private static final class StacklessPreConditionsException extends PreConditionsException {
+
+    private StacklessPreConditionsException(String message) {
+      super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+      return this;
+    }
+  }
 }
@@ -0,0 +1,34 @@
+package com.pedromg.bluej.shapes.render;
+
+import com.pedromg.bluej.shapes.domain.Shape;
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+
+/**
+ * Fills shapes without anti-aliasing, overriding the hint set by the caller, so that an image only
+ * holds the colors of its shapes.
+ */
+public class AliasedRenderer implements ShapeRenderer<Shape> {
+
+  private final ShapeRenderer<Shape> renderer;
+
+  /**
+   * Creates an AliasedRenderer.
+   *
+   * @param renderer the renderer used to fill shapes; must not be null
+   * @throws PreConditionsException if the renderer is null
+   */
+  public AliasedRenderer(ShapeRenderer<Shape> renderer) {
+    PreConditions.requireNotNull(renderer, "renderer must not be null");
+
+    this.renderer = renderer;
+  }
+
+  @Override
+  public void render(Graphics2D graphics, Shape shape, int x, int y) {
+    graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
+    renderer.render(graphics, shape, x, y);
+  }
+}
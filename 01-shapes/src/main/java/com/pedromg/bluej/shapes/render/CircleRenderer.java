@@ -0,0 +1,14 @@
+package com.pedromg.bluej.shapes.render;
+
+import com.pedromg.bluej.shapes.domain.Circle;
+import java.awt.Graphics2D;
+
+public class CircleRenderer implements ShapeRenderer<Circle> {
+
+  /** Fills the circle inscribed in the square box starting at ({@code x}, {@code y}). */
+  @Override
+  public void render(Graphics2D graphics, Circle circle, int x, int y) {
+    graphics.setColor(circle.color());
+    graphics.fillOval(x, y, circle.diameterInPixels(), circle.diameterInPixels());
+  }
+}
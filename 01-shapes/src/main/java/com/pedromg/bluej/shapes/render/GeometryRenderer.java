@@ -0,0 +1,30 @@
+package com.pedromg.bluej.shapes.render;
+
+import com.pedromg.bluej.shapes.domain.Circle;
+import com.pedromg.bluej.shapes.domain.Shape;
+import com.pedromg.bluej.shapes.domain.Square;
+import com.pedromg.bluej.shapes.domain.Triangle;
+import java.awt.Graphics2D;
+
+public class GeometryRenderer implements ShapeRenderer<Shape> {
+
+  private final CircleRenderer circleRenderer;
+  private final SquareRenderer squareRenderer;
+  private final TriangleRenderer triangleRenderer;
+
+  public GeometryRenderer() {
+    this.circleRenderer = new CircleRenderer();
+    this.squareRenderer = new SquareRenderer();
+    this.triangleRenderer = new TriangleRenderer();
+  }
+
+  /** Fills the exact geometry of any shape by delegating to the renderer for its type. */
+  @Override
+  public void render(Graphics2D graphics, Shape shape, int x, int y) {
+    switch (shape.type()) {
+      case CIRCLE -> circleRenderer.render(graphics, (Circle) shape, x, y);
+      case SQUARE -> squareRenderer.render(graphics, (Square) shape, x, y);
+      case TRIANGLE -> triangleRenderer.render(graphics, (Triangle) shape, x, y);
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package com.pedromg.bluej.shapes.render;
+
+import com.pedromg.bluej.shapes.domain.Scene;
+import com.pedromg.bluej.shapes.domain.Shape;
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.ForkJoinPool;
+
+public class ImageRenderer {
+
+  private static final int TILE_SIZE = 256;
+
+  private final ShapeRenderer<Shape> renderer;
+  private final TiledRasterizer tiledRasterizer;
+
+  public ImageRenderer() {
+    this(new GeometryRenderer());
+  }
+
+  /**
+   * Creates an ImageRenderer that paints through the given renderer.
+   *
+   * @param renderer the renderer used to fill shapes; must not be null
+   * @throws PreConditionsException if the renderer is null
+   */
+  public ImageRenderer(ShapeRenderer<Shape> renderer) {
+    PreConditions.requireNotNull(renderer, "renderer must not be null");
+
+    this.renderer = renderer;
+    this.tiledRasterizer = new TiledRasterizer(renderer, ForkJoinPool.commonPool(), TILE_SIZE);
+  }
+
+  /**
+   * Paints the shape into a new offscreen image with a transparent background.
+   *
+   * <p>No window, display or event dispatch thread is involved, so this works on headless machines.
+   *
+   * @param shape the shape to paint; must not be null
+   * @throws PreConditionsException if the shape is null
+   * @return an ARGB image sized to the box enclosing the shape
+   */
+  public BufferedImage render(Shape shape) {
+    PreConditions.requireNotNull(shape, "shape must not be null");
+
+    BufferedImage image =
+        new BufferedImage(
+            shape.widthInPixels(), shape.heightInPixels(), BufferedImage.TYPE_INT_ARGB);
+    Graphics2D graphics = image.createGraphics();
+    try {
+      graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+      renderer.render(graphics, shape, 0, 0);
+    } finally {
+      graphics.dispose();
+    }
+    return image;
+  }
+
+  /**
+   * Paints the whole scene into a new offscreen image with a transparent background.
+   *
+   * <p>Large scenes are split into tiles rasterized in parallel; see {@link TiledRasterizer}.
+   *
+   * @param scene the scene to paint; must not be null and must hold at least one shape
+   * @throws PreConditionsException if the scene is null or empty
+   * @return an ARGB image sized to the area covered by the scene
+   */
+  public BufferedImage render(Scene scene) {
+    PreConditions.requireNotNull(scene, "scene must not be null")
+        .and(scene.size() > 0, "scene must not be empty");
+
+    BufferedImage image =
+        new BufferedImage(scene.width(), scene.height(), BufferedImage.TYPE_INT_ARGB);
+    tiledRasterizer.render(scene, image);
+    return image;
+  }
+}
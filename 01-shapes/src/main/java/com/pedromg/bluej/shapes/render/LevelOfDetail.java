@@ -0,0 +1,170 @@
+package com.pedromg.bluej.shapes.render;
+
+import com.pedromg.bluej.shapes.domain.Shape;
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides how much detail frames are painted with, from the size of each shape on screen and from
+ * how long the last frames took.
+ *
+ * <p>Shapes smaller on screen than a threshold are filled as plain rectangles, which cost far less
+ * than an anti-aliased oval or polygon and look the same at that size. When several frames in a row
+ * run over the frame budget, the detail is reduced: anti-aliasing is turned off and rendering hints
+ * favor speed. It is restored once frames take less than half the budget for a while; each time
+ * restoring pushes frames over budget again, that while is doubled, so the detail does not flicker
+ * between two levels.
+ *
+ * <p>Instances are not thread-safe: use them from the thread painting the frames.
+ */
+public final class LevelOfDetail {
+
+  private static final float SCREEN_MIN_PIXELS = 3f;
+  private static final long SCREEN_FRAME_BUDGET_NANOS = TimeUnit.SECONDS.toNanos(1) / 60;
+
+  private static final int OVER_BUDGET_FRAMES = 3;
+  private static final int MIN_RESTORE_FRAMES = 30;
+  private static final int MAX_RESTORE_FRAMES = MIN_RESTORE_FRAMES * 16;
+
+  private final float minimumPixels;
+  private final long frameBudgetNanos;
+
+  private boolean reduced;
+  private int overBudget;
+  private int underBudget;
+  private int restoreFrames = MIN_RESTORE_FRAMES;
+  private int framesSinceRestore = -1;
+
+  /**
+   * Creates a level of detail.
+   *
+   * @param minimumPixels the size on screen below which shapes are filled as rectangles; 0 keeps
+   *     the exact geometry of every shape
+   * @param frameBudgetNanos the time a frame may take before the detail is reduced
+   * @throws PreConditionsException if the size is negative or the budget is not positive
+   */
+  public LevelOfDetail(float minimumPixels, long frameBudgetNanos) {
+    PreConditions.require(minimumPixels >= 0, "minimumPixels must not be negative")
+        .and(frameBudgetNanos > 0, "frameBudgetNanos must be positive");
+
+    this.minimumPixels = minimumPixels;
+    this.frameBudgetNanos = frameBudgetNanos;
+  }
+
+  /**
+   * Creates a level of detail that always paints the exact geometry, anti-aliased.
+   *
+   * @return a new level of detail that is never reduced
+   */
+  public static LevelOfDetail exact() {
+    return new LevelOfDetail(0f, Long.MAX_VALUE);
+  }
+
+  /**
+   * Creates the level of detail of windows on screen: shapes smaller than three pixels are filled
+   * as rectangles, and the detail is reduced while frames take longer than a sixtieth of a second.
+   *
+   * @return a new level of detail for a window
+   */
+  public static LevelOfDetail onScreen() {
+    return new LevelOfDetail(SCREEN_MIN_PIXELS, SCREEN_FRAME_BUDGET_NANOS);
+  }
+
+  /**
+   * Returns whether frames are painted with reduced detail.
+   *
+   * @return true if anti-aliasing is off
+   */
+  public boolean isReduced() {
+    return reduced;
+  }
+
+  /**
+   * Tests whether a shape is too small on screen to be worth its exact geometry.
+   *
+   * @param sizeInPixels the larger side of the box enclosing the shape, on screen
+   * @return true if the shape should be filled as a rectangle
+   */
+  public boolean isTooSmall(float sizeInPixels) {
+    return sizeInPixels < minimumPixels;
+  }
+
+  /**
+   * Sets the rendering hints of the current level on a graphics context.
+   *
+   * @param graphics the graphics context a frame is painted into
+   */
+  public void applyHints(Graphics2D graphics) {
+    if (reduced) {
+      graphics.setRenderingHint(
+          RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
+      graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_SPEED);
+      graphics.setRenderingHint(
+          RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_NORMALIZE);
+    } else {
+      graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+      graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_DEFAULT);
+      graphics.setRenderingHint(
+          RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_DEFAULT);
+    }
+  }
+
+  /**
+   * Paints a frame holding a single shape at the current level, and records how long it took.
+   *
+   * @param graphics the graphics context the frame is painted into
+   * @param shape the shape to paint
+   * @param renderer the renderer filling the shape when it is not too small
+   * @param <T> the type of the shape
+   */
+  public <T extends Shape> void render(
+      Graphics2D graphics, T shape, ShapeRenderer<? super T> renderer) {
+    long start = System.nanoTime();
+    applyHints(graphics);
+    int width = shape.widthInPixels();
+    int height = shape.heightInPixels();
+    if (isTooSmall(Math.max(width, height) * scaleOf(graphics))) {
+      graphics.setColor(shape.color());
+      graphics.fillRect(0, 0, width, height);
+    } else {
+      renderer.render(graphics, shape, 0, 0);
+    }
+    frameRendered(System.nanoTime() - start);
+  }
+
+  /**
+   * Records how long a frame took, and reduces or restores the detail of the next frames.
+   *
+   * @param frameNanos the time spent painting the frame
+   */
+  public void frameRendered(long frameNanos) {
+    if (reduced) {
+      underBudget = frameNanos <= frameBudgetNanos / 2 ? underBudget + 1 : 0;
+      if (underBudget >= restoreFrames) {
+        reduced = false;
+        overBudget = 0;
+        framesSinceRestore = 0;
+      }
+      return;
+    }
+
+    if (framesSinceRestore >= 0 && framesSinceRestore < restoreFrames) {
+      framesSinceRestore++;
+    }
+    overBudget = frameNanos > frameBudgetNanos ? overBudget + 1 : 0;
+    if (overBudget >= OVER_BUDGET_FRAMES) {
+      boolean restoredTooSoon = framesSinceRestore >= 0 && framesSinceRestore < restoreFrames;
+      restoreFrames =
+          restoredTooSoon ? Math.min(restoreFrames * 2, MAX_RESTORE_FRAMES) : MIN_RESTORE_FRAMES;
+      reduced = true;
+      underBudget = 0;
+    }
+  }
+
+  static float scaleOf(Graphics2D graphics) {
+    return (float) Math.sqrt(Math.abs(graphics.getTransform().getDeterminant()));
+  }
+}
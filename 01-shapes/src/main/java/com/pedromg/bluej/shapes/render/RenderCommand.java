@@ -0,0 +1,72 @@
+package com.pedromg.bluej.shapes.render;
+
+import com.pedromg.bluej.shapes.command.CommandHandler;
+import com.pedromg.bluej.shapes.command.CommandRequest;
+import com.pedromg.bluej.shapes.domain.Shape;
+import com.pedromg.bluej.shapes.domain.ShapeType;
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.awt.Color;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import javax.imageio.ImageIO;
+
+public class RenderCommand implements CommandHandler {
+
+  private static final String FORMAT = "png";
+
+  private final ImageRenderer imageRenderer;
+
+  /**
+   * Creates a RenderCommand
+   *
+   * @param imageRenderer the renderer producing offscreen images
+   * @throws PreConditionsException if imageRenderer is null
+   */
+  public RenderCommand(ImageRenderer imageRenderer) {
+    PreConditions.requireNotNull(imageRenderer, "imageRenderer must not be null");
+    this.imageRenderer = imageRenderer;
+  }
+
+  /**
+   * Renders a single shape offscreen and writes it to a PNG file, without opening a window.
+   *
+   * @param request command line request containing {@code shape}, {@code size}, {@code color} and
+   *     {@code file} params
+   * @throws PreConditionsException if the arguments are invalid
+   * @throws UncheckedIOException if the image cannot be written
+   */
+  @Override
+  public void handle(CommandRequest request) {
+    validatePreConditions(request);
+
+    ShapeType type = ShapeType.fromLabel(request.params().get(0));
+    int size = Integer.parseInt(request.params().get(1));
+    Color color = Color.decode(request.params().get(2));
+    File file = request.path(3).toFile();
+
+    Shape shape = type.create(size, color);
+    try {
+      ImageIO.write(imageRenderer.render(shape), FORMAT, file);
+    } catch (IOException exception) {
+      throw new UncheckedIOException("could not write " + file, exception);
+    }
+  }
+
+  @Override
+  public String helpMessage() {
+    return String.format(
+        "Renders <shape> <size> <#rrggbb> <file> to a PNG file. Available shapes: %s",
+        Arrays.stream(ShapeType.values()).map(ShapeType::label).toList());
+  }
+
+  private void validatePreConditions(CommandRequest request) {
+    PreConditions.requireNotNull(request, "request must not be null")
+        .and(request.params().size() == 4, "request must have exactly four arguments")
+        .and(() -> Integer.parseInt(request.params().get(1)), "size must be a number")
+        .and(() -> Color.decode(request.params().get(2)), "color must be a #rrggbb value")
+        .andNotBlank(request.params().get(3), "file must not be blank");
+  }
+}
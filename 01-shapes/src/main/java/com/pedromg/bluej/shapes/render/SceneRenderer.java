@@ -0,0 +1,83 @@
+package com.pedromg.bluej.shapes.render;
+
+import com.pedromg.bluej.shapes.domain.Scene;
+import com.pedromg.bluej.shapes.domain.Shape;
+import com.pedromg.bluej.shapes.domain.ShapeStore;
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+
+public class SceneRenderer {
+
+  private final ShapeRenderer<Shape> renderer;
+  private final LevelOfDetail levelOfDetail;
+
+  public SceneRenderer() {
+    this(new GeometryRenderer());
+  }
+
+  /**
+   * Creates a SceneRenderer that paints every shape through the given renderer.
+   *
+   * @param renderer the renderer used to fill shapes; must not be null
+   * @throws PreConditionsException if the renderer is null
+   */
+  public SceneRenderer(ShapeRenderer<Shape> renderer) {
+    this(renderer, LevelOfDetail.exact());
+  }
+
+  /**
+   * Creates a SceneRenderer that lowers the detail of small shapes, and of whole frames when they
+   * run over budget.
+   *
+   * @param renderer the renderer used to fill shapes; must not be null
+   * @param levelOfDetail the level of detail, only used by the thread painting the frames; must not
+   *     be null
+   * @throws PreConditionsException if any argument is null
+   */
+  public SceneRenderer(ShapeRenderer<Shape> renderer, LevelOfDetail levelOfDetail) {
+    PreConditions.requireNotNull(renderer, "renderer must not be null")
+        .andNotNull(levelOfDetail, "levelOfDetail must not be null");
+
+    this.renderer = renderer;
+    this.levelOfDetail = levelOfDetail;
+  }
+
+  /**
+   * Paints the whole scene in a single pass, in insertion order.
+   *
+   * <p>Shapes whose box lies outside the clip of {@code graphics} are skipped, so repainting a
+   * small region of a large scene only fills the shapes that touch it. Shapes the level of detail
+   * finds too small once scaled by the transform of {@code graphics} are filled as rectangles, and
+   * the time the pass took is reported to it.
+   *
+   * @param graphics the graphics context to paint into
+   * @param scene the scene to paint
+   */
+  public void render(Graphics2D graphics, Scene scene) {
+    long start = System.nanoTime();
+    levelOfDetail.applyHints(graphics);
+
+    ShapeStore store = scene.store();
+    Rectangle clip = graphics.getClipBounds();
+    float scale = LevelOfDetail.scaleOf(graphics);
+    for (int i = 0; i < store.size(); i++) {
+      int x = store.x(i);
+      int y = store.y(i);
+      int width = store.widthInPixels(i);
+      int height = store.heightInPixels(i);
+      if (clip != null && !clip.intersects(x, y, width, height)) {
+        continue;
+      }
+      Shape shape = store.shape(i);
+      if (levelOfDetail.isTooSmall(Math.max(width, height) * scale)) {
+        graphics.setColor(shape.color());
+        graphics.fillRect(x, y, width, height);
+      } else {
+        renderer.render(graphics, shape, x, y);
+      }
+    }
+    levelOfDetail.frameRendered(System.nanoTime() - start);
+  }
+}
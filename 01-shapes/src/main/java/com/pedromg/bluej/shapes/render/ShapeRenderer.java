@@ -0,0 +1,19 @@
+package com.pedromg.bluej.shapes.render;
+
+import com.pedromg.bluej.shapes.domain.Shape;
+import java.awt.Graphics2D;
+
+public interface ShapeRenderer<T extends Shape> {
+
+  /**
+   * Fills the geometry of {@code shape} into the given graphics context.
+   *
+   * <p>The caller owns the rendering hints; renderers only set the color and fill the shape.
+   *
+   * @param graphics the graphics context to paint into
+   * @param shape the shape to paint
+   * @param x the left edge of the box enclosing the shape
+   * @param y the top edge of the box enclosing the shape
+   */
+  void render(Graphics2D graphics, T shape, int x, int y);
+}
@@ -0,0 +1,132 @@
+package com.pedromg.bluej.shapes.render;
+
+import com.pedromg.bluej.shapes.domain.Shape;
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of pre-rasterized, anti-aliased shapes.
+ *
+ * <p>Sprites are keyed by shape value, so every shape with the same type, size and color shares a
+ * single image. The cache holds at most {@code maxBytes} of pixels and evicts the least recently
+ * used sprites first; a shape whose sprite alone would take more than a quarter of the budget is
+ * never cached. All methods are thread-safe.
+ */
+public class SpriteCache {
+
+  private static final int BYTES_PER_PIXEL = 4;
+
+  private final long maxBytes;
+  private final ShapeRenderer<Shape> renderer;
+  private final LinkedHashMap<Shape, BufferedImage> sprites;
+
+  private long bytes;
+  private long hits;
+  private long misses;
+  private long evictions;
+
+  public SpriteCache(long maxBytes) {
+    this(maxBytes, new GeometryRenderer());
+  }
+
+  /**
+   * Creates an empty SpriteCache.
+   *
+   * @param maxBytes the memory budget for sprite pixels; must be positive
+   * @param renderer the renderer used to rasterize sprites; must not be null
+   * @throws PreConditionsException if any argument is invalid
+   */
+  public SpriteCache(long maxBytes, ShapeRenderer<Shape> renderer) {
+    PreConditions.require(maxBytes > 0, "maxBytes must be a positive number")
+        .andNotNull(renderer, "renderer must not be null");
+
+    this.maxBytes = maxBytes;
+    this.renderer = renderer;
+    this.sprites = new LinkedHashMap<>(16, 0.75f, true);
+  }
+
+  /**
+   * Returns the sprite of a shape, rasterizing and caching it on a miss.
+   *
+   * @param shape the shape to look up
+   * @return the sprite, sized to the box enclosing the shape, or null if the shape is too large to
+   *     be cached
+   */
+  public synchronized BufferedImage sprite(Shape shape) {
+    BufferedImage sprite = sprites.get(shape);
+    if (sprite != null) {
+      hits++;
+      return sprite;
+    }
+    misses++;
+
+    long spriteBytes = bytesOf(shape);
+    if (spriteBytes > maxBytes / 4) {
+      return null;
+    }
+    sprite = rasterize(shape);
+    sprites.put(shape, sprite);
+    bytes += spriteBytes;
+    evict();
+    return sprite;
+  }
+
+  /**
+   * Returns a snapshot of the counters of this cache.
+   *
+   * @return the current statistics
+   */
+  public synchronized Stats stats() {
+    return new Stats(hits, misses, evictions, sprites.size(), bytes);
+  }
+
+  /** Drops every sprite; counters are kept. */
+  public synchronized void clear() {
+    sprites.clear();
+    bytes = 0;
+  }
+
+  private void evict() {
+    Iterator<Map.Entry<Shape, BufferedImage>> eldest = sprites.entrySet().iterator();
+    while (bytes > maxBytes && eldest.hasNext()) {
+      bytes -= bytesOf(eldest.next().getKey());
+      eldest.remove();
+      evictions++;
+    }
+  }
+
+  private BufferedImage rasterize(Shape shape) {
+    BufferedImage sprite =
+        new BufferedImage(
+            shape.widthInPixels(), shape.heightInPixels(), BufferedImage.TYPE_INT_ARGB_PRE);
+    Graphics2D graphics = sprite.createGraphics();
+    try {
+      graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+      renderer.render(graphics, shape, 0, 0);
+    } finally {
+      graphics.dispose();
+    }
+    return sprite;
+  }
+
+  private static long bytesOf(Shape shape) {
+    return (long) shape.widthInPixels() * shape.heightInPixels() * BYTES_PER_PIXEL;
+  }
+
+  /**
+   * Counters of a {@link SpriteCache}.
+   *
+   * @param hits lookups served from the cache
+   * @param misses lookups that had to rasterize, or could not cache, the shape
+   * @param evictions sprites dropped to stay within the budget
+   * @param sprites sprites currently cached
+   * @param bytes pixel memory currently used
+   */
+  public record Stats(long hits, long misses, long evictions, int sprites, long bytes) {}
+}
@@ -0,0 +1,49 @@
+package com.pedromg.bluej.shapes.render;
+
+import com.pedromg.bluej.shapes.domain.Shape;
+import com.pedromg.bluej.shapes.domain.ShapeType;
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+/**
+ * Paints shapes by blitting their cached sprite instead of rasterizing the geometry again.
+ *
+ * <p>Sprites are always anti-aliased, so shapes are filled directly when the caller turned
+ * anti-aliasing off, such as a {@link LevelOfDetail} reducing the detail of frames over budget. So
+ * are squares, whose integer-aligned edges anti-aliasing never changes and which fill faster than a
+ * sprite blends, and shapes too large for the cache.
+ */
+public class SpriteRenderer implements ShapeRenderer<Shape> {
+
+  private final SpriteCache cache;
+  private final ShapeRenderer<Shape> fallback;
+
+  /**
+   * Creates a SpriteRenderer.
+   *
+   * @param cache the cache holding the sprites; must not be null
+   * @throws PreConditionsException if the cache is null
+   */
+  public SpriteRenderer(SpriteCache cache) {
+    PreConditions.requireNotNull(cache, "cache must not be null");
+
+    this.cache = cache;
+    this.fallback = new GeometryRenderer();
+  }
+
+  @Override
+  public void render(Graphics2D graphics, Shape shape, int x, int y) {
+    boolean aliased =
+        graphics.getRenderingHint(RenderingHints.KEY_ANTIALIASING)
+            == RenderingHints.VALUE_ANTIALIAS_OFF;
+    BufferedImage sprite = aliased || shape.type() == ShapeType.SQUARE ? null : cache.sprite(shape);
+    if (sprite == null) {
+      fallback.render(graphics, shape, x, y);
+    } else {
+      graphics.drawImage(sprite, x, y, null);
+    }
+  }
+}
@@ -0,0 +1,14 @@
+package com.pedromg.bluej.shapes.render;
+
+import com.pedromg.bluej.shapes.domain.Square;
+import java.awt.Graphics2D;
+
+public class SquareRenderer implements ShapeRenderer<Square> {
+
+  /** Fills the square whose top-left corner is ({@code x}, {@code y}). */
+  @Override
+  public void render(Graphics2D graphics, Square square, int x, int y) {
+    graphics.setColor(square.color());
+    graphics.fillRect(x, y, square.lengthInPixels(), square.lengthInPixels());
+  }
+}
@@ -0,0 +1,135 @@
+package com.pedromg.bluej.shapes.render;
+
+import com.pedromg.bluej.shapes.domain.Scene;
+import com.pedromg.bluej.shapes.domain.Shape;
+import com.pedromg.bluej.shapes.domain.ShapeIndex;
+import com.pedromg.bluej.shapes.domain.ShapeStore;
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.IntStream;
+
+/**
+ * Rasterizes a scene in square tiles, in parallel on a {@link ForkJoinPool}.
+ *
+ * <p>Each tile gets its own {@link Graphics2D} clipped to the tile and only paints the shapes whose
+ * box overlaps it, found through a {@link ShapeIndex} whose cells match the tiles. Shapes keep
+ * their insertion order inside every tile, so the result is the same image a single pass of {@link
+ * SceneRenderer} produces.
+ */
+public class TiledRasterizer {
+
+  private static final int DEFAULT_TILE_SIZE = 256;
+
+  private final ShapeRenderer<Shape> renderer;
+  private final ForkJoinPool pool;
+  private final int tileSize;
+
+  public TiledRasterizer() {
+    this(new GeometryRenderer(), ForkJoinPool.commonPool(), DEFAULT_TILE_SIZE);
+  }
+
+  /**
+   * Creates a TiledRasterizer.
+   *
+   * @param renderer the renderer used to fill shapes; must not be null
+   * @param pool the pool running the tiles; must not be null
+   * @param tileSize the side length of a tile in pixels; must be positive
+   * @throws PreConditionsException if any argument is invalid
+   */
+  public TiledRasterizer(ShapeRenderer<Shape> renderer, ForkJoinPool pool, int tileSize) {
+    PreConditions.requireNotNull(renderer, "renderer must not be null")
+        .andNotNull(pool, "pool must not be null")
+        .and(tileSize > 0, "tileSize must be a positive number");
+
+    this.renderer = renderer;
+    this.pool = pool;
+    this.tileSize = tileSize;
+  }
+
+  /**
+   * Paints the scene into {@code target}, whose top-left corner is the origin of the scene.
+   *
+   * @param scene the scene to paint; must not be null
+   * @param target the image to paint into; must not be null
+   * @throws PreConditionsException if any argument is null
+   */
+  public void render(Scene scene, BufferedImage target) {
+    PreConditions.requireNotNull(scene, "scene must not be null")
+        .andNotNull(target, "target must not be null");
+
+    ShapeIndex index = new ShapeIndex(scene.store(), tileSize);
+    int columns = (target.getWidth() + tileSize - 1) / tileSize;
+    int rows = (target.getHeight() + tileSize - 1) / tileSize;
+    TileTask all = new TileTask(scene.store(), index, target, columns, 0, columns * rows);
+    if (columns * rows == 1) {
+      all.compute();
+    } else {
+      pool.invoke(all);
+    }
+  }
+
+  private class TileTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient ShapeStore store;
+    private final transient ShapeIndex index;
+    private final transient BufferedImage target;
+    private final int columns;
+    private final int firstTile;
+    private final int endTile;
+
+    TileTask(
+        ShapeStore store,
+        ShapeIndex index,
+        BufferedImage target,
+        int columns,
+        int firstTile,
+        int endTile) {
+      this.store = store;
+      this.index = index;
+      this.target = target;
+      this.columns = columns;
+      this.firstTile = firstTile;
+      this.endTile = endTile;
+    }
+
+    @Override
+    protected void compute() {
+      if (endTile - firstTile == 1) {
+        renderTile(firstTile % columns * tileSize, firstTile / columns * tileSize);
+        return;
+      }
+      int middle = (firstTile + endTile) >>> 1;
+      invokeAll(
+          new TileTask(store, index, target, columns, firstTile, middle),
+          new TileTask(store, index, target, columns, middle, endTile));
+    }
+
+    private void renderTile(int x, int y) {
+      IntStream.Builder candidates = IntStream.builder();
+      index.forEachCandidate(x, y, tileSize, tileSize, candidates::add);
+      int[] shapes = candidates.build().sorted().toArray();
+      if (shapes.length == 0) {
+        return;
+      }
+
+      Graphics2D graphics = target.createGraphics();
+      try {
+        graphics.clipRect(x, y, tileSize, tileSize);
+        graphics.setRenderingHint(
+            RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        for (int i : shapes) {
+          renderer.render(graphics, store.shape(i), store.x(i), store.y(i));
+        }
+      } finally {
+        graphics.dispose();
+      }
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package com.pedromg.bluej.shapes.render;
+
+import com.pedromg.bluej.shapes.domain.Shape;
+import com.pedromg.bluej.shapes.metrics.PaintMetrics;
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.awt.Graphics2D;
+
+/**
+ * Records how long another renderer takes to paint each shape, by shape type, while the metrics
+ * have {@link PaintMetrics#isShapeTimingEnabled() shape timing enabled}.
+ */
+public class TimedRenderer implements ShapeRenderer<Shape> {
+
+  private final ShapeRenderer<Shape> renderer;
+  private final PaintMetrics metrics;
+
+  /**
+   * Creates a TimedRenderer.
+   *
+   * @param renderer the renderer doing the painting; must not be null
+   * @param metrics where the durations are recorded; must not be null
+   * @throws PreConditionsException if any argument is null
+   */
+  public TimedRenderer(ShapeRenderer<Shape> renderer, PaintMetrics metrics) {
+    PreConditions.requireNotNull(renderer, "renderer must not be null")
+        .andNotNull(metrics, "metrics must not be null");
+
+    this.renderer = renderer;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public void render(Graphics2D graphics, Shape shape, int x, int y) {
+    if (!metrics.isShapeTimingEnabled()) {
+      renderer.render(graphics, shape, x, y);
+      return;
+    }
+    long start = System.nanoTime();
+    renderer.render(graphics, shape, x, y);
+    metrics.recordShape(shape.type(), System.nanoTime() - start);
+  }
+}
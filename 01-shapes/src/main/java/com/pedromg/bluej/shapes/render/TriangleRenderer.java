@@ -0,0 +1,23 @@
+package com.pedromg.bluej.shapes.render;
+
+import com.pedromg.bluej.shapes.domain.Triangle;
+import java.awt.Graphics2D;
+
+public class TriangleRenderer implements ShapeRenderer<Triangle> {
+
+  /**
+   * Fills an equilateral triangle with its base at the bottom and its apex pointing upwards.
+   *
+   * <p>Relative to ({@code x}, {@code y}) the vertices are: bottom left (0, height), top
+   * (sideLength / 2, 0) and bottom right (sideLength, height).
+   */
+  @Override
+  public void render(Graphics2D graphics, Triangle triangle, int x, int y) {
+    int length = triangle.lengthInPixels();
+    int height = triangle.heightInPixels();
+
+    graphics.setColor(triangle.color());
+    graphics.fillPolygon(
+        new int[] {x, x + length / 2, x + length}, new int[] {y + height, y, y + height}, 3);
+  }
+}
@@ -1,9 +1,23 @@
 package com.pedromg.bluej.shapes.ui;
 
+import com.pedromg.bluej.shapes.animation.Animation;
+import com.pedromg.bluej.shapes.domain.Scene;
+import com.pedromg.bluej.shapes.domain.Shape;
+import com.pedromg.bluej.shapes.domain.ShapeType;
+import com.pedromg.bluej.shapes.metrics.PaintMetrics;
 import com.pedromg.bluej.shapes.preconditions.PreConditions;
 import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import com.pedromg.bluej.shapes.render.LevelOfDetail;
+import com.pedromg.bluej.shapes.render.SceneRenderer;
+import com.pedromg.bluej.shapes.render.SpriteCache;
+import com.pedromg.bluej.shapes.render.SpriteRenderer;
+import com.pedromg.bluej.shapes.render.TimedRenderer;
+import java.awt.Component;
+import java.awt.Container;
 import java.awt.Dimension;
 import java.awt.FlowLayout;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import javax.swing.JFrame;
 import javax.swing.JPanel;
 import javax.swing.WindowConstants;
@@ -18,21 +32,90 @@ public class Canvas {
   private static final int MIN_WIDTH = 400;
   private static final int MIN_HEIGHT = 720;
 
+  private static final long SPRITE_CACHE_BYTES = 16L * 1024 * 1024;
+
+  private static volatile int closeOperation = WindowConstants.EXIT_ON_CLOSE;
+
   private JFrame window;
+  private volatile boolean closed;
+  private final Scene scene;
+  private final PaintMetrics metrics;
+  private final ScenePanel scenePanel;
+  private final RepaintScheduler repaintScheduler;
 
   /**
    * Initializes the canvas with a title, size, minimum size, centered position, and a flow layout.
    *
-   * <p>The window is configured to exit the application on close and is resizable.
+   * <p>The window is configured to exit the application on close, unless told otherwise through
+   * {@link #setCloseOperation(int)}, and is resizable. It starts with an empty scene panel that
+   * paints every shape drawn with {@link #draw(Shape, int, int)}, blitting sprites cached per
+   * distinct shape. Frame paint times are recorded into the {@link PaintMetrics#platform()
+   * process-wide metrics}, exposed over JMX; per-shape times only once shape timing is enabled
+   * there or the overlay is {@link #showHud() shown}. Shapes smaller than three pixels are filled
+   * as rectangles, and anti-aliasing is turned off while frames take longer than a sixtieth of a
+   * second.
    */
   public Canvas() {
+    this(new Scene());
+  }
+
+  /**
+   * Initializes the canvas like {@link #Canvas()}, showing the shapes of an existing scene.
+   *
+   * <p>The canvas owns the scene: it is {@link Scene#close() closed}, letting go of the mapping of
+   * a scene file, once the window is disposed. Every {@link Animation} drawn into the canvas is
+   * stopped at the same time.
+   *
+   * @param scene the scene to show; must not be null
+   * @throws PreConditionsException if the scene is null
+   */
+  public Canvas(Scene scene) {
+    PreConditions.requireNotNull(scene, "scene must not be null");
+
     window = new JFrame(TITLE);
     window.setSize(WIDTH, HEIGHT);
-    window.setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
+    window.setDefaultCloseOperation(closeOperation);
     window.setLocationRelativeTo(null); // Center the frame on the screen
     window.setResizable(true);
     window.setMinimumSize(new Dimension(MIN_WIDTH, MIN_HEIGHT));
     window.setLayout(new FlowLayout());
+    window.addWindowListener(
+        new WindowAdapter() {
+          @Override
+          public void windowClosed(WindowEvent event) {
+            closed = true;
+            stopAnimations(window.getContentPane());
+            scene.close();
+          }
+        });
+
+    this.scene = scene;
+    this.metrics = PaintMetrics.platform();
+    SpriteCache spriteCache = new SpriteCache(SPRITE_CACHE_BYTES);
+    SceneRenderer renderer =
+        new SceneRenderer(
+            new TimedRenderer(new SpriteRenderer(spriteCache), metrics), LevelOfDetail.onScreen());
+    scenePanel = new ScenePanel(scene, renderer, metrics);
+    window.add(scenePanel);
+    repaintScheduler = new RepaintScheduler(scenePanel::repaint);
+  }
+
+  /**
+   * Sets what closing the window of the canvases created from now on does.
+   *
+   * <p>A process serving commands for other processes sets {@link WindowConstants#DISPOSE_ON_CLOSE}
+   * so that closing one of its windows does not stop it.
+   *
+   * @param operation {@link WindowConstants#EXIT_ON_CLOSE} or {@link
+   *     WindowConstants#DISPOSE_ON_CLOSE}
+   * @throws PreConditionsException if the operation is neither
+   */
+  public static void setCloseOperation(int operation) {
+    PreConditions.require(
+        operation == WindowConstants.EXIT_ON_CLOSE || operation == WindowConstants.DISPOSE_ON_CLOSE,
+        "operation must be EXIT_ON_CLOSE or DISPOSE_ON_CLOSE");
+
+    closeOperation = operation;
   }
 
   /** Shows this canvas GUI. */
@@ -40,6 +123,15 @@ public class Canvas {
     window.setVisible(true);
   }
 
+  /**
+   * Shows an overlay with the paint times of the scene, refreshed twice per second, and starts
+   * timing every shape painted.
+   */
+  public void showHud() {
+    metrics.setShapeTimingEnabled(true);
+    scenePanel.setHudVisible(true);
+  }
+
   /**
    * Draws the specified {@code JPanel} into this canvas.
    *
@@ -53,4 +145,81 @@ public class Canvas {
     window.revalidate();
     window.repaint();
   }
+
+  /**
+   * Draws the specified shape into the scene of this canvas.
+   *
+   * <p>The area covered by the new shape is marked dirty and repainted at the end of the frame,
+   * together with every other shape drawn during that frame. The layout is revalidated only when
+   * the scene grows.
+   *
+   * @param shape the shape to draw; must not be null
+   * @param x the left edge of the shape within the scene
+   * @param y the top edge of the shape within the scene
+   * @throws PreConditionsException if the shape is null or the position is negative
+   */
+  public void draw(Shape shape, int x, int y) {
+    int previousWidth = scene.width();
+    int previousHeight = scene.height();
+
+    scene.add(shape, x, y);
+    if (scene.width() != previousWidth || scene.height() != previousHeight) {
+      scenePanel.revalidate();
+    }
+    repaintScheduler.markDirty(x, y, shape.widthInPixels(), shape.heightInPixels());
+  }
+
+  /**
+   * Draws a shape from its raw attributes into the scene of this canvas, like {@link #draw(Shape,
+   * int, int)} but without creating a record.
+   *
+   * @param type the shape type; must not be null
+   * @param sizeInPixels the radius for circles or the side length otherwise; must be positive
+   * @param x the left edge of the shape within the scene
+   * @param y the top edge of the shape within the scene
+   * @param argb the packed color, as returned by {@link java.awt.Color#getRGB()}
+   * @throws PreConditionsException if an argument is invalid
+   */
+  public void draw(ShapeType type, int sizeInPixels, int x, int y, int argb) {
+    int previousWidth = scene.width();
+    int previousHeight = scene.height();
+
+    scene.add(type, sizeInPixels, x, y, argb);
+    if (scene.width() != previousWidth || scene.height() != previousHeight) {
+      scenePanel.revalidate();
+    }
+    repaintScheduler.markDirty(x, y, type.widthOf(sizeInPixels), type.heightOf(sizeInPixels));
+  }
+
+  /**
+   * Tells whether the window of this canvas has been closed. Nothing can be drawn into a closed
+   * canvas, since its scene is closed too.
+   *
+   * <p>Safe to call from any thread.
+   *
+   * @return true once the window has been disposed
+   */
+  public boolean isClosed() {
+    return closed;
+  }
+
+  /**
+   * Returns the scene shown by this canvas.
+   *
+   * @return the scene
+   */
+  public Scene scene() {
+    return scene;
+  }
+
+  private static void stopAnimations(Container container) {
+    for (Component component : container.getComponents()) {
+      if (component instanceof Animation) {
+        ((Animation) component).stop();
+      }
+      if (component instanceof Container) {
+        stopAnimations((Container) component);
+      }
+    }
+  }
 }
@@ -1,16 +1,21 @@
 package com.pedromg.bluej.shapes.ui;
 
 import com.pedromg.bluej.shapes.domain.Circle;
+import com.pedromg.bluej.shapes.jfr.PaintEvent;
 import com.pedromg.bluej.shapes.preconditions.PreConditions;
 import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import com.pedromg.bluej.shapes.render.CircleRenderer;
+import com.pedromg.bluej.shapes.render.LevelOfDetail;
+import com.pedromg.bluej.shapes.render.ShapeRenderer;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
-import java.awt.RenderingHints;
 import javax.swing.JPanel;
 
 public class CirclePanel extends JPanel {
 
   private final Circle circle;
+  private final ShapeRenderer<? super Circle> renderer;
+  private final LevelOfDetail levelOfDetail;
 
   /**
    * Constructs a CirclePanel to display the specified Circle.
@@ -19,9 +24,24 @@ public class CirclePanel extends JPanel {
    * @throws PreConditionsException if the provided Circle is null
    */
   public CirclePanel(Circle circle) {
-    PreConditions.requireNotNull(circle, "circle must not be null");
+    this(circle, new CircleRenderer());
+  }
+
+  /**
+   * Constructs a CirclePanel that paints through the given renderer, such as a {@code
+   * SpriteRenderer} that blits a cached image instead of rasterizing the geometry again.
+   *
+   * @param circle the Circle to be rendered; must not be null
+   * @param renderer the renderer that fills the circle; must not be null
+   * @throws PreConditionsException if any argument is null
+   */
+  public CirclePanel(Circle circle, ShapeRenderer<? super Circle> renderer) {
+    PreConditions.requireNotNull(circle, "circle must not be null")
+        .andNotNull(renderer, "renderer must not be null");
 
     this.circle = circle;
+    this.renderer = renderer;
+    this.levelOfDetail = LevelOfDetail.onScreen();
   }
 
   /** Returns the preferred size of the panel based on the circle's diameter. */
@@ -31,16 +51,18 @@ public class CirclePanel extends JPanel {
   }
 
   /**
-   * Renders the associated circle onto the panel with anti-aliasing and the circle's color.
+   * Renders the associated circle onto the panel with the circle's color, anti-aliased unless the
+   * {@link LevelOfDetail#onScreen() level of detail} of the panel is reduced.
    *
    * @param g the Graphics context used for painting
    */
   @Override
   protected void paintComponent(java.awt.Graphics g) {
+    PaintEvent event = new PaintEvent();
+    event.begin();
     super.paintComponent(g);
     Graphics2D g2d = (Graphics2D) g;
-    g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-    g2d.setColor(circle.color());
-    g2d.fillOval(0, 0, circle.diameterInPixels(), circle.diameterInPixels());
+    levelOfDetail.render(g2d, circle, renderer);
+    event.commit(getClass(), g.getClipBounds());
   }
 }
@@ -0,0 +1,66 @@
+package com.pedromg.bluej.shapes.ui;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import javax.swing.SwingUtilities;
+
+/** Runs work on the Swing event dispatch thread, which owns every component. */
+public final class EventDispatch {
+
+  private EventDispatch() {}
+
+  /**
+   * Runs an action on the event dispatch thread and waits for it to finish. The action runs inline
+   * when called from that thread already.
+   *
+   * @param action the action to run
+   * @throws RuntimeException the exception thrown by the action, unwrapped
+   * @throws CancellationException if the calling thread was interrupted while waiting; its
+   *     interrupt status is set again
+   */
+  public static void runAndWait(Runnable action) {
+    callAndWait(
+        () -> {
+          action.run();
+          return null;
+        });
+  }
+
+  /**
+   * Computes a value on the event dispatch thread and waits for it, such as a new component.
+   *
+   * @param action the action to run
+   * @param <T> the type of the value
+   * @throws RuntimeException the exception thrown by the action, unwrapped
+   * @throws CancellationException if the calling thread was interrupted while waiting; its
+   *     interrupt status is set again, and the action may still run later
+   * @return the value of the action
+   */
+  public static <T> T callAndWait(Supplier<T> action) {
+    if (SwingUtilities.isEventDispatchThread()) {
+      return action.get();
+    }
+    AtomicReference<T> result = new AtomicReference<>();
+    try {
+      SwingUtilities.invokeAndWait(() -> result.set(action.get()));
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      CancellationException cancelled =
+          new CancellationException("interrupted while waiting for the event dispatch thread");
+      cancelled.initCause(exception);
+      throw cancelled;
+    } catch (InvocationTargetException exception) {
+      Throwable cause = exception.getCause();
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException(cause);
+    }
+    return result.get();
+  }
+}
@@ -0,0 +1,62 @@
+package com.pedromg.bluej.shapes.ui;
+
+import com.pedromg.bluej.shapes.command.CommandHandler;
+import com.pedromg.bluej.shapes.command.CommandRequest;
+import com.pedromg.bluej.shapes.domain.Scene;
+import com.pedromg.bluej.shapes.domain.SceneFile;
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+public class LoadCommand implements CommandHandler {
+
+  private static final String HUD_FLAG = "hud";
+
+  /**
+   * Opens a {@link SceneFile} and shows it in a new canvas.
+   *
+   * <p>The file is mapped on the calling thread without parsing its shapes, and the canvas is
+   * created on the EDT without reading them either: shapes are read when painted, and indexed for
+   * picking on the first mouse move. With the {@code --hud} flag the canvas shows its paint times
+   * in an overlay.
+   *
+   * @param request command line request containing the {@code file} param
+   * @throws PreConditionsException if the arguments are invalid or the file is not a scene file
+   * @throws UncheckedIOException if the file cannot be read
+   */
+  @Override
+  public void handle(CommandRequest request) {
+    validatePreConditions(request);
+
+    Path file = request.path(0);
+    Scene scene;
+    try {
+      scene = SceneFile.open(file);
+    } catch (IOException exception) {
+      throw new UncheckedIOException("could not read " + file, exception);
+    }
+
+    boolean hud = request.hasFlag(HUD_FLAG);
+    EventDispatch.runAndWait(
+        () -> {
+          Canvas canvas = new Canvas(scene);
+          if (hud) {
+            canvas.showHud();
+          }
+          canvas.show();
+        });
+  }
+
+  @Override
+  public String helpMessage() {
+    return "Shows the scene saved in <file>, with --hud to overlay paint times";
+  }
+
+  private void validatePreConditions(CommandRequest request) {
+    PreConditions.requireNotNull(request, "request must not be null")
+        .and(request.params().size() == 1, "request must have exactly one argument")
+        .andNotBlank(request.params().get(0), "file must not be blank");
+  }
+}
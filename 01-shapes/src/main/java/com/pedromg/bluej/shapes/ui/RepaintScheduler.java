@@ -0,0 +1,133 @@
+package com.pedromg.bluej.shapes.ui;
+
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import javax.swing.Timer;
+
+/**
+ * Collects the regions changed during a frame and repaints them together once the frame ends.
+ *
+ * <p>Dirty rectangles closer than the merge distance are united, so a burst of nearby updates turns
+ * into a single {@code repaint(Rectangle)} call. When too many separate regions pile up they are
+ * collapsed into their union. The cost of a frame is then proportional to the area that changed,
+ * not to the size of the window.
+ */
+public class RepaintScheduler {
+
+  private static final int FRAME_MILLIS = 16;
+  private static final int DEFAULT_MERGE_DISTANCE = 16;
+  private static final int MAX_REGIONS = 16;
+
+  private final Consumer<Rectangle> repaint;
+  private final Executor frameExecutor;
+  private final int mergeDistance;
+
+  private final List<Rectangle> regions;
+  private boolean scheduled;
+
+  /**
+   * Creates a scheduler that flushes on the event dispatch thread at the end of each frame.
+   *
+   * @param repaint receives each merged region; must not be null
+   * @throws PreConditionsException if {@code repaint} is null
+   */
+  public RepaintScheduler(Consumer<Rectangle> repaint) {
+    this(repaint, RepaintScheduler::nextFrame, DEFAULT_MERGE_DISTANCE);
+  }
+
+  /**
+   * Creates a scheduler.
+   *
+   * @param repaint receives each merged region; must not be null
+   * @param frameExecutor runs the flush once the current frame is over; must not be null
+   * @param mergeDistance regions closer than this many pixels are merged; must not be negative
+   * @throws PreConditionsException if any argument is invalid
+   */
+  public RepaintScheduler(Consumer<Rectangle> repaint, Executor frameExecutor, int mergeDistance) {
+    PreConditions.requireNotNull(repaint, "repaint must not be null")
+        .andNotNull(frameExecutor, "frameExecutor must not be null")
+        .and(mergeDistance >= 0, "mergeDistance must not be negative");
+
+    this.repaint = repaint;
+    this.frameExecutor = frameExecutor;
+    this.mergeDistance = mergeDistance;
+    this.regions = new ArrayList<>();
+  }
+
+  /**
+   * Marks a region as changed. The first mark of a frame schedules a flush; the following ones only
+   * merge into the pending regions.
+   *
+   * @param x the left edge of the region
+   * @param y the top edge of the region
+   * @param width the width of the region
+   * @param height the height of the region
+   */
+  public void markDirty(int x, int y, int width, int height) {
+    if (width <= 0 || height <= 0) {
+      return;
+    }
+    boolean schedule;
+    synchronized (this) {
+      merge(new Rectangle(x, y, width, height));
+      schedule = !scheduled;
+      scheduled = true;
+    }
+    if (schedule) {
+      frameExecutor.execute(this::flush);
+    }
+  }
+
+  /** Repaints every pending region and starts a new frame. */
+  public void flush() {
+    List<Rectangle> pending;
+    synchronized (this) {
+      pending = new ArrayList<>(regions);
+      regions.clear();
+      scheduled = false;
+    }
+    pending.forEach(repaint);
+  }
+
+  private void merge(Rectangle region) {
+    Rectangle merged = region;
+    boolean changed = true;
+    while (changed) {
+      changed = false;
+      for (int i = regions.size() - 1; i >= 0; i--) {
+        if (isNear(regions.get(i), merged)) {
+          merged = merged.union(regions.remove(i));
+          changed = true;
+        }
+      }
+    }
+    regions.add(merged);
+
+    if (regions.size() > MAX_REGIONS) {
+      Rectangle union = regions.get(0);
+      for (Rectangle pending : regions) {
+        union = union.union(pending);
+      }
+      regions.clear();
+      regions.add(union);
+    }
+  }
+
+  private boolean isNear(Rectangle first, Rectangle second) {
+    return first.x - mergeDistance <= second.x + second.width
+        && second.x - mergeDistance <= first.x + first.width
+        && first.y - mergeDistance <= second.y + second.height
+        && second.y - mergeDistance <= first.y + first.height;
+  }
+
+  private static void nextFrame(Runnable flush) {
+    Timer timer = new Timer(FRAME_MILLIS, event -> flush.run());
+    timer.setRepeats(false);
+    timer.start();
+  }
+}
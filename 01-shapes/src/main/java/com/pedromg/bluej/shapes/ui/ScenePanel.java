@@ -0,0 +1,232 @@
+package com.pedromg.bluej.shapes.ui;
+
+import com.pedromg.bluej.shapes.domain.Scene;
+import com.pedromg.bluej.shapes.domain.ShapeIndex;
+import com.pedromg.bluej.shapes.domain.ShapeStore;
+import com.pedromg.bluej.shapes.jfr.PaintEvent;
+import com.pedromg.bluej.shapes.metrics.LatencyHistogram;
+import com.pedromg.bluej.shapes.metrics.PaintMetrics;
+import com.pedromg.bluej.shapes.preconditions.PreConditions;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import com.pedromg.bluej.shapes.render.SceneRenderer;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.Locale;
+import javax.swing.JPanel;
+import javax.swing.Timer;
+
+public class ScenePanel extends JPanel {
+
+  private static final Color HOVER_COLOR = Color.GRAY;
+  private static final Color SELECTION_COLOR = Color.BLACK;
+  private static final Color HUD_BACKGROUND = new Color(0, 0, 0, 160);
+  private static final Color HUD_FOREGROUND = Color.WHITE;
+  private static final Rectangle HUD_BOUNDS = new Rectangle(0, 0, 300, 20);
+  private static final int HUD_REFRESH_MILLIS = 500;
+  private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+  private final Scene scene;
+  private final SceneRenderer renderer;
+  private ShapeIndex index;
+  private final PaintMetrics metrics;
+  private final Timer hudRefresh;
+
+  private int hoveredShape = -1;
+  private int selectedShape = -1;
+
+  /**
+   * Constructs a ScenePanel that paints every shape of the scene itself, instead of hosting one
+   * component per shape.
+   *
+   * <p>The shape under the mouse is outlined, and clicking selects it. Picking goes through a
+   * {@link ShapeIndex}, so it stays fast on scenes with many shapes. The index is only built on the
+   * first pick, so creating the panel does not read every shape of a mapped scene file.
+   *
+   * @param scene the scene to display; must not be null
+   * @param renderer the renderer for the scene; must not be null
+   * @throws PreConditionsException if any argument is null
+   */
+  public ScenePanel(Scene scene, SceneRenderer renderer) {
+    this(scene, renderer, new PaintMetrics());
+  }
+
+  /**
+   * Constructs a ScenePanel that records how long each frame takes to paint.
+   *
+   * @param scene the scene to display; must not be null
+   * @param renderer the renderer for the scene; must not be null
+   * @param metrics where frame durations are recorded; must not be null
+   * @throws PreConditionsException if any argument is null
+   */
+  public ScenePanel(Scene scene, SceneRenderer renderer, PaintMetrics metrics) {
+    PreConditions.requireNotNull(scene, "scene must not be null")
+        .andNotNull(renderer, "renderer must not be null")
+        .andNotNull(metrics, "metrics must not be null");
+
+    this.scene = scene;
+    this.renderer = renderer;
+    this.metrics = metrics;
+    this.hudRefresh = new Timer(HUD_REFRESH_MILLIS, event -> repaint(HUD_BOUNDS));
+
+    MouseAdapter picker =
+        new MouseAdapter() {
+          @Override
+          public void mouseMoved(MouseEvent event) {
+            hover(pick(event));
+          }
+
+          @Override
+          public void mouseExited(MouseEvent event) {
+            hover(-1);
+          }
+
+          @Override
+          public void mouseClicked(MouseEvent event) {
+            select(pick(event));
+          }
+        };
+    addMouseListener(picker);
+    addMouseMotionListener(picker);
+  }
+
+  /** Returns the preferred size of the panel, which is the area covered by the scene. */
+  @Override
+  public Dimension getPreferredSize() {
+    return new Dimension(scene.width(), scene.height());
+  }
+
+  /**
+   * Returns the index in the scene of the shape under the mouse.
+   *
+   * @return the index, or -1 if the mouse is not over a shape
+   */
+  public int hoveredShape() {
+    return hoveredShape;
+  }
+
+  /**
+   * Returns the index in the scene of the last shape clicked.
+   *
+   * @return the index, or -1 if nothing is selected
+   */
+  public int selectedShape() {
+    return selectedShape;
+  }
+
+  /**
+   * Shows or hides an overlay with the frame paint times in the top-left corner.
+   *
+   * <p>While visible, the overlay refreshes twice per second even when nothing else changes.
+   *
+   * @param visible whether the overlay is shown
+   */
+  public void setHudVisible(boolean visible) {
+    if (visible) {
+      hudRefresh.start();
+    } else {
+      hudRefresh.stop();
+    }
+    repaint(HUD_BOUNDS);
+  }
+
+  /**
+   * Returns whether the frame time overlay is shown.
+   *
+   * @return true if the overlay is shown
+   */
+  public boolean isHudVisible() {
+    return hudRefresh.isRunning();
+  }
+
+  /**
+   * Paints the scene in a single pass, then outlines the hovered and selected shapes.
+   *
+   * <p>The time spent painting is recorded as one frame in the paint metrics.
+   *
+   * @param g the {@code Graphics} context in which to paint
+   */
+  @Override
+  protected void paintComponent(Graphics g) {
+    PaintEvent event = new PaintEvent();
+    event.begin();
+    long start = System.nanoTime();
+    super.paintComponent(g);
+    Graphics2D g2d = (Graphics2D) g;
+
+    renderer.render(g2d, scene);
+    outline(g2d, hoveredShape, HOVER_COLOR);
+    outline(g2d, selectedShape, SELECTION_COLOR);
+    metrics.recordFrame(System.nanoTime() - start);
+
+    if (isHudVisible()) {
+      paintHud(g2d);
+    }
+    event.commit(getClass(), g.getClipBounds());
+  }
+
+  private void paintHud(Graphics2D g2d) {
+    LatencyHistogram frames = metrics.frames();
+    String text =
+        String.format(
+            Locale.ROOT,
+            "paint p50 %.2f ms  p99 %.2f ms  max %.2f ms  (%d)",
+            frames.percentile(50) / NANOS_PER_MILLI,
+            frames.percentile(99) / NANOS_PER_MILLI,
+            frames.max() / NANOS_PER_MILLI,
+            frames.count());
+    g2d.setColor(HUD_BACKGROUND);
+    g2d.fillRect(HUD_BOUNDS.x, HUD_BOUNDS.y, HUD_BOUNDS.width, HUD_BOUNDS.height);
+    g2d.setColor(HUD_FOREGROUND);
+    g2d.drawString(text, HUD_BOUNDS.x + 4, HUD_BOUNDS.y + HUD_BOUNDS.height - 6);
+  }
+
+  private int pick(MouseEvent event) {
+    if (index == null) {
+      index = new ShapeIndex(scene.store());
+    } else {
+      index.update();
+    }
+    return index.shapeAt(event.getX(), event.getY());
+  }
+
+  private void hover(int shape) {
+    if (shape != hoveredShape) {
+      repaintShape(hoveredShape);
+      hoveredShape = shape;
+      repaintShape(hoveredShape);
+    }
+  }
+
+  private void select(int shape) {
+    if (shape != selectedShape) {
+      repaintShape(selectedShape);
+      selectedShape = shape;
+      repaintShape(selectedShape);
+    }
+  }
+
+  private void outline(Graphics2D g2d, int shape, Color color) {
+    if (shape >= 0) {
+      Rectangle bounds = bounds(shape);
+      g2d.setColor(color);
+      g2d.drawRect(bounds.x, bounds.y, bounds.width - 1, bounds.height - 1);
+    }
+  }
+
+  private void repaintShape(int shape) {
+    if (shape >= 0) {
+      repaint(bounds(shape));
+    }
+  }
+
+  private Rectangle bounds(int shape) {
+    ShapeStore store = scene.store();
+    return new Rectangle(
+        store.x(shape), store.y(shape), store.widthInPixels(shape), store.heightInPixels(shape));
+  }
+}
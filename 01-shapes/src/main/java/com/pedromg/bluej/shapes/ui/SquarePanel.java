@@ -1,17 +1,22 @@
 package com.pedromg.bluej.shapes.ui;
 
 import com.pedromg.bluej.shapes.domain.Square;
+import com.pedromg.bluej.shapes.jfr.PaintEvent;
 import com.pedromg.bluej.shapes.preconditions.PreConditions;
 import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import com.pedromg.bluej.shapes.render.LevelOfDetail;
+import com.pedromg.bluej.shapes.render.ShapeRenderer;
+import com.pedromg.bluej.shapes.render.SquareRenderer;
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.awt.RenderingHints;
 import javax.swing.JPanel;
 
 public class SquarePanel extends JPanel {
 
   private final Square square;
+  private final ShapeRenderer<? super Square> renderer;
+  private final LevelOfDetail levelOfDetail;
 
   /**
    * Constructs a SquarePanel to visually represent the specified Square.
@@ -20,9 +25,24 @@ public class SquarePanel extends JPanel {
    * @throws PreConditionsException if the provided square is null
    */
   public SquarePanel(Square square) {
-    PreConditions.requireNotNull(square, "square must not be null");
+    this(square, new SquareRenderer());
+  }
+
+  /**
+   * Constructs a SquarePanel that paints through the given renderer, such as a {@code
+   * SpriteRenderer} that blits a cached image instead of rasterizing the geometry again.
+   *
+   * @param square the Square to be displayed; must not be null
+   * @param renderer the renderer that fills the square; must not be null
+   * @throws PreConditionsException if any argument is null
+   */
+  public SquarePanel(Square square, ShapeRenderer<? super Square> renderer) {
+    PreConditions.requireNotNull(square, "square must not be null")
+        .andNotNull(renderer, "renderer must not be null");
 
     this.square = square;
+    this.renderer = renderer;
+    this.levelOfDetail = LevelOfDetail.onScreen();
   }
 
   /** Returns the preferred size of the panel, which is determined by the square's side length. */
@@ -35,19 +55,19 @@ public class SquarePanel extends JPanel {
    * Paints the panel by rendering the associated square with its color and size.
    *
    * <p>This method fills the panel with a square whose color and side length are determined by the
-   * associated {@code Square} object.
+   * associated {@code Square} object, at the {@link LevelOfDetail#onScreen() level of detail} of
+   * the panel.
    *
    * @param g the {@code Graphics} context in which to paint
    */
   @Override
   public void paintComponent(Graphics g) {
+    PaintEvent event = new PaintEvent();
+    event.begin();
     super.paintComponent(g);
     Graphics2D g2d = (Graphics2D) g;
 
-    g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-    g2d.setColor(square.color());
-
-    int sideLength = square.lengthInPixels();
-    g2d.fillRect(0, 0, sideLength, sideLength);
+    levelOfDetail.render(g2d, square, renderer);
+    event.commit(getClass(), g.getClipBounds());
   }
 }
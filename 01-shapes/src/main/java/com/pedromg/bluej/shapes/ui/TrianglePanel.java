@@ -1,19 +1,22 @@
 package com.pedromg.bluej.shapes.ui;
 
 import com.pedromg.bluej.shapes.domain.Triangle;
+import com.pedromg.bluej.shapes.jfr.PaintEvent;
 import com.pedromg.bluej.shapes.preconditions.PreConditions;
 import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import com.pedromg.bluej.shapes.render.LevelOfDetail;
+import com.pedromg.bluej.shapes.render.ShapeRenderer;
+import com.pedromg.bluej.shapes.render.TriangleRenderer;
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.awt.RenderingHints;
 import javax.swing.JPanel;
 
 public class TrianglePanel extends JPanel {
 
   private final Triangle triangle;
-  private final int[] xPoints;
-  private final int[] yPoints;
+  private final ShapeRenderer<? super Triangle> renderer;
+  private final LevelOfDetail levelOfDetail;
 
   /**
    * Constructs a TrianglePanel with the specified triangle.
@@ -22,11 +25,24 @@ public class TrianglePanel extends JPanel {
    * @throws PreConditionsException if the triangle is null
    */
   public TrianglePanel(Triangle triangle) {
-    PreConditions.requireNotNull(triangle, "triangle must not be null");
+    this(triangle, new TriangleRenderer());
+  }
+
+  /**
+   * Constructs a TrianglePanel that paints through the given renderer, such as a {@code
+   * SpriteRenderer} that blits a cached image instead of rasterizing the geometry again.
+   *
+   * @param triangle the Triangle object to be displayed in the panel; must not be null
+   * @param renderer the renderer that fills the triangle; must not be null
+   * @throws PreConditionsException if any argument is null
+   */
+  public TrianglePanel(Triangle triangle, ShapeRenderer<? super Triangle> renderer) {
+    PreConditions.requireNotNull(triangle, "triangle must not be null")
+        .andNotNull(renderer, "renderer must not be null");
 
     this.triangle = triangle;
-    this.xPoints = calculateXPoints();
-    this.yPoints = calculateYPoints();
+    this.renderer = renderer;
+    this.levelOfDetail = LevelOfDetail.onScreen();
   }
 
   /** Returns the preferred size of the panel based on the triangle's side length. */
@@ -40,26 +56,19 @@ public class TrianglePanel extends JPanel {
    *
    * <p>The triangle is drawn with its base at the bottom and its apex pointing upwards. The
    * vertices are calculated based on the side length and height. The points are: - Bottom left: (0,
-   * height) - Top: (sideLength / 2, 0) - Bottom right: (sideLength, height)
+   * height) - Top: (sideLength / 2, 0) - Bottom right: (sideLength, height). It is painted at the
+   * {@link LevelOfDetail#onScreen() level of detail} of the panel.
    *
    * @param g the Graphics object used for drawing
    */
   @Override
   protected void paintComponent(Graphics g) {
+    PaintEvent event = new PaintEvent();
+    event.begin();
     super.paintComponent(g);
 
     Graphics2D g2d = (Graphics2D) g;
-    g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-    g2d.setColor(triangle.color());
-    g2d.fillPolygon(xPoints, yPoints, 3);
-  }
-
-  private int[] calculateXPoints() {
-    return new int[] {0, triangle.lengthInPixels() / 2, triangle.lengthInPixels()};
-  }
-
-  private int[] calculateYPoints() {
-    return new int[] {triangle.heightInPixels(), 0, triangle.heightInPixels()};
+    levelOfDetail.render(g2d, triangle, renderer);
+    event.commit(getClass(), g.getClipBounds());
   }
 }
@@ -0,0 +1,101 @@
+package com.pedromg.bluej.shapes.animation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.pedromg.bluej.shapes.domain.Circle;
+import com.pedromg.bluej.shapes.domain.Shape;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.awt.Color;
+import org.junit.jupiter.api.Test;
+
+class AnimationStateTest {
+
+  private static final float DELTA = 1e-4f;
+
+  @Test
+  void shouldKeepShapesStillUntilTweened() {
+    // Given
+    Shape circle = new Circle(5, Color.RED);
+    AnimationState state = new AnimationState(1);
+    int index = state.add(circle, 10f, 20f);
+
+    // When
+    state.step(0.5f);
+
+    // Then
+    assertSame(circle, state.shape(index));
+    assertEquals(10f, state.x(index, 1f), DELTA);
+    assertEquals(20f, state.y(index, 1f), DELTA);
+    assertEquals(0f, state.rotation(index, 1f), DELTA);
+    assertEquals(1f, state.scale(index, 1f), DELTA);
+  }
+
+  @Test
+  void shouldEaseTowardsTheTargetsAndBack() {
+    // Given
+    AnimationState state = new AnimationState(1);
+    int index = state.add(new Circle(5, Color.RED), 0f, 0f);
+    state.tween(index, 100f, 50f, 2f, 3f, 1f);
+
+    // When
+    state.step(0.5f);
+    float halfway = state.x(index, 1f);
+    state.step(0.5f);
+    float turning = state.x(index, 1f);
+    state.step(0.5f);
+    float back = state.x(index, 1f);
+
+    // Then
+    assertEquals(50f, halfway, DELTA);
+    assertEquals(100f, turning, DELTA);
+    assertEquals(50f, back, DELTA);
+    assertEquals(25f, state.y(index, 1f), DELTA);
+    assertEquals(1f, state.rotation(index, 1f), DELTA);
+    assertEquals(2f, state.scale(index, 1f), DELTA);
+  }
+
+  @Test
+  void shouldInterpolateBetweenTheLastTwoSteps() {
+    // Given
+    AnimationState state = new AnimationState(1);
+    int index = state.add(new Circle(5, Color.RED), 0f, 0f);
+    state.tween(index, 100f, 0f, 0f, 1f, 1f);
+
+    // When
+    state.step(0.5f);
+
+    // Then
+    assertEquals(0f, state.x(index, 0f), DELTA);
+    assertEquals(25f, state.x(index, 0.5f), DELTA);
+    assertEquals(50f, state.x(index, 1f), DELTA);
+  }
+
+  @Test
+  void shouldGrowPastItsInitialCapacity() {
+    // Given
+    AnimationState state = new AnimationState(1);
+
+    // When
+    for (int i = 0; i < 100; i++) {
+      state.add(new Circle(5, Color.RED), i, i);
+    }
+
+    // Then
+    assertEquals(100, state.size());
+    assertEquals(99f, state.x(99, 0f), DELTA);
+  }
+
+  @Test
+  void shouldRejectInvalidArguments() {
+    AnimationState state = new AnimationState(1);
+    int index = state.add(new Circle(5, Color.RED), 0f, 0f);
+
+    assertThrows(PreConditionsException.class, () -> new AnimationState(0));
+    assertThrows(PreConditionsException.class, () -> state.add(null, 0f, 0f));
+    assertThrows(PreConditionsException.class, () -> state.tween(1, 0f, 0f, 0f, 1f, 1f));
+    assertThrows(PreConditionsException.class, () -> state.tween(index, 0f, 0f, 0f, 0f, 1f));
+    assertThrows(PreConditionsException.class, () -> state.tween(index, 0f, 0f, 0f, 1f, 0f));
+  }
+}
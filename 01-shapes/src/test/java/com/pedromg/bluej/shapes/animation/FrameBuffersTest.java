@@ -0,0 +1,138 @@
+package com.pedromg.bluej.shapes.animation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+class FrameBuffersTest {
+
+  @Test
+  void shouldShowNothingBeforeAFrameIsPublished() {
+    // Given
+    FrameBuffers buffers = new FrameBuffers(BufferedImage.TYPE_INT_RGB);
+
+    // When
+    boolean swapped = buffers.swap();
+
+    // Then
+    assertFalse(swapped);
+    assertNull(buffers.front());
+  }
+
+  @Test
+  void shouldSwapInThePublishedFrame() {
+    // Given
+    FrameBuffers buffers = new FrameBuffers(BufferedImage.TYPE_INT_RGB);
+    BufferedImage frame = buffers.back(10, 20);
+
+    // When
+    buffers.publish();
+    boolean swapped = buffers.swap();
+
+    // Then
+    assertTrue(swapped);
+    assertSame(frame, buffers.front());
+    assertNotSame(frame, buffers.back(10, 20));
+    assertFalse(buffers.swap());
+  }
+
+  @Test
+  void shouldDropFramesThatWereNotShown() {
+    // Given
+    FrameBuffers buffers = new FrameBuffers(BufferedImage.TYPE_INT_RGB);
+    BufferedImage first = buffers.back(10, 10);
+    buffers.publish();
+    BufferedImage second = buffers.back(10, 10);
+    buffers.publish();
+
+    // When
+    buffers.swap();
+
+    // Then
+    assertSame(second, buffers.front());
+    assertSame(first, buffers.back(10, 10));
+  }
+
+  @Test
+  void shouldRecycleAtMostThreeImages() {
+    // Given
+    FrameBuffers buffers = new FrameBuffers(BufferedImage.TYPE_INT_RGB);
+    Map<BufferedImage, Boolean> images = new IdentityHashMap<>();
+
+    // When
+    for (int i = 0; i < 100; i++) {
+      images.put(buffers.back(10, 10), true);
+      buffers.publish();
+      if (i % 3 == 0) {
+        buffers.swap();
+      }
+    }
+
+    // Then
+    assertEquals(3, images.size());
+  }
+
+  @Test
+  void shouldReplaceTheBackBufferWhenTheSizeChanges() {
+    // Given
+    FrameBuffers buffers = new FrameBuffers(BufferedImage.TYPE_INT_RGB);
+    buffers.back(10, 10);
+
+    // When
+    BufferedImage resized = buffers.back(30, 40);
+
+    // Then
+    assertEquals(30, resized.getWidth());
+    assertEquals(40, resized.getHeight());
+    assertEquals(BufferedImage.TYPE_INT_RGB, resized.getType());
+  }
+
+  @Test
+  void shouldNeverShowAFrameBeingDrawn() throws InterruptedException {
+    // Given
+    FrameBuffers buffers = new FrameBuffers(BufferedImage.TYPE_INT_RGB);
+    AtomicBoolean running = new AtomicBoolean(true);
+    Thread renderer =
+        new Thread(
+            () -> {
+              int frame = 0;
+              while (running.get()) {
+                BufferedImage back = buffers.back(4, 4);
+                frame++;
+                for (int i = 0; i < 16; i++) {
+                  back.setRGB(i % 4, i / 4, frame);
+                }
+                buffers.publish();
+              }
+            });
+    renderer.start();
+
+    // When
+    boolean torn = false;
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(200);
+    while (System.nanoTime() < deadline && !torn) {
+      if (buffers.swap()) {
+        BufferedImage front = buffers.front();
+        int first = front.getRGB(0, 0);
+        for (int i = 1; i < 16; i++) {
+          torn |= front.getRGB(i % 4, i / 4) != first;
+        }
+      }
+    }
+    running.set(false);
+    renderer.join();
+
+    // Then
+    assertFalse(torn);
+  }
+}
@@ -0,0 +1,70 @@
+package com.pedromg.bluej.shapes.animation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.pedromg.bluej.shapes.domain.Circle;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class FrameLoopTest {
+
+  private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  @Test
+  void shouldRunFixedStepsWhateverTheFrameRate() {
+    // Given
+    AnimationState state = new AnimationState(1);
+    int index = state.add(new Circle(5, Color.RED), 0f, 0f);
+    state.tween(index, 100f, 0f, 0f, 1f, 10f);
+    FrameLoop loop = new FrameLoop(state, 100);
+
+    // When
+    loop.advance(0);
+    float alpha = loop.advance(25 * MILLIS);
+
+    // Then
+    assertEquals(2, loop.steps());
+    assertEquals(0.5f, alpha, 1e-4f);
+  }
+
+  @Test
+  void shouldClampLongPauses() {
+    // Given
+    FrameLoop loop = new FrameLoop(new AnimationState(1), 100);
+
+    // When
+    loop.advance(0);
+    loop.advance(TimeUnit.SECONDS.toNanos(10));
+
+    // Then
+    assertEquals(25, loop.steps());
+  }
+
+  @Test
+  void shouldRejectInvalidArguments() {
+    assertThrows(PreConditionsException.class, () -> new FrameLoop(null, 60));
+    assertThrows(PreConditionsException.class, () -> new FrameLoop(new AnimationState(1), 0));
+  }
+
+  @Test
+  void shouldReportFrameRateEveryInterval() {
+    // Given
+    List<String> reports = new ArrayList<>();
+    FrameStats stats = new FrameStats(1000 * MILLIS, reports::add);
+
+    // When
+    for (int frame = 0; frame <= 100; frame++) {
+      stats.frame(frame * 10 * MILLIS);
+    }
+
+    // Then
+    assertEquals(1, reports.size());
+    assertTrue(reports.get(0).startsWith("100.0 fps, frame time avg 10.00 ms, max 10.00 ms"));
+  }
+}
@@ -1,13 +1,26 @@
 package com.pedromg.bluej.shapes.command;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.pedromg.bluej.shapes.mocks.MockCommandHandler;
 import com.pedromg.bluej.shapes.mocks.MockCommandPalette;
 import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Test;
 
 class CommandDispatcherTest {
@@ -43,4 +56,172 @@ class CommandDispatcherTest {
     // Then
     assertEquals(1, palette.helpCalls());
   }
+
+  @Test
+  void shouldRunHandlerOnExecutor() throws Exception {
+    // Given
+    ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "command"));
+    AtomicReference<String> thread = new AtomicReference<>();
+    CommandPalette palette =
+        new CommandPalette().add("mock", handler(() -> thread.set(currentThreadName())));
+    CommandDispatcher dispatcher = new CommandDispatcher(palette, executor);
+
+    // When
+    dispatcher.dispatch(new CommandRequest("mock", List.of(), Set.of())).get(5, TimeUnit.SECONDS);
+
+    // Then
+    assertEquals("command", thread.get());
+    executor.shutdown();
+  }
+
+  @Test
+  void shouldInterruptHandlerWhenCancelled() throws Exception {
+    // Given
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch interrupted = new CountDownLatch(1);
+    CommandPalette palette = new CommandPalette().add("wait", waiting(started, interrupted));
+    CommandDispatcher dispatcher = new CommandDispatcher(palette, executor);
+
+    // When
+    CompletableFuture<Void> handled =
+        dispatcher.dispatch(new CommandRequest("wait", List.of(), Set.of()));
+    started.await(5, TimeUnit.SECONDS);
+    handled.cancel(true);
+
+    // Then
+    assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    assertTrue(handled.isCancelled());
+    executor.shutdown();
+  }
+
+  @Test
+  void shouldInterruptHandlerWhenTimedOut() throws Exception {
+    // Given
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch interrupted = new CountDownLatch(1);
+    CommandPalette palette = new CommandPalette().add("wait", waiting(started, interrupted));
+    CommandDispatcher dispatcher = new CommandDispatcher(palette, executor);
+
+    // When
+    CompletableFuture<Void> handled =
+        dispatcher.dispatch(new CommandRequest("wait", List.of(), Set.of()), Duration.ofMillis(50));
+
+    // Then
+    ExecutionException exception =
+        assertThrows(ExecutionException.class, () -> handled.get(5, TimeUnit.SECONDS));
+    assertInstanceOf(TimeoutException.class, exception.getCause());
+    assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    executor.shutdown();
+  }
+
+  @Test
+  void shouldReportTimeoutWhenHandlingWithTimeout() {
+    // Given
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    CommandPalette palette =
+        new CommandPalette().add("wait", waiting(new CountDownLatch(1), new CountDownLatch(1)));
+    CommandDispatcher dispatcher = new CommandDispatcher(palette, executor);
+    CommandRequest request = new CommandRequest("wait", List.of(), Set.of());
+
+    // When
+    CancellationException exception =
+        assertThrows(
+            CancellationException.class, () -> dispatcher.handle(request, Duration.ofMillis(50)));
+
+    // Then
+    assertEquals("command timed out", exception.getMessage());
+    executor.shutdown();
+  }
+
+  @Test
+  void shouldFailDispatchWhenCommandIsUnknown() {
+    // Given
+    CommandPalette palette = new CommandPalette().add("mock", new MockCommandHandler());
+    CommandDispatcher dispatcher = new CommandDispatcher(palette);
+
+    // When
+    CompletableFuture<Void> handled =
+        dispatcher.dispatch(new CommandRequest("mokc", List.of(), Set.of()));
+
+    // Then
+    ExecutionException exception = assertThrows(ExecutionException.class, handled::get);
+    CommandNotFoundException notFound =
+        assertInstanceOf(CommandNotFoundException.class, exception.getCause());
+    assertEquals(List.of("mock"), notFound.suggestions());
+  }
+
+  @Test
+  void shouldRethrowHandlerException() {
+    // Given
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    IllegalStateException failure = new IllegalStateException("failed");
+    CommandPalette palette =
+        new CommandPalette()
+            .add(
+                "fail",
+                handler(
+                    () -> {
+                      throw failure;
+                    }));
+    CommandDispatcher dispatcher = new CommandDispatcher(palette, executor);
+    CommandRequest request = new CommandRequest("fail", List.of(), Set.of());
+
+    // When
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, () -> dispatcher.handle(request));
+
+    // Then
+    assertSame(failure, exception);
+    executor.shutdown();
+  }
+
+  @Test
+  void shouldRejectInvalidTimeout() {
+    CommandDispatcher dispatcher = new CommandDispatcher(new CommandPalette());
+    CommandRequest request = new CommandRequest("mock", List.of(), Set.of());
+
+    assertThrows(PreConditionsException.class, () -> dispatcher.dispatch(request, null));
+    assertThrows(PreConditionsException.class, () -> dispatcher.dispatch(request, Duration.ZERO));
+    assertThrows(
+        PreConditionsException.class, () -> dispatcher.dispatch(request, Duration.ofSeconds(-1)));
+  }
+
+  @Test
+  void shouldRejectNullExecutor() {
+    assertThrows(
+        PreConditionsException.class, () -> new CommandDispatcher(new CommandPalette(), null));
+  }
+
+  private static String currentThreadName() {
+    return Thread.currentThread().getName();
+  }
+
+  private static CommandHandler handler(Runnable action) {
+    return new CommandHandler() {
+      @Override
+      public void handle(CommandRequest request) {
+        action.run();
+      }
+
+      @Override
+      public String helpMessage() {
+        return "Runs an action";
+      }
+    };
+  }
+
+  /** A handler waiting until it is interrupted. */
+  private static CommandHandler waiting(CountDownLatch started, CountDownLatch interrupted) {
+    return handler(
+        () -> {
+          started.countDown();
+          try {
+            Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+          } catch (InterruptedException exception) {
+            interrupted.countDown();
+          }
+        });
+  }
 }
@@ -2,10 +2,13 @@ package com.pedromg.bluej.shapes.command;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.pedromg.bluej.shapes.mocks.MockCommandHandler;
 import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 
 class CommandPaletteTest {
@@ -68,4 +71,128 @@ class CommandPaletteTest {
     // Then
     assertEquals(mockCommandHandler, actualCommandHandler);
   }
+
+  @Test
+  void shouldFindCommandByUniqueAbbreviation() {
+    // Given
+    MockCommandHandler importHandler = new MockCommandHandler();
+    CommandPalette palette =
+        new CommandPalette()
+            .add("import", importHandler)
+            .add("export", new MockCommandHandler())
+            .add("explain", new MockCommandHandler())
+            .freeze();
+
+    // When
+    CommandHandler actualCommandHandler = palette.find("im");
+
+    // Then
+    assertEquals(importHandler, actualCommandHandler);
+    assertFalse(palette.hasCommand("ex"));
+  }
+
+  @Test
+  void shouldPreferExactNameOverLongerCommands() {
+    // Given
+    MockCommandHandler loadHandler = new MockCommandHandler();
+    CommandPalette palette =
+        new CommandPalette().add("loader", new MockCommandHandler()).add("load", loadHandler);
+
+    // When
+    CommandHandler actualCommandHandler = palette.find("load");
+
+    // Then
+    assertEquals(loadHandler, actualCommandHandler);
+  }
+
+  @Test
+  void shouldSuggestCompletionsOfAmbiguousAbbreviation() {
+    // Given
+    CommandPalette palette =
+        new CommandPalette()
+            .add("export", new MockCommandHandler())
+            .add("explain", new MockCommandHandler())
+            .add("import", new MockCommandHandler());
+
+    // When
+    CommandNotFoundException exception =
+        assertThrows(CommandNotFoundException.class, () -> palette.find("ex"));
+
+    // Then
+    assertEquals(List.of("explain", "export"), exception.suggestions());
+    assertEquals("Command not found: ex (did you mean explain, export?)", exception.getMessage());
+  }
+
+  @Test
+  void shouldSuggestCommandsCloseToTypo() {
+    // Given
+    CommandPalette palette =
+        new CommandPalette()
+            .add("render", new MockCommandHandler())
+            .add("demo", new MockCommandHandler())
+            .add("import", new MockCommandHandler());
+
+    // When
+    List<String> suggestions = palette.suggestions("rnder");
+
+    // Then
+    assertEquals(List.of("render"), suggestions);
+    assertEquals(List.of(), palette.suggestions("zzzzzz"));
+  }
+
+  @Test
+  void shouldRejectCommandsOnceFrozen() {
+    // Given
+    CommandPalette palette = new CommandPalette().add("mock", new MockCommandHandler()).freeze();
+
+    // Then
+    assertThrows(
+        PreConditionsException.class, () -> palette.add("other", new MockCommandHandler()));
+  }
+
+  @Test
+  void shouldFindCommandsAddedAfterALookup() {
+    // Given
+    CommandPalette palette = new CommandPalette().add("mock", new MockCommandHandler());
+    palette.hasCommand("mock");
+
+    // When
+    palette.add("other", new MockCommandHandler());
+
+    // Then
+    assertTrue(palette.hasCommand("other"));
+    assertTrue(palette.helpMessage().contains("other: Mock command"));
+  }
+
+  @Test
+  void shouldRenderHelpOnceInInsertionOrder() {
+    // Given
+    CountingHelpHandler handler = new CountingHelpHandler();
+    CommandPalette palette =
+        new CommandPalette("run <action>").add("zeta", handler).add("alpha", handler).freeze();
+
+    // When
+    String first = palette.helpMessage();
+    String second = palette.helpMessage();
+
+    // Then
+    assertEquals(
+        "Usage: run <action>\nAvailable commands:\n    zeta: Counts\n    alpha: Counts\n", first);
+    assertSame(first, second);
+    assertEquals(2, handler.helpCalls);
+  }
+
+  private static class CountingHelpHandler implements CommandHandler {
+
+    private int helpCalls;
+
+    @Override
+    public void handle(CommandRequest request) {}
+
+    @Override
+    public String helpMessage() {
+      helpCalls++;
+      return "Counts";
+    }
+  }
 }
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -143,6 +144,30 @@ class CommandRequestTest {
     assertEquals(expectedResult, actualResult);
   }
 
+  @Test
+  void shouldResolvePathsAgainstTheWorkingDirectory() {
+    // Given
+    Path workingDirectory = Path.of("/home/user/scenes");
+    CommandRequest request =
+        new CommandRequest("load", List.of("city.bin", "/tmp/other.bin"), Set.of())
+            .withContext(new CommandContext(workingDirectory, System.out, System.err));
+
+    // When
+    Path relative = request.path(0);
+    Path absolute = request.path(1);
+
+    // Then
+    assertEquals(Path.of("/home/user/scenes/city.bin"), relative);
+    assertEquals(Path.of("/tmp/other.bin"), absolute);
+  }
+
+  @Test
+  void shouldRejectARelativeWorkingDirectory() {
+    assertThrows(
+        PreConditionsException.class,
+        () -> new CommandContext(Path.of("scenes"), System.out, System.err));
+  }
+
   static Stream<Arguments> flagsProvider() {
     return Stream.of(
         Arguments.of(Set.of("verbose"), "verbose", true),
@@ -0,0 +1,89 @@
+package com.pedromg.bluej.shapes.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.pedromg.bluej.shapes.mocks.MockCommandHandler;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class ScriptRunnerTest {
+
+  @Test
+  void shouldRunEveryCommandOfTheScript() throws IOException {
+    // Given
+    MockCommandHandler mockCommandHandler = new MockCommandHandler();
+    ScriptRunner runner = runnerFor(mockCommandHandler, new ByteArrayOutputStream());
+
+    // When
+    int failures = runner.run(script("mock a\n\n# comment\nmock b --flag\n  mock c  \n"));
+
+    // Then
+    assertEquals(0, failures);
+    assertEquals(3, mockCommandHandler.numCalls());
+  }
+
+  @Test
+  void shouldReportFailingLinesAndKeepGoing() throws IOException {
+    // Given
+    MockCommandHandler mockCommandHandler = new MockCommandHandler();
+    ByteArrayOutputStream errors = new ByteArrayOutputStream();
+    ScriptRunner runner = runnerFor(mockCommandHandler, errors);
+
+    // When
+    int failures = runner.run(script("mock\nunknown\nmock \"unclosed\nmock\n"));
+
+    // Then
+    String report = errors.toString(StandardCharsets.UTF_8);
+    assertEquals(2, failures);
+    assertEquals(2, mockCommandHandler.numCalls());
+    assertTrue(report.contains("line 2: unknown command: unknown"));
+    assertTrue(report.contains("line 3: quote must be closed"));
+  }
+
+  @Test
+  void shouldParseQuotedArguments() {
+    // Given
+    CommandParser parser = new CommandParser();
+
+    // When
+    CommandRequest request = parser.parse("render circle 'my file.png' --force \"\"");
+
+    // Then
+    assertEquals("render", request.action());
+    assertEquals(List.of("circle", "my file.png", ""), request.params());
+    assertEquals(Set.of("force"), request.flags());
+  }
+
+  @Test
+  void shouldRejectNullArguments() {
+    CommandParser parser = new CommandParser();
+    CommandDispatcher dispatcher = new CommandDispatcher(new CommandPalette());
+    PrintStream errors = new PrintStream(new ByteArrayOutputStream());
+
+    assertThrows(PreConditionsException.class, () -> new ScriptRunner(null, dispatcher, errors));
+    assertThrows(PreConditionsException.class, () -> new ScriptRunner(parser, null, errors));
+    assertThrows(PreConditionsException.class, () -> new ScriptRunner(parser, dispatcher, null));
+  }
+
+  private static ScriptRunner runnerFor(CommandHandler handler, ByteArrayOutputStream errors) {
+    CommandPalette palette = new CommandPalette().add("mock", handler);
+    return new ScriptRunner(
+        new CommandParser(),
+        new CommandDispatcher(palette),
+        new PrintStream(errors, true, StandardCharsets.UTF_8));
+  }
+
+  private static BufferedReader script(String content) {
+    return new BufferedReader(new StringReader(content));
+  }
+}
@@ -0,0 +1,296 @@
+package com.pedromg.bluej.shapes.daemon;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.pedromg.bluej.shapes.command.CommandContext;
+import com.pedromg.bluej.shapes.command.CommandDispatcher;
+import com.pedromg.bluej.shapes.command.CommandHandler;
+import com.pedromg.bluej.shapes.command.CommandPalette;
+import com.pedromg.bluej.shapes.command.CommandParser;
+import com.pedromg.bluej.shapes.command.CommandRequest;
+import com.pedromg.bluej.shapes.mocks.MockCommandHandler;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CommandDaemonTest {
+
+  @TempDir Path directory;
+
+  @Test
+  void shouldRunForwardedCommands() throws IOException {
+    // Given
+    MockCommandHandler mockCommandHandler = new MockCommandHandler();
+    try (CommandDaemon daemon = startDaemon(socket(), mockCommandHandler, 2, 4)) {
+      DaemonClient client = new DaemonClient(daemon.socket());
+
+      // When
+      String first = client.send(new String[] {"mock", "a"});
+      String second = client.send(new String[] {"mock", "b", "--flag"});
+
+      // Then
+      assertEquals("ok", first);
+      assertEquals("ok", second);
+      assertEquals(2, mockCommandHandler.numCalls());
+    }
+  }
+
+  @Test
+  void shouldReportUnknownCommands() throws IOException {
+    // Given
+    try (CommandDaemon daemon = startDaemon(socket(), new MockCommandHandler(), 1, 1)) {
+      DaemonClient client = new DaemonClient(daemon.socket());
+
+      // When
+      String response = client.send(new String[] {"unknown"});
+
+      // Then
+      assertEquals("error unknown command: unknown", response);
+    }
+  }
+
+  @Test
+  void shouldRunCommandsInTheClientDirectoryAndSendTheirOutputBack() throws IOException {
+    // Given
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ByteArrayOutputStream err = new ByteArrayOutputStream();
+    CommandContext context =
+        new CommandContext(
+            directory,
+            new PrintStream(out, true, StandardCharsets.UTF_8),
+            new PrintStream(err, true, StandardCharsets.UTF_8));
+    try (CommandDaemon daemon = startDaemon(socket(), new PrintingHandler(), 1, 1)) {
+      DaemonClient client = new DaemonClient(daemon.socket());
+
+      // When
+      String response = client.send(new String[] {"mock", "scene.bin"}, context);
+
+      // Then
+      assertEquals("ok", response);
+      assertEquals(
+          directory.resolve("scene.bin") + System.lineSeparator(),
+          out.toString(StandardCharsets.UTF_8));
+      assertEquals("warning" + System.lineSeparator(), err.toString(StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  void shouldRefuseTheStandardStreams() throws IOException {
+    // Given
+    MockCommandHandler mockCommandHandler = new MockCommandHandler();
+    try (CommandDaemon daemon = startDaemon(socket(), mockCommandHandler, 1, 1)) {
+      DaemonClient client = new DaemonClient(daemon.socket());
+
+      // When
+      String response = client.send(new String[] {"mock", "-"});
+
+      // Then
+      assertTrue(response.startsWith("error "));
+      assertEquals(0, mockCommandHandler.numCalls());
+    }
+  }
+
+  @Test
+  void shouldAnswerBusyWhenTheQueueIsFull() throws Exception {
+    // Given
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    try (CommandDaemon daemon =
+        startDaemon(socket(), new BlockingHandler(started, release), 1, 1)) {
+      DaemonClient client = new DaemonClient(daemon.socket());
+      CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> send(client));
+      assertTrue(started.await(5, TimeUnit.SECONDS));
+
+      // When
+      try (SocketChannel queued = connect(daemon);
+          SocketChannel rejected = connect(daemon)) {
+        Channels.newOutputStream(queued)
+            .write((directory + "\tmock\n").getBytes(StandardCharsets.UTF_8));
+        String busy = readResponse(rejected);
+        release.countDown();
+
+        // Then
+        assertEquals("busy", busy);
+        assertEquals("ok", readResponse(queued));
+        assertEquals("ok", running.get(5, TimeUnit.SECONDS));
+      }
+    }
+  }
+
+  @Test
+  void shouldShutDownOnRequest() throws Exception {
+    // Given
+    CommandDaemon daemon = startDaemon(socket(), new MockCommandHandler(), 1, 1);
+
+    // When
+    String response = new DaemonClient(daemon.socket()).send(new String[] {"--shutdown"});
+
+    // Then
+    assertEquals("ok", response);
+    daemon.awaitShutdown();
+    assertThrows(
+        IOException.class, () -> new DaemonClient(daemon.socket()).send(new String[] {"mock"}));
+  }
+
+  @Test
+  void shouldListenInADirectoryOnlyItsOwnerCanRead() throws IOException {
+    // Given
+    Path socket = socket();
+
+    // When
+    try (CommandDaemon daemon = startDaemon(socket, new MockCommandHandler(), 1, 1)) {
+
+      // Then
+      assertEquals(
+          "rwx------",
+          PosixFilePermissions.toString(Files.getPosixFilePermissions(socket.getParent())));
+      assertTrue(Files.exists(socket));
+    }
+    assertFalse(Files.exists(socket));
+  }
+
+  @Test
+  void shouldReplaceAStaleSocket() throws IOException {
+    // Given
+    Path socket = socket();
+    Files.createDirectories(socket.getParent());
+    Files.createFile(socket);
+
+    // When
+    try (CommandDaemon daemon = startDaemon(socket, new MockCommandHandler(), 1, 1)) {
+      String response = new DaemonClient(socket).send(new String[] {"mock"});
+
+      // Then
+      assertEquals("ok", response);
+    }
+  }
+
+  @Test
+  void shouldNotTakeOverTheSocketOfARunningDaemon() throws IOException {
+    // Given
+    Path socket = socket();
+    try (CommandDaemon daemon = startDaemon(socket, new MockCommandHandler(), 1, 1)) {
+
+      // When
+      assertThrows(
+          UncheckedIOException.class,
+          () -> startDaemon(socket, new MockCommandHandler(), 1, 1).close());
+      String response = new DaemonClient(socket).send(new String[] {"mock"});
+
+      // Then
+      assertEquals("ok", response);
+    }
+  }
+
+  @Test
+  void shouldRejectInvalidArguments() {
+    CommandParser parser = new CommandParser();
+    CommandDispatcher dispatcher = new CommandDispatcher(new CommandPalette());
+
+    Path socket = socket();
+
+    assertThrows(
+        PreConditionsException.class, () -> new CommandDaemon(null, dispatcher, socket, 1, 1));
+    assertThrows(PreConditionsException.class, () -> new CommandDaemon(parser, null, socket, 1, 1));
+    assertThrows(
+        PreConditionsException.class, () -> new CommandDaemon(parser, dispatcher, null, 1, 1));
+    assertThrows(
+        PreConditionsException.class, () -> new CommandDaemon(parser, dispatcher, socket, 0, 1));
+    assertThrows(
+        PreConditionsException.class, () -> new CommandDaemon(parser, dispatcher, socket, 1, 0));
+    assertThrows(PreConditionsException.class, () -> new DaemonClient(null));
+    assertThrows(
+        PreConditionsException.class, () -> new DaemonClient(socket).send(new String[] {"a\tb"}));
+  }
+
+  private Path socket() {
+    return directory.resolve("shapes").resolve("daemon.sock");
+  }
+
+  private static CommandDaemon startDaemon(
+      Path socket, CommandHandler handler, int workers, int queue) {
+    CommandPalette palette = new CommandPalette().add("mock", handler);
+    CommandDaemon daemon =
+        new CommandDaemon(
+            new CommandParser(), new CommandDispatcher(palette), socket, workers, queue);
+    daemon.start();
+    return daemon;
+  }
+
+  private static String send(DaemonClient client) {
+    try {
+      return client.send(new String[] {"mock"});
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+  private static SocketChannel connect(CommandDaemon daemon) throws IOException {
+    return SocketChannel.open(UnixDomainSocketAddress.of(daemon.socket()));
+  }
+
+  private static String readResponse(SocketChannel channel) throws IOException {
+    return new BufferedReader(
+            new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8))
+        .readLine();
+  }
+
+  private static class PrintingHandler implements CommandHandler {
+
+    @Override
+    public void handle(CommandRequest request) {
+      request.context().out().println(request.path(0));
+      request.context().err().print("warning");
+    }
+
+    @Override
+    public String helpMessage() {
+      return "Printing command";
+    }
+  }
+
+  private static class BlockingHandler implements CommandHandler {
+
+    private final CountDownLatch started;
+    private final CountDownLatch release;
+
+    BlockingHandler(CountDownLatch started, CountDownLatch release) {
+      this.started = started;
+      this.release = release;
+    }
+
+    @Override
+    public void handle(CommandRequest request) {
+      started.countDown();
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    @Override
+    public String helpMessage() {
+      return "Blocking command";
+    }
+  }
+}
@@ -1,11 +1,14 @@
 package com.pedromg.bluej.shapes.demo;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.pedromg.bluej.shapes.mocks.MockDemo;
 import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -68,4 +71,80 @@ class DemoCatalogTest {
     // Then
     assertEquals(expectedDemo, actualDemo);
   }
+
+  @Test
+  void shouldCreateLazyDemosOnlyWhenFound() {
+    // Given
+    AtomicInteger created = new AtomicInteger();
+    DemoCatalog catalog =
+        new DemoCatalog()
+            .register(
+                "circle",
+                () -> {
+                  created.incrementAndGet();
+                  return new MockDemo();
+                });
+
+    // When
+    Set<String> availableDemos = catalog.availableDemos();
+    int createdBeforeFind = created.get();
+    Demo demo = catalog.find("circle");
+
+    // Then
+    assertEquals(Set.of("circle"), availableDemos);
+    assertEquals(0, createdBeforeFind);
+    assertEquals(1, created.get());
+    assertInstanceOf(MockDemo.class, demo);
+  }
+
+  @Test
+  void shouldDiscoverProvidersOnlyWhenRead() {
+    // Given
+    AtomicInteger iterations = new AtomicInteger();
+    Iterable<DemoProvider> providers =
+        () -> {
+          iterations.incrementAndGet();
+          return List.<DemoProvider>of(catalog -> catalog.register("mock", MockDemo::new))
+              .iterator();
+        };
+
+    // When
+    DemoCatalog catalog = new DemoCatalog().discover(providers);
+    int iterationsBeforeRead = iterations.get();
+    Set<String> availableDemos = catalog.availableDemos();
+    Demo demo = catalog.find("mock");
+
+    // Then
+    assertEquals(0, iterationsBeforeRead);
+    assertEquals(1, iterations.get());
+    assertEquals(Set.of("mock"), availableDemos);
+    assertInstanceOf(MockDemo.class, demo);
+  }
+
+  @Test
+  void shouldPreferRegisteredDemosOverDiscoveredOnes() {
+    // Given
+    Demo expectedDemo = new MockDemo();
+    DemoCatalog catalog =
+        new DemoCatalog()
+            .discover(List.of(found -> found.register("circle", new CircleDemo())))
+            .register("circle", expectedDemo);
+
+    // When
+    Demo actualDemo = catalog.find("circle");
+
+    // Then
+    assertEquals(expectedDemo, actualDemo);
+  }
+
+  @Test
+  void shouldDiscoverBuiltInDemosFromTheClassPath() {
+    // When
+    Set<String> availableDemos = DemoCatalog.discovered().availableDemos();
+
+    // Then
+    assertEquals(
+        Set.of("circle", "square", "triangle", "animate", "animate-active", "animate-buffered"),
+        availableDemos);
+  }
 }
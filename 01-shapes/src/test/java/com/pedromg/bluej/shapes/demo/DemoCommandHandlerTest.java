@@ -2,6 +2,7 @@ package com.pedromg.bluej.shapes.demo;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.pedromg.bluej.shapes.command.CommandRequest;
 import com.pedromg.bluej.shapes.mocks.MockDemo;
@@ -53,6 +54,36 @@ class DemoCommandHandlerTest {
     assertThrows(PreConditionsException.class, () -> command.handle(request));
   }
 
+  @Test
+  void shouldListAvailableDemosWhenDemoIsNotRecognized() {
+    // Given
+    DemoCommand command = new DemoCommand(new DemoCatalog().register("circle", new MockDemo()));
+    CommandRequest request = new CommandRequest("demo", List.of("pentagon"), Set.of());
+
+    // When
+    PreConditionsException exception =
+        assertThrows(PreConditionsException.class, () -> command.handle(request));
+
+    // Then
+    assertTrue(exception.getMessage().contains("[circle]"));
+  }
+
+  @Test
+  void shouldDescribeItselfWithoutLoadingProviders() {
+    // Given
+    Iterable<DemoProvider> providers =
+        () -> {
+          throw new AssertionError("providers must not be loaded");
+        };
+    DemoCommand command = new DemoCommand(new DemoCatalog().discover(providers));
+
+    // When
+    String helpMessage = command.helpMessage();
+
+    // Then
+    assertTrue(helpMessage.contains("--hud"));
+  }
+
   @Test
   void shouldExecuteDemoSuccessfully() {
     // Given
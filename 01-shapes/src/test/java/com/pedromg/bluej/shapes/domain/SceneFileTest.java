@@ -0,0 +1,177 @@
+package com.pedromg.bluej.shapes.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.awt.Color;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SceneFileTest {
+
+  @TempDir Path directory;
+
+  @Test
+  void shouldOpenWhatWasSaved() throws IOException {
+    // Given
+    Scene scene = new Scene();
+    scene.add(new Circle(10, Color.RED), 0, 0);
+    scene.add(new Square(20, new Color(1, 2, 3, 4)), 30, 5);
+    scene.add(new Triangle(7, Color.BLUE), 100, 200);
+    Path file = directory.resolve("scene.shapes");
+
+    // When
+    SceneFile.save(scene, file);
+    Scene opened = SceneFile.open(file);
+
+    // Then
+    assertEquals(3, opened.size());
+    assertEquals(scene.width(), opened.width());
+    assertEquals(scene.height(), opened.height());
+    for (int i = 0; i < scene.size(); i++) {
+      assertEquals(scene.get(i), opened.get(i));
+    }
+  }
+
+  @Test
+  void shouldWriteTheDocumentedLayout() throws IOException {
+    // Given
+    Scene scene = new Scene();
+    scene.add(new Square(20, Color.GREEN), 3, 4);
+    Path file = directory.resolve("scene.shapes");
+
+    // When
+    SceneFile.save(scene, file);
+
+    // Then
+    ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+    assertEquals(SceneFile.HEADER_BYTES + 4 + 4 * 4, bytes.capacity());
+    assertEquals(SceneFile.MAGIC, bytes.getInt(0));
+    assertEquals(SceneFile.VERSION, bytes.getInt(4));
+    assertEquals(1, bytes.getInt(8));
+    assertEquals(23, bytes.getInt(12));
+    assertEquals(24, bytes.getInt(16));
+    assertEquals(ShapeType.SQUARE.ordinal(), bytes.get(32));
+    assertEquals(20, bytes.getInt(36));
+    assertEquals(3, bytes.getInt(40));
+    assertEquals(4, bytes.getInt(44));
+    assertEquals(Color.GREEN.getRGB(), bytes.getInt(48));
+  }
+
+  @Test
+  void shouldRejectAddingToAnOpenedScene() throws IOException {
+    // Given
+    Path file = directory.resolve("empty.shapes");
+    SceneFile.save(new Scene(), file);
+    Scene opened = SceneFile.open(file);
+
+    // Then
+    assertThrows(PreConditionsException.class, () -> opened.add(new Circle(1, Color.RED), 0, 0));
+  }
+
+  @Test
+  void shouldRejectFilesThatAreNotScenes() throws IOException {
+    // Given
+    Path text = Files.writeString(directory.resolve("text.shapes"), "not a scene at all, really");
+    Path saved = directory.resolve("saved.shapes");
+    Scene scene = new Scene();
+    scene.add(new Circle(1, Color.RED), 0, 0);
+    SceneFile.save(scene, saved);
+    byte[] bytes = Files.readAllBytes(saved);
+    Path truncated = directory.resolve("cut.shapes");
+    Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 1));
+
+    // Then
+    assertThrows(PreConditionsException.class, () -> SceneFile.open(text));
+    assertThrows(PreConditionsException.class, () -> SceneFile.open(truncated));
+  }
+
+  @Test
+  void shouldReadFilesMappedInSeveralRegions() throws IOException {
+    // Given
+    Scene scene = new Scene();
+    for (int i = 0; i < 50; i++) {
+      scene.add(new Circle(1 + i, new Color(i, 2 * i, 3 * i)), i, 2 * i);
+    }
+    Path file = directory.resolve("scene.shapes");
+    SceneFile.save(scene, file);
+
+    // When
+    Scene opened = SceneFile.open(file, 4);
+
+    // Then
+    assertEquals(scene.size(), opened.size());
+    for (int i = 0; i < scene.size(); i++) {
+      assertEquals(scene.get(i), opened.get(i));
+    }
+  }
+
+  @Test
+  void shouldSaveOverTheFileASceneWasOpenedFrom() throws IOException {
+    // Given
+    Scene scene = new Scene();
+    scene.add(new Circle(10, Color.RED), 0, 0);
+    Path file = directory.resolve("scene.shapes");
+    SceneFile.save(scene, file);
+    Scene opened = SceneFile.open(file);
+    Scene replacement = new Scene();
+    replacement.add(new Square(5, Color.BLUE), 1, 1);
+    replacement.add(new Square(6, Color.BLUE), 2, 2);
+
+    // When
+    SceneFile.save(replacement, file);
+
+    // Then
+    assertEquals(scene.get(0), opened.get(0));
+    assertEquals(2, SceneFile.open(file).size());
+    try (var files = Files.list(directory)) {
+      assertEquals(1, files.count());
+    }
+  }
+
+  @Test
+  void shouldNotRunOutOfMappingsWhenOpeningScenesRepeatedly() throws IOException {
+    // Given
+    Scene scene = new Scene();
+    scene.add(new Circle(10, Color.RED), 0, 0);
+    scene.add(new Triangle(7, Color.BLUE), 100, 200);
+    Path file = directory.resolve("scene.shapes");
+    SceneFile.save(scene, file);
+
+    // When
+    int x = 0;
+    for (int i = 0; i < 70_000; i++) {
+      try (Scene opened = SceneFile.open(file)) {
+        x += opened.store().x(1);
+      }
+    }
+
+    // Then
+    assertEquals(70_000 * 100, x);
+  }
+
+  @Test
+  void shouldEmptyAClosedScene() throws IOException {
+    // Given
+    Scene scene = new Scene();
+    scene.add(new Circle(10, Color.RED), 0, 0);
+    Path file = directory.resolve("scene.shapes");
+    SceneFile.save(scene, file);
+    Scene opened = SceneFile.open(file);
+
+    // When
+    opened.close();
+    opened.close();
+
+    // Then
+    assertEquals(0, opened.size());
+    assertThrows(IndexOutOfBoundsException.class, () -> opened.get(0));
+  }
+}
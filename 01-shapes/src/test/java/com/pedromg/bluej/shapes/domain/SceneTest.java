@@ -0,0 +1,69 @@
+package com.pedromg.bluej.shapes.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.awt.Color;
+import java.awt.Rectangle;
+import org.junit.jupiter.api.Test;
+
+class SceneTest {
+
+  @Test
+  void shouldStartEmpty() {
+    // Given
+    Scene scene = new Scene();
+
+    // Then
+    assertEquals(0, scene.size());
+    assertEquals(0, scene.width());
+    assertEquals(0, scene.height());
+  }
+
+  @Test
+  void shouldRejectNullShape() {
+    assertThrows(PreConditionsException.class, () -> new Scene().add(null, 0, 0));
+  }
+
+  @Test
+  void shouldRejectNegativePosition() {
+    // Given
+    Scene scene = new Scene();
+    Square square = new Square(10, Color.BLUE);
+
+    // Then
+    assertThrows(PreConditionsException.class, () -> scene.add(square, -1, 0));
+  }
+
+  @Test
+  void shouldKeepShapesInInsertionOrder() {
+    // Given
+    Scene scene = new Scene();
+    Circle circle = new Circle(10, Color.RED);
+    Triangle triangle = new Triangle(10, Color.YELLOW);
+
+    // When
+    int first = scene.add(circle, 0, 0);
+    int second = scene.add(triangle, 5, 5);
+
+    // Then
+    assertEquals(new PlacedShape(circle, 0, 0), scene.get(first));
+    assertEquals(new PlacedShape(triangle, 5, 5), scene.get(second));
+  }
+
+  @Test
+  void shouldGrowToCoverEveryShape() {
+    // Given
+    Scene scene = new Scene();
+
+    // When
+    scene.add(new Square(10, Color.BLUE), 100, 0);
+    scene.add(new Circle(10, Color.RED), 0, 50);
+
+    // Then
+    assertEquals(110, scene.width());
+    assertEquals(70, scene.height());
+    assertEquals(new Rectangle(0, 50, 20, 20), scene.get(1).bounds());
+  }
+}
@@ -0,0 +1,97 @@
+package com.pedromg.bluej.shapes.domain;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.awt.Color;
+import org.junit.jupiter.api.Test;
+
+class ShapeBatchTest {
+
+  private static final int RED = Color.RED.getRGB();
+
+  @Test
+  void shouldReportEveryBrokenRuleWithoutThrowing() {
+    // Given
+    ShapeBatch batch =
+        new ShapeBatch(
+            new byte[] {0, 7, 1, 2, -1},
+            new int[] {10, 10, 0, Integer.MAX_VALUE, -5},
+            new int[] {RED, RED, RED, RED, RED},
+            5);
+
+    // When
+    ValidationReport report = batch.validate();
+
+    // Then
+    assertEquals(5, report.rowsChecked());
+    assertEquals(4, report.invalidRows());
+    assertEquals(5, report.errorCount());
+    assertArrayEquals(
+        new int[] {1, 2, 3, 4, 4},
+        new int[] {report.row(0), report.row(1), report.row(2), report.row(3), report.row(4)});
+    assertEquals(ValidationRule.UNKNOWN_TYPE, report.rule(0));
+    assertEquals(ValidationRule.NON_POSITIVE_SIZE, report.rule(1));
+    assertEquals(ValidationRule.SIZE_TOO_LARGE, report.rule(2));
+    assertEquals(ValidationRule.UNKNOWN_TYPE, report.rule(3));
+    assertEquals(ValidationRule.NON_POSITIVE_SIZE, report.rule(4));
+  }
+
+  @Test
+  void shouldBuildOnlyTheValidRows() {
+    // Given
+    int blue = Color.BLUE.getRGB();
+    ShapeBatch batch =
+        new ShapeBatch(
+            new byte[] {0, 1, 9, 2, 1},
+            new int[] {5, 6, 7, 0, 8},
+            new int[] {RED, RED, RED, blue, blue},
+            5);
+
+    // When
+    Shape[] shapes = batch.validShapes(batch.validate());
+
+    // Then
+    assertEquals(3, shapes.length);
+    assertEquals(new Circle(5, Color.RED), shapes[0]);
+    assertEquals(new Square(6, Color.RED), shapes[1]);
+    assertEquals(new Square(8, Color.BLUE), shapes[2]);
+    assertSame(shapes[0].color(), shapes[1].color());
+  }
+
+  @Test
+  void shouldThrowAStacklessSummaryOnDemand() {
+    // Given
+    ValidationReport report =
+        new ShapeBatch(new byte[] {0, 0}, new int[] {0, 1}, new int[] {RED, RED}, 2).validate();
+
+    // When
+    PreConditionsException exception =
+        assertThrows(PreConditionsException.class, report::throwIfInvalid);
+
+    // Then
+    assertEquals(0, exception.getStackTrace().length);
+    assertTrue(exception.getMessage().startsWith("1 of 2 rows are invalid"));
+    assertTrue(exception.getMessage().contains("row 0: size must be a positive number"));
+  }
+
+  @Test
+  void shouldRejectInvalidArguments() {
+    byte[] types = {0};
+    int[] sizes = {1};
+    int[] argbs = {RED};
+    ShapeBatch batch = new ShapeBatch(types, sizes, argbs, 1);
+
+    assertThrows(PreConditionsException.class, () -> new ShapeBatch(null, sizes, argbs, 1));
+    assertThrows(PreConditionsException.class, () -> new ShapeBatch(types, sizes, argbs, 2));
+    assertThrows(PreConditionsException.class, () -> new ShapeBatch(types, sizes, argbs, -1));
+    assertThrows(PreConditionsException.class, () -> batch.validShapes(null));
+    assertThrows(
+        PreConditionsException.class,
+        () -> batch.validShapes(new ShapeBatch(types, sizes, argbs, 0).validate()));
+  }
+}
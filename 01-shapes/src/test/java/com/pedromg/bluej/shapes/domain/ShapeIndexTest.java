@@ -0,0 +1,147 @@
+package com.pedromg.bluej.shapes.domain;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class ShapeIndexTest {
+
+  @Test
+  void shouldRejectNullStore() {
+    assertThrows(PreConditionsException.class, () -> new ShapeIndex(null));
+  }
+
+  @Test
+  void shouldRejectNonPositiveCellSize() {
+    // Given
+    ShapeStore store = ShapeStore.onHeap(0);
+
+    // Then
+    assertThrows(PreConditionsException.class, () -> new ShapeIndex(store, 0));
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "10, 10, 0", // circle center
+    "1, 1, -1", // circle box corner, outside the circle
+    "35, 5, 1", // square
+    "80, 2, 2", // triangle apex
+    "61, 2, -1", // triangle box corner, outside the triangle
+    "500, 500, -1"
+  })
+  void shouldPickShapeUsingExactGeometry(int x, int y, int expected) {
+    // Given
+    ShapeStore store = ShapeStore.onHeap(3);
+    store.add(ShapeType.CIRCLE, 10, 0, 0, 0);
+    store.add(ShapeType.SQUARE, 10, 30, 0, 0);
+    store.add(ShapeType.TRIANGLE, 40, 60, 0, 0);
+    ShapeIndex index = new ShapeIndex(store, 16);
+
+    // Then
+    assertEquals(expected, index.shapeAt(x, y));
+  }
+
+  @Test
+  void shouldPickTopmostShape() {
+    // Given
+    ShapeStore store = ShapeStore.onHeap(2);
+    store.add(ShapeType.SQUARE, 50, 0, 0, 0);
+    store.add(ShapeType.SQUARE, 10, 20, 20, 0);
+    ShapeIndex index = new ShapeIndex(store);
+
+    // Then
+    assertEquals(1, index.shapeAt(25, 25));
+    assertEquals(0, index.shapeAt(5, 5));
+  }
+
+  @Test
+  void shouldIndexShapesAddedAfterUpdate() {
+    // Given
+    ShapeStore store = ShapeStore.onHeap(1);
+    ShapeIndex index = new ShapeIndex(store, 8);
+
+    // When
+    store.add(ShapeType.SQUARE, 10, 1000, 1000, 0);
+    index.update();
+
+    // Then
+    assertEquals(0, index.shapeAt(1005, 1005));
+  }
+
+  @Test
+  void shouldGrowCellsForShapesFarApart() {
+    // Given
+    int far = Integer.MAX_VALUE - 100;
+    ShapeStore store = ShapeStore.onHeap(3);
+    store.add(ShapeType.SQUARE, 10, 0, 0, 0);
+    store.add(ShapeType.SQUARE, 10, far, far, 0);
+    store.add(ShapeType.SQUARE, 10, far, 0, 0);
+
+    // When
+    ShapeIndex index = new ShapeIndex(store, 1);
+
+    // Then
+    assertEquals(0, index.shapeAt(5, 5));
+    assertEquals(1, index.shapeAt(far + 5, far + 5));
+    assertEquals(2, index.shapeAt(far + 5, 5));
+    assertEquals(-1, index.shapeAt(far / 2, far / 2));
+    assertArrayEquals(new int[] {1}, index.shapesIn(far, far, 100, 100));
+  }
+
+  @Test
+  void shouldMatchLinearScanForRectangleQueries() {
+    // Given
+    Random random = new Random(7);
+    ShapeStore store = ShapeStore.onHeap(500);
+    for (int i = 0; i < 500; i++) {
+      ShapeType type = ShapeType.fromCode(i % 3);
+      store.add(type, 1 + random.nextInt(40), random.nextInt(900), random.nextInt(900), 0);
+    }
+    ShapeIndex index = new ShapeIndex(store, 32);
+
+    for (int query = 0; query < 50; query++) {
+      int x = random.nextInt(900);
+      int y = random.nextInt(900);
+      int width = 1 + random.nextInt(200);
+      int height = 1 + random.nextInt(200);
+
+      // When
+      int[] actual = index.shapesIn(x, y, width, height);
+
+      // Then
+      List<Integer> expected = new ArrayList<>();
+      for (int i = 0; i < store.size(); i++) {
+        int localX = x - store.x(i);
+        int localY = y - store.y(i);
+        if (store.type(i).intersects(store.sizeInPixels(i), localX, localY, width, height)) {
+          expected.add(i);
+        }
+      }
+      assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), actual);
+    }
+  }
+
+  @Test
+  void shouldVisitEachCandidateOnce() {
+    // Given
+    ShapeStore store = ShapeStore.onHeap(1);
+    store.add(ShapeType.SQUARE, 100, 0, 0, 0);
+    ShapeIndex index = new ShapeIndex(store, 10);
+    IntStream.Builder visited = IntStream.builder();
+
+    // When
+    index.forEachCandidate(0, 0, 200, 200, visited::add);
+
+    // Then
+    assertArrayEquals(new int[] {0}, visited.build().toArray());
+  }
+}
@@ -0,0 +1,104 @@
+package com.pedromg.bluej.shapes.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.awt.Color;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class ShapeStoreTest {
+
+  @ParameterizedTest
+  @MethodSource("storesProvider")
+  void shouldReadBackEveryColumn(ShapeStore store) {
+    // When
+    int index = store.add(new Triangle(30, Color.YELLOW), 7, 9);
+
+    // Then
+    assertEquals(ShapeType.TRIANGLE, store.type(index));
+    assertEquals(30, store.sizeInPixels(index));
+    assertEquals(7, store.x(index));
+    assertEquals(9, store.y(index));
+    assertEquals(Color.YELLOW.getRGB(), store.argb(index));
+    assertEquals(30, store.widthInPixels(index));
+    assertEquals(26, store.heightInPixels(index));
+  }
+
+  @ParameterizedTest
+  @MethodSource("storesProvider")
+  void shouldRebuildEqualRecords(ShapeStore store) {
+    // Given
+    Circle circle = new Circle(10, new Color(1, 2, 3, 4));
+
+    // When
+    int index = store.add(circle, 1, 2);
+
+    // Then
+    assertEquals(circle, store.shape(index));
+    assertEquals(new PlacedShape(circle, 1, 2), store.placed(index));
+  }
+
+  @ParameterizedTest
+  @MethodSource("storesProvider")
+  void shouldShareRecordsOfEqualShapes(ShapeStore store) {
+    // Given
+    int first = store.add(ShapeType.SQUARE, 10, 0, 0, Color.BLUE.getRGB());
+    int second = store.add(ShapeType.SQUARE, 10, 50, 50, Color.BLUE.getRGB());
+
+    // Then
+    assertSame(store.shape(first), store.shape(second));
+  }
+
+  static Stream<Arguments> storesProvider() {
+    return Stream.of(Arguments.of(ShapeStore.onHeap(0)), Arguments.of(ShapeStore.offHeap(4)));
+  }
+
+  @Test
+  void shouldGrowOnHeapStore() {
+    // Given
+    ShapeStore store = ShapeStore.onHeap(1);
+
+    // When
+    for (int i = 0; i < 100; i++) {
+      store.add(ShapeType.CIRCLE, i + 1, i, i, 0xff000000);
+    }
+
+    // Then
+    assertEquals(100, store.size());
+    assertEquals(100, store.sizeInPixels(99));
+  }
+
+  @Test
+  void shouldRejectAddingToFullOffHeapStore() {
+    // Given
+    ShapeStore store = ShapeStore.offHeap(1);
+    store.add(ShapeType.CIRCLE, 1, 0, 0, 0);
+
+    // Then
+    assertThrows(PreConditionsException.class, () -> store.add(ShapeType.CIRCLE, 1, 0, 0, 0));
+  }
+
+  @Test
+  void shouldRejectNonPositiveSize() {
+    // Given
+    ShapeStore store = ShapeStore.onHeap(1);
+
+    // Then
+    assertThrows(PreConditionsException.class, () -> store.add(ShapeType.SQUARE, 0, 0, 0, 0));
+  }
+
+  @Test
+  void shouldRejectIndexOutOfRange() {
+    // Given
+    ShapeStore store = ShapeStore.onHeap(4);
+
+    // Then
+    assertThrows(IndexOutOfBoundsException.class, () -> store.x(0));
+  }
+}
@@ -0,0 +1,60 @@
+package com.pedromg.bluej.shapes.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.awt.Color;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class ShapeTypeTest {
+
+  @Test
+  void shouldFindTypeByLabel() {
+    assertEquals(ShapeType.TRIANGLE, ShapeType.fromLabel("triangle"));
+  }
+
+  @Test
+  void shouldRejectUnknownLabel() {
+    assertThrows(PreConditionsException.class, () -> ShapeType.fromLabel("hexagon"));
+  }
+
+  @Test
+  void shouldCreateShapeOfType() {
+    assertEquals(new Circle(5, Color.RED), ShapeType.CIRCLE.create(5, Color.RED));
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "CIRCLE, 10, 10, 10, true",
+    "CIRCLE, 10, 0, 0, false",
+    "CIRCLE, 10, 19, 10, true",
+    "SQUARE, 10, 9, 9, true",
+    "SQUARE, 10, 10, 9, false",
+    "TRIANGLE, 20, 10, 1, true",
+    "TRIANGLE, 20, 1, 1, false",
+    "TRIANGLE, 20, 1, 17, true",
+    "TRIANGLE, 20, 10, 18, false"
+  })
+  void shouldTestContainmentWithExactGeometry(
+      ShapeType type, int size, int x, int y, boolean expected) {
+    assertEquals(expected, type.contains(size, x, y));
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "CIRCLE, 10, 0, 0, 2, 2, false",
+    "CIRCLE, 10, 0, 0, 5, 5, true",
+    "SQUARE, 10, 9, 9, 5, 5, true",
+    "SQUARE, 10, 10, 0, 5, 5, false",
+    "TRIANGLE, 20, 0, 0, 4, 4, false",
+    "TRIANGLE, 20, 8, 0, 4, 4, true",
+    "TRIANGLE, 20, -5, 10, 10, 2, true"
+  })
+  void shouldTestRectangleOverlapWithExactGeometry(
+      ShapeType type, int size, int x, int y, int width, int height, boolean expected) {
+    assertEquals(expected, type.intersects(size, x, y, width, height));
+  }
+}
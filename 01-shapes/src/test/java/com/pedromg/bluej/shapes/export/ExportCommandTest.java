@@ -0,0 +1,50 @@
+package com.pedromg.bluej.shapes.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.pedromg.bluej.shapes.command.CommandRequest;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ExportCommandTest {
+
+  @TempDir Path directory;
+
+  @Test
+  void shouldExportTheRequestedNumberOfFrames() throws IOException {
+    // Given
+    ExportCommand command = new ExportCommand(new FrameExporter(1, 1, 1));
+    CommandRequest request = request("animate", directory.toString(), "2");
+
+    // When
+    command.handle(request);
+
+    // Then
+    try (Stream<Path> files = Files.list(directory)) {
+      assertEquals(2, files.count());
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"0", "-1", "abc", "99999999999"})
+  void shouldRejectInvalidFrames(String frames) {
+    ExportCommand command = new ExportCommand(new FrameExporter(1, 1, 1));
+    CommandRequest request = request("animate", directory.toString(), frames);
+
+    assertThrows(PreConditionsException.class, () -> command.handle(request));
+  }
+
+  private static CommandRequest request(String... params) {
+    return new CommandRequest("export", List.of(params), Set.of());
+  }
+}
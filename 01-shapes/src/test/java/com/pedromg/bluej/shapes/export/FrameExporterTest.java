@@ -0,0 +1,159 @@
+package com.pedromg.bluej.shapes.export;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.pedromg.bluej.shapes.animation.AnimationState;
+import com.pedromg.bluej.shapes.domain.Circle;
+import com.pedromg.bluej.shapes.domain.Scene;
+import com.pedromg.bluej.shapes.domain.Square;
+import com.pedromg.bluej.shapes.domain.Triangle;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import com.pedromg.bluej.shapes.render.AliasedRenderer;
+import com.pedromg.bluej.shapes.render.GeometryRenderer;
+import com.pedromg.bluej.shapes.render.ImageRenderer;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.awt.image.IndexColorModel;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FrameExporterTest {
+
+  private static final int FRAMES = 6;
+
+  @TempDir Path directory;
+
+  @Test
+  void shouldExportTheSameImageAsTheImageRenderer() throws IOException {
+    // Given
+    Scene scene = scene();
+
+    // When
+    ExportSummary summary =
+        new FrameExporter(1, 1, 1)
+            .export(new SceneFrames(scene, new GeometryRenderer()), directory, false);
+
+    // Then
+    assertEquals(new ExportSummary(1, 0), summary);
+    assertSamePixels(
+        new ImageRenderer().render(scene),
+        ImageIO.read(directory.resolve("frame-00000.png").toFile()));
+  }
+
+  @Test
+  void shouldExportTheSameFramesWhateverTheNumberOfThreads() throws IOException {
+    // Given
+    Path sequential = directory.resolve("sequential");
+    Path parallel = directory.resolve("parallel");
+
+    // When
+    new FrameExporter(1, 1, 1).export(animation(), sequential, false);
+    ExportSummary summary = new FrameExporter(3, 2, 2).export(animation(), parallel, false);
+
+    // Then
+    assertEquals(new ExportSummary(FRAMES, 0), summary);
+    try (Stream<Path> files = Files.list(parallel)) {
+      assertEquals(FRAMES, files.count());
+    }
+    for (int frame = 0; frame < FRAMES; frame++) {
+      String name = String.format("frame-%05d.png", frame);
+      assertSamePixels(
+          ImageIO.read(sequential.resolve(name).toFile()),
+          ImageIO.read(parallel.resolve(name).toFile()));
+    }
+  }
+
+  @Test
+  void shouldWriteFramesOfFewColorsWithAPalette() throws IOException {
+    // Given
+    FrameSource source = new SceneFrames(scene(), new AliasedRenderer(new GeometryRenderer()));
+
+    // When
+    ExportSummary summary = new FrameExporter(1, 1, 1).export(source, directory, true);
+
+    // Then
+    assertEquals(new ExportSummary(1, 1), summary);
+    BufferedImage image = ImageIO.read(directory.resolve("frame-00000.png").toFile());
+    assertInstanceOf(IndexColorModel.class, image.getColorModel());
+    int width = image.getWidth();
+    int[] pixels = image.getRGB(0, 0, width, image.getHeight(), null, 0, width);
+    assertEquals(4, IntStream.of(pixels).distinct().count());
+    assertEquals(Color.RED.getRGB(), image.getRGB(10, 10));
+  }
+
+  @Test
+  void shouldReportFramesThatFail() {
+    // Given
+    FrameSource failing =
+        new AnimationFrames(
+            () -> {
+              throw new IllegalStateException("broken state");
+            },
+            new GeometryRenderer(),
+            FRAMES,
+            60,
+            10,
+            10);
+
+    // Then
+    IllegalStateException exception =
+        assertThrows(
+            IllegalStateException.class,
+            () -> new FrameExporter(2, 2, 1).export(failing, directory, false));
+    assertEquals("broken state", exception.getMessage());
+  }
+
+  @Test
+  void shouldRejectInvalidArguments() {
+    assertThrows(PreConditionsException.class, () -> new FrameExporter(0, 1, 1));
+    assertThrows(PreConditionsException.class, () -> new FrameExporter(1, 0, 1));
+    assertThrows(PreConditionsException.class, () -> new FrameExporter(1, 1, 0));
+    assertThrows(
+        PreConditionsException.class,
+        () -> new FrameExporter(1, 1, 1).export(null, directory, false));
+  }
+
+  private static Scene scene() {
+    Scene scene = new Scene();
+    scene.add(new Circle(20, Color.RED), 0, 0);
+    scene.add(new Square(30, Color.BLUE), 30, 10);
+    scene.add(new Triangle(25, Color.GREEN), 10, 45);
+    return scene;
+  }
+
+  private static FrameSource animation() {
+    return new AnimationFrames(
+        () -> {
+          AnimationState state = new AnimationState();
+          int circle = state.add(new Circle(5, Color.RED), 10, 10);
+          int square = state.add(new Square(8, Color.BLUE), 40, 20);
+          state.tween(circle, 50, 40, 0, 2, 0.1f);
+          state.tween(square, 10, 30, 3, 0.5f, 0.07f);
+          return state;
+        },
+        new GeometryRenderer(),
+        FRAMES,
+        60,
+        64,
+        48);
+  }
+
+  private static void assertSamePixels(BufferedImage expected, BufferedImage actual) {
+    assertEquals(expected.getWidth(), actual.getWidth());
+    assertEquals(expected.getHeight(), actual.getHeight());
+    int width = expected.getWidth();
+    int height = expected.getHeight();
+    assertArrayEquals(
+        expected.getRGB(0, 0, width, height, null, 0, width),
+        actual.getRGB(0, 0, width, height, null, 0, width));
+  }
+}
@@ -0,0 +1,86 @@
+package com.pedromg.bluej.shapes.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.pedromg.bluej.shapes.domain.Scene;
+import com.pedromg.bluej.shapes.domain.ShapeType;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.io.IOException;
+import java.io.StringWriter;
+import org.junit.jupiter.api.Test;
+
+class SvgWriterTest {
+
+  @Test
+  void shouldWriteOneElementPerShape() throws IOException {
+    // Given
+    Scene scene = new Scene();
+    scene.add(ShapeType.CIRCLE, 5, 0, 0, 0xffff0000);
+    scene.add(ShapeType.SQUARE, 4, 10, 2, 0xff0000ff);
+    scene.add(ShapeType.TRIANGLE, 10, 20, 0, 0xffffff00);
+    StringWriter out = new StringWriter();
+
+    // When
+    int shapes = new SvgWriter(out).write(scene);
+
+    // Then
+    assertEquals(3, shapes);
+    assertEquals(
+        """
+        <?xml version="1.0" encoding="UTF-8"?>
+        <svg xmlns="http://www.w3.org/2000/svg" width="30" height="10" viewBox="0 0 30 10">
+        <circle cx="5" cy="5" r="5" fill="#ff0000"/>
+        <rect x="10" y="2" width="4" height="4" fill="#0000ff"/>
+        <polygon points="20,9 25,0 30,9" fill="#ffff00"/>
+        </svg>
+        """,
+        out.toString());
+  }
+
+  @Test
+  void shouldWriteTheOpacityOfTranslucentColors() throws IOException {
+    // Given
+    Scene scene = new Scene();
+    scene.add(ShapeType.SQUARE, 1, 0, 0, 0x80123456);
+    scene.add(ShapeType.SQUARE, 1, 0, 0, 0x00abcdef);
+    StringWriter out = new StringWriter();
+
+    // When
+    new SvgWriter(out).write(scene);
+
+    // Then
+    String[] lines = out.toString().split("\n");
+    assertEquals(
+        "<rect x=\"0\" y=\"0\" width=\"1\" height=\"1\" fill=\"#123456\" fill-opacity=\"0.502\"/>",
+        lines[2]);
+    assertEquals(
+        "<rect x=\"0\" y=\"0\" width=\"1\" height=\"1\" fill=\"#abcdef\" fill-opacity=\"0\"/>",
+        lines[3]);
+  }
+
+  @Test
+  void shouldWriteAnEmptyDocumentForAnEmptyScene() throws IOException {
+    // Given
+    StringWriter out = new StringWriter();
+
+    // When
+    int shapes = new SvgWriter(out).write(new Scene());
+
+    // Then
+    assertEquals(0, shapes);
+    assertEquals(
+        """
+        <?xml version="1.0" encoding="UTF-8"?>
+        <svg xmlns="http://www.w3.org/2000/svg" width="0" height="0" viewBox="0 0 0 0">
+        </svg>
+        """,
+        out.toString());
+  }
+
+  @Test
+  void shouldRejectNullArguments() {
+    assertThrows(PreConditionsException.class, () -> new SvgWriter(null));
+    assertThrows(PreConditionsException.class, () -> new SvgWriter(new StringWriter()).write(null));
+  }
+}
@@ -0,0 +1,179 @@
+package com.pedromg.bluej.shapes.importer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.pedromg.bluej.shapes.domain.PlacedShape;
+import com.pedromg.bluej.shapes.domain.Scene;
+import com.pedromg.bluej.shapes.domain.ShapeType;
+import com.pedromg.bluej.shapes.domain.ValidationRule;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.awt.Color;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ShapeImporterTest {
+
+  private final ByteArrayOutputStream errors = new ByteArrayOutputStream();
+
+  @Test
+  void shouldImportCsvAndJsonLines() throws IOException {
+    // Given
+    String input =
+        """
+        type,size,color,x,y
+        circle, 10, #ff0000, 1, 2
+
+        {"type": "square", "size": 20, "color": "#8000ff00", "x": 3, "y": 4}\r
+        triangle,30,#0000ff,5,6""";
+
+    // When
+    Scene scene = new Scene();
+    ImportSummary summary = importer(2, 1, 1024).run(stream(input), chunk -> addTo(scene, chunk));
+
+    // Then
+    assertEquals(new ImportSummary(3, 0), summary);
+    assertEquals(new PlacedShape(ShapeType.CIRCLE.create(10, Color.RED), 1, 2), scene.get(0));
+    assertEquals(
+        new PlacedShape(ShapeType.SQUARE.create(20, new Color(0, 255, 0, 128)), 3, 4),
+        scene.get(1));
+    assertEquals(new PlacedShape(ShapeType.TRIANGLE.create(30, Color.BLUE), 5, 6), scene.get(2));
+    assertEquals("", errors.toString());
+  }
+
+  @Test
+  void shouldReportAndSkipBadLines() throws IOException {
+    // Given
+    String input =
+        """
+        circle,10,#ff0000,0,0
+        hexagon,10,#ff0000,0,0
+        circle,ten,#ff0000,0,0
+        circle,0,#ff0000,0,0
+        circle,10,red,0,0
+        circle,10,#ff0000,-1,0
+        circle,10,#ff0000,0
+        {"type":"circle","size":10}
+        {"type":"circle",
+        square,5,#00ff00,9,9
+        """;
+
+    // When
+    Scene scene = new Scene();
+    ImportSummary summary = importer(4, 2, 1024).run(stream(input), chunk -> addTo(scene, chunk));
+
+    // Then
+    assertEquals(new ImportSummary(2, 8), summary);
+    assertEquals(2, scene.size());
+    assertEquals(
+        List.of(
+            "line 3: " + ShapeLineParser.BAD_SIZE,
+            "line 5: " + ShapeLineParser.BAD_COLOR,
+            "line 6: " + ShapeLineParser.BAD_POSITION,
+            "line 7: " + ShapeLineParser.WRONG_FIELD_COUNT,
+            "line 8: " + ShapeLineParser.MISSING_JSON_FIELD,
+            "line 9: " + ShapeLineParser.MALFORMED_JSON,
+            "line 2: " + ValidationRule.UNKNOWN_TYPE.message(),
+            "line 4: " + ValidationRule.NON_POSITIVE_SIZE.message()),
+        errors.toString().lines().toList());
+  }
+
+  @Test
+  void shouldHandOverChunksWhileReading() throws IOException {
+    // Given
+    StringBuilder input = new StringBuilder();
+    for (int i = 0; i < 10; i++) {
+      input.append("square,").append(i + 1).append(",#000000,0,0\n");
+    }
+    List<Integer> chunkRows = new ArrayList<>();
+
+    // When
+    ImportSummary summary =
+        importer(3, 1, 64)
+            .run(
+                stream(input.toString()),
+                chunk -> {
+                  chunkRows.add(chunk.rows());
+                  chunk.release();
+                });
+
+    // Then
+    assertEquals(10, summary.shapes());
+    assertEquals(List.of(3, 3, 3, 1), chunkRows);
+  }
+
+  @Test
+  void shouldStopWhenTheSinkThrows() {
+    // Given
+    String input = "square,1,#000000,0,0\n".repeat(10);
+    List<Integer> chunkRows = new ArrayList<>();
+
+    // When
+    IllegalStateException exception =
+        assertThrows(
+            IllegalStateException.class,
+            () ->
+                importer(3, 1, 64)
+                    .run(
+                        stream(input),
+                        chunk -> {
+                          chunkRows.add(chunk.rows());
+                          chunk.release();
+                          throw new IllegalStateException("stop");
+                        }));
+
+    // Then
+    assertEquals("stop", exception.getMessage());
+    assertEquals(List.of(3), chunkRows);
+  }
+
+  @Test
+  void shouldSkipLinesLongerThanTheBuffer() throws IOException {
+    // Given
+    String input = "circle,1,#000000,0,0\n" + "x".repeat(100) + "\nsquare,2,#000000,0,0\n";
+
+    // When
+    Scene scene = new Scene();
+    ImportSummary summary = importer(8, 1, 32).run(stream(input), chunk -> addTo(scene, chunk));
+
+    // Then
+    assertEquals(new ImportSummary(2, 1), summary);
+    assertEquals("line 2: " + ShapeImporter.LINE_TOO_LONG, errors.toString().strip());
+  }
+
+  @Test
+  void shouldRejectInvalidArguments() {
+    PrintStream stream = new PrintStream(errors);
+
+    assertThrows(PreConditionsException.class, () -> new ShapeImporter(0, 1, 1, stream));
+    assertThrows(PreConditionsException.class, () -> new ShapeImporter(1, 0, 1, stream));
+    assertThrows(PreConditionsException.class, () -> new ShapeImporter(1, 1, 0, stream));
+    assertThrows(PreConditionsException.class, () -> new ShapeImporter(null));
+    assertThrows(
+        PreConditionsException.class, () -> new ShapeImporter(stream).run(null, chunk -> {}));
+  }
+
+  private ShapeImporter importer(int chunkRows, int chunks, int bufferBytes) {
+    return new ShapeImporter(
+        chunkRows, chunks, bufferBytes, new PrintStream(errors, true, StandardCharsets.UTF_8));
+  }
+
+  private static InputStream stream(String text) {
+    return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static void addTo(Scene scene, ShapeChunk chunk) {
+    for (int row = 0; row < chunk.rows(); row++) {
+      scene.add(
+          chunk.type(row), chunk.sizeInPixels(row), chunk.x(row), chunk.y(row), chunk.argb(row));
+    }
+    chunk.release();
+  }
+}
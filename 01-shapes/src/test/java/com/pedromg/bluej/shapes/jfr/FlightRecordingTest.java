@@ -0,0 +1,55 @@
+package com.pedromg.bluej.shapes.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.pedromg.bluej.shapes.command.CommandDispatcher;
+import com.pedromg.bluej.shapes.command.CommandPalette;
+import com.pedromg.bluej.shapes.command.CommandParser;
+import com.pedromg.bluej.shapes.mocks.MockCommandHandler;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FlightRecordingTest {
+
+  @Test
+  void shouldRecordParseAndDispatchEvents(@TempDir Path directory) throws IOException {
+    // Given
+    Path file = directory.resolve("shapes.jfr");
+    CommandParser parser = new CommandParser();
+    CommandDispatcher dispatcher =
+        new CommandDispatcher(new CommandPalette().add("mock", new MockCommandHandler()));
+
+    // When
+    try (FlightRecording recording = FlightRecording.start(file)) {
+      dispatcher.handle(parser.parse(new String[] {"mock", "a", "b"}));
+    }
+
+    // Then
+    List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+    RecordedEvent parse = only(events, "com.pedromg.bluej.shapes.CommandParse");
+    RecordedEvent dispatch = only(events, "com.pedromg.bluej.shapes.CommandDispatch");
+    assertEquals(3, parse.getInt("arguments"));
+    assertEquals("mock", dispatch.getString("action"));
+    assertEquals(MockCommandHandler.class.getName(), dispatch.getString("handler"));
+    assertEquals(CommandDispatchEvent.OK, dispatch.getString("outcome"));
+  }
+
+  @Test
+  void shouldRejectNullDestination() {
+    assertThrows(PreConditionsException.class, () -> FlightRecording.start(null));
+  }
+
+  private static RecordedEvent only(List<RecordedEvent> events, String name) {
+    List<RecordedEvent> matching =
+        events.stream().filter(event -> event.getEventType().getName().equals(name)).toList();
+    assertEquals(1, matching.size(), name);
+    return matching.get(0);
+  }
+}
@@ -0,0 +1,99 @@
+package com.pedromg.bluej.shapes.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.pedromg.bluej.shapes.domain.ShapeType;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LatencyHistogramTest {
+
+  @Test
+  void shouldComputePercentilesOfRecordedDurations() {
+    // Given
+    LatencyHistogram histogram = new LatencyHistogram();
+
+    // When
+    for (long nanos = 1; nanos <= 1000; nanos++) {
+      histogram.record(nanos * 1000);
+    }
+
+    // Then
+    assertEquals(1000, histogram.count());
+    assertEquals(1_000_000, histogram.max());
+    assertWithinBucketError(500_000, histogram.percentile(50));
+    assertWithinBucketError(990_000, histogram.percentile(99));
+    assertEquals(1_000_000, histogram.percentile(100));
+  }
+
+  @ParameterizedTest
+  @ValueSource(longs = {0, 1, 31, 32, 63, 64, 1000, 123_456_789, Long.MAX_VALUE})
+  void shouldKeepEveryValueWithinItsBucket(long value) {
+    // When
+    int bucket = LatencyHistogram.bucketOf(value);
+
+    // Then
+    long upperBound = LatencyHistogram.upperBoundOf(bucket);
+    assertTrue(value <= upperBound);
+    assertTrue(bucket == 0 || LatencyHistogram.upperBoundOf(bucket - 1) < value);
+  }
+
+  @Test
+  void shouldCountRecordsFromConcurrentThreads() throws InterruptedException {
+    // Given
+    LatencyHistogram histogram = new LatencyHistogram();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    // When
+    for (int thread = 0; thread < 4; thread++) {
+      executor.execute(
+          () -> {
+            for (int i = 0; i < 10_000; i++) {
+              histogram.record(i);
+            }
+          });
+    }
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+    // Then
+    assertEquals(40_000, histogram.count());
+    assertEquals(9_999, histogram.max());
+  }
+
+  @Test
+  void shouldForgetEverythingOnReset() {
+    // Given
+    PaintMetrics metrics = new PaintMetrics();
+    metrics.recordFrame(1_000_000);
+    metrics.recordShape(ShapeType.CIRCLE, 2_000);
+
+    // When
+    metrics.reset();
+
+    // Then
+    assertEquals(0, metrics.getFrameCount());
+    assertEquals(0, metrics.getFrameP99Micros());
+    assertEquals(0, metrics.shapes(ShapeType.CIRCLE).count());
+  }
+
+  @Test
+  void shouldRejectOutOfRangePercentiles() {
+    LatencyHistogram histogram = new LatencyHistogram();
+
+    assertThrows(PreConditionsException.class, () -> histogram.percentile(-1));
+    assertThrows(PreConditionsException.class, () -> histogram.percentile(101));
+  }
+
+  private static void assertWithinBucketError(long expected, long actual) {
+    assertTrue(actual >= expected, actual + " < " + expected);
+    assertTrue(actual <= expected + expected / 32, actual + " > " + expected + " + 1/32");
+  }
+}
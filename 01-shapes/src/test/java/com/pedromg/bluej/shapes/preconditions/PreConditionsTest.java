@@ -0,0 +1,64 @@
+package com.pedromg.bluej.shapes.preconditions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class PreConditionsTest {
+
+  @Test
+  void shouldShareOneInstanceAcrossChains() {
+    // When
+    PreConditions first = PreConditions.require(true, "first");
+    PreConditions second = PreConditions.requireNotNull("value", "second").and(true, "third");
+
+    // Then
+    assertSame(first, second);
+  }
+
+  @Test
+  void shouldOnlyBuildLazyMessagesOnFailure() {
+    // Given
+    AtomicInteger built = new AtomicInteger();
+
+    // When
+    PreConditions.require(true, () -> "built " + built.incrementAndGet());
+    PreConditionsException exception =
+        assertThrows(
+            PreConditionsException.class,
+            () -> PreConditions.require(false, () -> "built " + built.incrementAndGet()));
+
+    // Then
+    assertEquals("built 1", exception.getMessage());
+    assertEquals(1, built.get());
+  }
+
+  @Test
+  void shouldFormatTemplatesOnFailure() {
+    PreConditionsException number =
+        assertThrows(
+            PreConditionsException.class,
+            () -> PreConditions.require(true, "unused").and(false, "size was %d", 42));
+    PreConditionsException text =
+        assertThrows(
+            PreConditionsException.class,
+            () -> PreConditions.require(false, "unknown shape: %s", "hexagon"));
+
+    assertEquals("size was 42", number.getMessage());
+    assertEquals("unknown shape: hexagon", text.getMessage());
+  }
+
+  @Test
+  void shouldRequirePositiveNumbers() {
+    PreConditions.requirePositive(1, "must be positive").andPositive(1, "must be positive");
+
+    assertThrows(
+        PreConditionsException.class, () -> PreConditions.requirePositive(0, "must be positive"));
+    assertThrows(
+        PreConditionsException.class,
+        () -> PreConditions.requirePositive(1, "ok").andPositive(-1, "must be positive"));
+  }
+}
@@ -0,0 +1,81 @@
+package com.pedromg.bluej.shapes.render;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.pedromg.bluej.shapes.domain.Circle;
+import com.pedromg.bluej.shapes.domain.Scene;
+import com.pedromg.bluej.shapes.domain.Shape;
+import com.pedromg.bluej.shapes.domain.Square;
+import com.pedromg.bluej.shapes.domain.Triangle;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class ImageRendererTest {
+
+  @Test
+  void shouldRejectNullShape() {
+    assertThrows(PreConditionsException.class, () -> new ImageRenderer().render((Shape) null));
+  }
+
+  @ParameterizedTest
+  @MethodSource("shapesProvider")
+  void shouldSizeImageToShape(Shape shape) {
+    // When
+    BufferedImage image = new ImageRenderer().render(shape);
+
+    // Then
+    assertEquals(shape.widthInPixels(), image.getWidth());
+    assertEquals(shape.heightInPixels(), image.getHeight());
+  }
+
+  @ParameterizedTest
+  @MethodSource("shapesProvider")
+  void shouldFillCenterAndLeaveTopLeftCornerTransparent(Shape shape) {
+    // When
+    BufferedImage image = new ImageRenderer().render(shape);
+
+    // Then
+    int center = image.getRGB(shape.widthInPixels() / 2, shape.heightInPixels() / 2 + 1);
+    assertEquals(shape.color().getRGB(), center);
+    if (!(shape instanceof Square)) {
+      assertEquals(0, image.getRGB(0, 0) >>> 24);
+    }
+  }
+
+  static Stream<Arguments> shapesProvider() {
+    return Stream.of(
+        Arguments.of(new Circle(20, Color.RED)),
+        Arguments.of(new Square(40, Color.BLUE)),
+        Arguments.of(new Triangle(40, Color.YELLOW)));
+  }
+
+  @Test
+  void shouldRejectEmptyScene() {
+    assertThrows(PreConditionsException.class, () -> new ImageRenderer().render(new Scene()));
+  }
+
+  @Test
+  void shouldPaintEveryShapeOfScene() {
+    // Given
+    Scene scene = new Scene();
+    scene.add(new Square(10, Color.BLUE), 0, 0);
+    scene.add(new Circle(5, Color.RED), 20, 30);
+
+    // When
+    BufferedImage image = new ImageRenderer().render(scene);
+
+    // Then
+    assertEquals(30, image.getWidth());
+    assertEquals(40, image.getHeight());
+    assertEquals(Color.BLUE.getRGB(), image.getRGB(5, 5));
+    assertEquals(Color.RED.getRGB(), image.getRGB(25, 35));
+    assertEquals(0, image.getRGB(15, 15) >>> 24);
+  }
+}
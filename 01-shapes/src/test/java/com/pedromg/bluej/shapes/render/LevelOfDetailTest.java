@@ -0,0 +1,196 @@
+package com.pedromg.bluej.shapes.render;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.pedromg.bluej.shapes.domain.Circle;
+import com.pedromg.bluej.shapes.domain.Scene;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import org.junit.jupiter.api.Test;
+
+class LevelOfDetailTest {
+
+  private static final long BUDGET = 100;
+
+  @Test
+  void shouldRejectInvalidArguments() {
+    assertThrows(PreConditionsException.class, () -> new LevelOfDetail(-1f, BUDGET));
+    assertThrows(PreConditionsException.class, () -> new LevelOfDetail(2f, 0));
+  }
+
+  @Test
+  void shouldIgnoreASingleSlowFrame() {
+    // Given
+    LevelOfDetail levelOfDetail = new LevelOfDetail(2f, BUDGET);
+
+    // When
+    levelOfDetail.frameRendered(BUDGET * 10);
+    levelOfDetail.frameRendered(BUDGET / 2);
+
+    // Then
+    assertFalse(levelOfDetail.isReduced());
+  }
+
+  @Test
+  void shouldReduceDetailWhenFramesRunOverBudget() {
+    // Given
+    LevelOfDetail levelOfDetail = new LevelOfDetail(2f, BUDGET);
+
+    // When
+    render(levelOfDetail, 3, BUDGET + 1);
+
+    // Then
+    assertTrue(levelOfDetail.isReduced());
+  }
+
+  @Test
+  void shouldRestoreDetailOnceFramesAreWellUnderBudget() {
+    // Given
+    LevelOfDetail levelOfDetail = new LevelOfDetail(2f, BUDGET);
+    render(levelOfDetail, 3, BUDGET + 1);
+
+    // When
+    render(levelOfDetail, 29, BUDGET / 2);
+    boolean reducedBefore = levelOfDetail.isReduced();
+    render(levelOfDetail, 1, BUDGET / 2);
+
+    // Then
+    assertTrue(reducedBefore);
+    assertFalse(levelOfDetail.isReduced());
+  }
+
+  @Test
+  void shouldStayReducedWhileFramesAreCloseToBudget() {
+    // Given
+    LevelOfDetail levelOfDetail = new LevelOfDetail(2f, BUDGET);
+    render(levelOfDetail, 3, BUDGET + 1);
+
+    // When
+    render(levelOfDetail, 100, BUDGET - 1);
+
+    // Then
+    assertTrue(levelOfDetail.isReduced());
+  }
+
+  @Test
+  void shouldWaitLongerToRestoreAfterRestoringTooSoon() {
+    // Given
+    LevelOfDetail levelOfDetail = new LevelOfDetail(2f, BUDGET);
+    render(levelOfDetail, 3, BUDGET + 1);
+    render(levelOfDetail, 30, 0);
+    render(levelOfDetail, 3, BUDGET + 1);
+
+    // When
+    render(levelOfDetail, 30, 0);
+    boolean reducedAfterFirstWait = levelOfDetail.isReduced();
+    render(levelOfDetail, 30, 0);
+
+    // Then
+    assertTrue(reducedAfterFirstWait);
+    assertFalse(levelOfDetail.isReduced());
+  }
+
+  @Test
+  void shouldApplyHintsOfTheCurrentLevel() {
+    // Given
+    LevelOfDetail levelOfDetail = new LevelOfDetail(2f, BUDGET);
+    Graphics2D graphics = new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB).createGraphics();
+
+    // When
+    levelOfDetail.applyHints(graphics);
+    Object exact = graphics.getRenderingHint(RenderingHints.KEY_ANTIALIASING);
+    render(levelOfDetail, 3, BUDGET + 1);
+    levelOfDetail.applyHints(graphics);
+    Object reduced = graphics.getRenderingHint(RenderingHints.KEY_ANTIALIASING);
+    graphics.dispose();
+
+    // Then
+    assertEquals(RenderingHints.VALUE_ANTIALIAS_ON, exact);
+    assertEquals(RenderingHints.VALUE_ANTIALIAS_OFF, reduced);
+  }
+
+  @Test
+  void shouldNeverReduceExactDetail() {
+    // Given
+    LevelOfDetail levelOfDetail = LevelOfDetail.exact();
+
+    // When
+    render(levelOfDetail, 100, Long.MAX_VALUE - 1);
+
+    // Then
+    assertFalse(levelOfDetail.isReduced());
+    assertFalse(levelOfDetail.isTooSmall(0.1f));
+  }
+
+  @Test
+  void shouldFillSmallShapesAsRectangles() {
+    // Given
+    Scene scene = new Scene();
+    scene.add(new Circle(1, Color.RED), 0, 0);
+    scene.add(new Circle(1, Color.BLUE), 10, 10);
+    BufferedImage image = new BufferedImage(20, 20, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D graphics = image.createGraphics();
+    graphics.scale(0.5, 0.5);
+
+    // When
+    new SceneRenderer(new GeometryRenderer(), new LevelOfDetail(2f, Long.MAX_VALUE))
+        .render(graphics, scene);
+    graphics.dispose();
+
+    // Then
+    assertEquals(Color.RED.getRGB(), image.getRGB(0, 0));
+    assertEquals(Color.BLUE.getRGB(), image.getRGB(5, 5));
+  }
+
+  @Test
+  void shouldFillASmallSingleShapeAsARectangle() {
+    // Given
+    LevelOfDetail levelOfDetail = new LevelOfDetail(2f, Long.MAX_VALUE);
+    BufferedImage image = new BufferedImage(4, 4, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D graphics = image.createGraphics();
+    graphics.scale(0.5, 0.5);
+
+    // When
+    levelOfDetail.render(graphics, new Circle(1, Color.RED), new GeometryRenderer());
+    graphics.dispose();
+
+    // Then
+    assertEquals(Color.RED.getRGB(), image.getRGB(0, 0));
+  }
+
+  @Test
+  void shouldPaintSpritesAliasedWhenDetailIsReduced() {
+    // Given
+    LevelOfDetail levelOfDetail = new LevelOfDetail(0f, BUDGET);
+    render(levelOfDetail, 3, BUDGET + 1);
+    Scene scene = new Scene();
+    scene.add(new Circle(10, Color.RED), 0, 0);
+    BufferedImage image = new BufferedImage(20, 20, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D graphics = image.createGraphics();
+
+    // When
+    new SceneRenderer(new SpriteRenderer(new SpriteCache(1024 * 1024)), levelOfDetail)
+        .render(graphics, scene);
+    graphics.dispose();
+
+    // Then
+    for (int y = 0; y < image.getHeight(); y++) {
+      for (int x = 0; x < image.getWidth(); x++) {
+        int rgb = image.getRGB(x, y);
+        assertTrue(rgb == 0 || rgb == Color.RED.getRGB(), "blended pixel at " + x + "," + y);
+      }
+    }
+  }
+
+  private static void render(LevelOfDetail levelOfDetail, int frames, long frameNanos) {
+    for (int i = 0; i < frames; i++) {
+      levelOfDetail.frameRendered(frameNanos);
+    }
+  }
+}
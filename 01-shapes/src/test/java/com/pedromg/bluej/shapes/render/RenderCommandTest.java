@@ -0,0 +1,69 @@
+package com.pedromg.bluej.shapes.render;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.pedromg.bluej.shapes.command.CommandRequest;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class RenderCommandTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  void shouldRejectNullImageRenderer() {
+    assertThrows(PreConditionsException.class, () -> new RenderCommand(null));
+  }
+
+  @ParameterizedTest
+  @MethodSource("invalidParamsProvider")
+  void shouldThrowWhenRequestIsInvalid(List<String> params) {
+    // Given
+    RenderCommand command = new RenderCommand(new ImageRenderer());
+    CommandRequest request = new CommandRequest("render", params, Set.of());
+
+    // Then
+    assertThrows(PreConditionsException.class, () -> command.handle(request));
+  }
+
+  static Stream<Arguments> invalidParamsProvider() {
+    return Stream.of(
+        Arguments.of(List.of()),
+        Arguments.of(List.of("circle", "10", "#ff0000")),
+        Arguments.of(List.of("hexagon", "10", "#ff0000", "out.png")),
+        Arguments.of(List.of("circle", "ten", "#ff0000", "out.png")),
+        Arguments.of(List.of("circle", "-1", "#ff0000", "out.png")),
+        Arguments.of(List.of("circle", "10", "red", "out.png")));
+  }
+
+  @Test
+  void shouldWriteShapeToPngFile() throws IOException {
+    // Given
+    File file = tempDir.resolve("square.png").toFile();
+    RenderCommand command = new RenderCommand(new ImageRenderer());
+    CommandRequest request =
+        new CommandRequest("render", List.of("square", "30", "#0000ff", file.getPath()), Set.of());
+
+    // When
+    command.handle(request);
+
+    // Then
+    BufferedImage image = ImageIO.read(file);
+    assertEquals(30, image.getWidth());
+    assertEquals(Color.BLUE.getRGB(), image.getRGB(15, 15));
+  }
+}
@@ -0,0 +1,95 @@
+package com.pedromg.bluej.shapes.render;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.pedromg.bluej.shapes.domain.Circle;
+import com.pedromg.bluej.shapes.domain.Square;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import org.junit.jupiter.api.Test;
+
+class SpriteCacheTest {
+
+  @Test
+  void shouldRejectNonPositiveBudget() {
+    assertThrows(PreConditionsException.class, () -> new SpriteCache(0));
+  }
+
+  @Test
+  void shouldShareSpriteOfEqualShapes() {
+    // Given
+    SpriteCache cache = new SpriteCache(1024 * 1024);
+
+    // When
+    BufferedImage first = cache.sprite(new Circle(10, Color.RED));
+    BufferedImage second = cache.sprite(new Circle(10, new Color(255, 0, 0)));
+
+    // Then
+    assertSame(first, second);
+    assertEquals(new SpriteCache.Stats(1, 1, 0, 1, 20 * 20 * 4), cache.stats());
+  }
+
+  @Test
+  void shouldRasterizeSpriteWithShapeColor() {
+    // Given
+    SpriteCache cache = new SpriteCache(1024 * 1024);
+
+    // When
+    BufferedImage sprite = cache.sprite(new Square(10, Color.BLUE));
+
+    // Then
+    assertEquals(Color.BLUE.getRGB(), sprite.getRGB(5, 5));
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedSprite() {
+    // Given: room for four 10x10 sprites
+    SpriteCache cache = new SpriteCache(4 * 10 * 10 * 4);
+    Square red = new Square(10, Color.RED);
+    Square green = new Square(10, Color.GREEN);
+    BufferedImage redSprite = cache.sprite(red);
+    BufferedImage greenSprite = cache.sprite(green);
+    cache.sprite(new Square(10, Color.BLUE));
+    cache.sprite(new Square(10, Color.BLACK));
+    cache.sprite(red);
+
+    // When
+    cache.sprite(new Square(10, Color.WHITE));
+
+    // Then
+    assertSame(redSprite, cache.sprite(red));
+    assertNotSame(greenSprite, cache.sprite(green));
+    assertEquals(4, cache.stats().sprites());
+  }
+
+  @Test
+  void shouldNotCacheOversizedSprites() {
+    // Given
+    SpriteCache cache = new SpriteCache(1000);
+
+    // When
+    BufferedImage sprite = cache.sprite(new Square(100, Color.RED));
+
+    // Then
+    assertNull(sprite);
+    assertEquals(0, cache.stats().sprites());
+  }
+
+  @Test
+  void shouldFallBackToGeometryForOversizedShapes() {
+    // Given
+    SpriteRenderer renderer = new SpriteRenderer(new SpriteCache(1000));
+    BufferedImage image = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+
+    // When
+    renderer.render(image.createGraphics(), new Square(100, Color.RED), 0, 0);
+
+    // Then
+    assertEquals(Color.RED.getRGB(), image.getRGB(50, 50));
+  }
+}
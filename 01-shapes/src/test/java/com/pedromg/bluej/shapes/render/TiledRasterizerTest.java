@@ -0,0 +1,63 @@
+package com.pedromg.bluej.shapes.render;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.pedromg.bluej.shapes.domain.Scene;
+import com.pedromg.bluej.shapes.domain.ShapeType;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class TiledRasterizerTest {
+
+  @Test
+  void shouldRejectNonPositiveTileSize() {
+    // Given
+    GeometryRenderer renderer = new GeometryRenderer();
+    ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    // Then
+    assertThrows(PreConditionsException.class, () -> new TiledRasterizer(renderer, pool, 0));
+  }
+
+  @Test
+  void shouldMatchSinglePassRendering() {
+    // Given
+    Random random = new Random(3);
+    Scene scene = new Scene();
+    for (int i = 0; i < 300; i++) {
+      ShapeType type = ShapeType.fromCode(i % 3);
+      Color color = new Color(random.nextInt(), true);
+      scene.add(
+          type.create(1 + random.nextInt(30), color), random.nextInt(300), random.nextInt(300));
+    }
+
+    BufferedImage expected = newImage(scene);
+    Graphics2D graphics = expected.createGraphics();
+    new SceneRenderer().render(graphics, scene);
+    graphics.dispose();
+
+    BufferedImage actual = newImage(scene);
+    TiledRasterizer rasterizer =
+        new TiledRasterizer(new GeometryRenderer(), new ForkJoinPool(4), 32);
+
+    // When
+    rasterizer.render(scene, actual);
+
+    // Then
+    assertArrayEquals(pixels(expected), pixels(actual));
+  }
+
+  private static BufferedImage newImage(Scene scene) {
+    return new BufferedImage(scene.width(), scene.height(), BufferedImage.TYPE_INT_ARGB);
+  }
+
+  private static int[] pixels(BufferedImage image) {
+    return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+  }
+}
@@ -0,0 +1,56 @@
+package com.pedromg.bluej.shapes.render;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.pedromg.bluej.shapes.domain.Circle;
+import com.pedromg.bluej.shapes.domain.ShapeType;
+import com.pedromg.bluej.shapes.metrics.PaintMetrics;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import org.junit.jupiter.api.Test;
+
+class TimedRendererTest {
+
+  @Test
+  void shouldNotTimeShapesByDefault() {
+    // Given
+    PaintMetrics metrics = new PaintMetrics();
+    TimedRenderer renderer = new TimedRenderer(new GeometryRenderer(), metrics);
+
+    // When
+    paint(renderer);
+
+    // Then
+    assertEquals(0, metrics.shapes(ShapeType.CIRCLE).count());
+  }
+
+  @Test
+  void shouldTimeShapesOnceEnabled() {
+    // Given
+    PaintMetrics metrics = new PaintMetrics();
+    TimedRenderer renderer = new TimedRenderer(new GeometryRenderer(), metrics);
+    metrics.setShapeTimingEnabled(true);
+
+    // When
+    paint(renderer);
+
+    // Then
+    assertEquals(1, metrics.shapes(ShapeType.CIRCLE).count());
+  }
+
+  @Test
+  void shouldRejectInvalidArguments() {
+    assertThrows(PreConditionsException.class, () -> new TimedRenderer(null, new PaintMetrics()));
+    assertThrows(
+        PreConditionsException.class, () -> new TimedRenderer(new GeometryRenderer(), null));
+  }
+
+  private static void paint(TimedRenderer renderer) {
+    Graphics2D graphics = new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB).createGraphics();
+    renderer.render(graphics, new Circle(5, Color.RED), 0, 0);
+    graphics.dispose();
+  }
+}
@@ -0,0 +1,73 @@
+package com.pedromg.bluej.shapes.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.swing.SwingUtilities;
+import org.junit.jupiter.api.Test;
+
+class EventDispatchTest {
+
+  @Test
+  void shouldComputeTheValueOnTheEventDispatchThread() {
+    // When
+    boolean onEventDispatchThread =
+        EventDispatch.callAndWait(SwingUtilities::isEventDispatchThread);
+
+    // Then
+    assertTrue(onEventDispatchThread);
+  }
+
+  @Test
+  void shouldUnwrapTheExceptionOfTheAction() {
+    // When
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () ->
+                EventDispatch.runAndWait(
+                    () -> {
+                      throw new IllegalArgumentException("boom");
+                    }));
+
+    // Then
+    assertEquals("boom", exception.getMessage());
+  }
+
+  @Test
+  void shouldCancelWhenInterruptedWhileWaiting() throws InterruptedException {
+    // Given
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    SwingUtilities.invokeLater(
+        () -> {
+          blocked.countDown();
+          awaitQuietly(release);
+        });
+    assertTrue(blocked.await(5, TimeUnit.SECONDS));
+
+    try {
+      // When
+      Thread.currentThread().interrupt();
+      assertThrows(CancellationException.class, () -> EventDispatch.callAndWait(() -> "value"));
+
+      // Then
+      assertTrue(Thread.currentThread().isInterrupted());
+    } finally {
+      Thread.interrupted();
+      release.countDown();
+    }
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
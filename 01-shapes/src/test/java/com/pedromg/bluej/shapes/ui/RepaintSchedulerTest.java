@@ -0,0 +1,96 @@
+package com.pedromg.bluej.shapes.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RepaintSchedulerTest {
+
+  private final List<Rectangle> repainted = new ArrayList<>();
+  private final List<Runnable> frames = new ArrayList<>();
+
+  @Test
+  void shouldRejectNullRepaint() {
+    assertThrows(PreConditionsException.class, () -> new RepaintScheduler(null));
+  }
+
+  @Test
+  void shouldScheduleOneFlushPerFrame() {
+    // Given
+    RepaintScheduler scheduler = new RepaintScheduler(repainted::add, frames::add, 0);
+
+    // When
+    scheduler.markDirty(0, 0, 10, 10);
+    scheduler.markDirty(100, 100, 10, 10);
+
+    // Then
+    assertEquals(1, frames.size());
+    assertEquals(List.of(), repainted);
+  }
+
+  @Test
+  void shouldMergeNearbyRegionsIntoOneRepaint() {
+    // Given
+    RepaintScheduler scheduler = new RepaintScheduler(repainted::add, frames::add, 5);
+
+    // When
+    scheduler.markDirty(0, 0, 10, 10);
+    scheduler.markDirty(12, 0, 10, 10);
+    scheduler.markDirty(24, 0, 10, 10);
+    frames.get(0).run();
+
+    // Then
+    assertEquals(List.of(new Rectangle(0, 0, 34, 10)), repainted);
+  }
+
+  @Test
+  void shouldKeepDistantRegionsApart() {
+    // Given
+    RepaintScheduler scheduler = new RepaintScheduler(repainted::add, frames::add, 5);
+
+    // When
+    scheduler.markDirty(0, 0, 10, 10);
+    scheduler.markDirty(200, 200, 10, 10);
+    frames.get(0).run();
+
+    // Then
+    assertEquals(List.of(new Rectangle(0, 0, 10, 10), new Rectangle(200, 200, 10, 10)), repainted);
+  }
+
+  @Test
+  void shouldBoundRepaintsPerFrame() {
+    // Given
+    RepaintScheduler scheduler = new RepaintScheduler(repainted::add, frames::add, 0);
+
+    // When
+    for (int i = 0; i < 100; i++) {
+      scheduler.markDirty(i * 100, 0, 10, 10);
+    }
+    frames.get(0).run();
+
+    // Then
+    assertTrue(repainted.size() <= 16);
+    Rectangle covered = repainted.stream().reduce(Rectangle::union).orElseThrow();
+    assertEquals(new Rectangle(0, 0, 9910, 10), covered);
+  }
+
+  @Test
+  void shouldStartNewFrameAfterFlush() {
+    // Given
+    RepaintScheduler scheduler = new RepaintScheduler(repainted::add, frames::add, 0);
+    scheduler.markDirty(0, 0, 10, 10);
+    frames.get(0).run();
+
+    // When
+    scheduler.markDirty(0, 0, 10, 10);
+
+    // Then
+    assertEquals(2, frames.size());
+  }
+}
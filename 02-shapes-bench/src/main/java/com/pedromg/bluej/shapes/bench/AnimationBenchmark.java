@@ -0,0 +1,117 @@
+package com.pedromg.bluej.shapes.bench;
+
+import com.pedromg.bluej.shapes.animation.AnimationRenderer;
+import com.pedromg.bluej.shapes.animation.AnimationState;
+import com.pedromg.bluej.shapes.domain.ShapeType;
+import com.pedromg.bluej.shapes.render.GeometryRenderer;
+import com.pedromg.bluej.shapes.render.LevelOfDetail;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures one fixed step of 10k tweened shapes, one interpolated frame painted into an image the
+ * size of the animate demo, and copying a finished frame onto another image, which is all the EDT
+ * does per frame when frames are drawn by a render thread. {@code reducedFrame} paints the same
+ * frame at the level of detail the animate demo falls back to when frames run over budget.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class AnimationBenchmark {
+
+  private static final int SHAPES = 10_000;
+  private static final int WIDTH = 380;
+  private static final int HEIGHT = 660;
+  private static final float STEP_SECONDS = 1f / 60;
+  private static final Color[] COLORS = {Color.RED, Color.BLUE, Color.YELLOW, Color.GREEN};
+
+  private AnimationState state;
+  private AnimationRenderer renderer;
+  private AnimationRenderer reducedRenderer;
+  private BufferedImage image;
+  private Graphics2D graphics;
+  private BufferedImage screen;
+  private Graphics2D screenGraphics;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Random random = new Random(42);
+    state = new AnimationState(SHAPES);
+    for (int i = 0; i < SHAPES; i++) {
+      ShapeType type = ShapeType.fromCode(i % 3);
+      int size = type == ShapeType.CIRCLE ? 2 + random.nextInt(4) : 4 + random.nextInt(8);
+      int index =
+          state.add(
+              type.create(size, COLORS[i % COLORS.length]),
+              random.nextFloat() * WIDTH,
+              random.nextFloat() * HEIGHT);
+      state.tween(
+          index,
+          random.nextFloat() * WIDTH,
+          random.nextFloat() * HEIGHT,
+          (random.nextFloat() - 0.5f) * 4f * (float) Math.PI,
+          0.5f + random.nextFloat(),
+          1f + random.nextFloat() * 3f);
+    }
+    renderer = new AnimationRenderer();
+    LevelOfDetail overBudget = new LevelOfDetail(3f, 1);
+    for (int i = 0; i < 3; i++) {
+      overBudget.frameRendered(2);
+    }
+    reducedRenderer = new AnimationRenderer(new GeometryRenderer(), overBudget);
+    image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+    graphics = image.createGraphics();
+    screen = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+    screenGraphics = screen.createGraphics();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    graphics.dispose();
+    screenGraphics.dispose();
+  }
+
+  @Benchmark
+  public AnimationState step() {
+    state.step(STEP_SECONDS);
+    return state;
+  }
+
+  @Benchmark
+  public BufferedImage frame() {
+    state.step(STEP_SECONDS);
+    renderer.render(graphics, state, 0.5f);
+    return image;
+  }
+
+  @Benchmark
+  public BufferedImage blit() {
+    screenGraphics.drawImage(image, 0, 0, null);
+    return screen;
+  }
+
+  @Benchmark
+  public BufferedImage reducedFrame() {
+    state.step(STEP_SECONDS);
+    reducedRenderer.render(graphics, state, 0.5f);
+    return image;
+  }
+}
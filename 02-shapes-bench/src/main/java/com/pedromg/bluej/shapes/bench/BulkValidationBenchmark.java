@@ -0,0 +1,97 @@
+package com.pedromg.bluej.shapes.bench;
+
+import com.pedromg.bluej.shapes.domain.Shape;
+import com.pedromg.bluej.shapes.domain.ShapeBatch;
+import com.pedromg.bluej.shapes.domain.ShapeType;
+import com.pedromg.bluej.shapes.domain.ValidationReport;
+import com.pedromg.bluej.shapes.preconditions.PreConditionsException;
+import java.awt.Color;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures importing a million raw rows, some of them invalid, one record constructor at a time
+ * catching each exception, against validating the whole batch first. Both keep the shapes they
+ * build, as an importer would. Times are per row.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BulkValidationBenchmark {
+
+  private static final int ROWS = 1_000_000;
+  private static final int[] COLORS = {
+    Color.RED.getRGB(), Color.BLUE.getRGB(), Color.YELLOW.getRGB(), Color.GREEN.getRGB()
+  };
+
+  @Param({"0", "1", "10"})
+  private int invalidPercent;
+
+  private byte[] typeCodes;
+  private int[] sizes;
+  private int[] argbs;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Random random = new Random(42);
+    typeCodes = new byte[ROWS];
+    sizes = new int[ROWS];
+    argbs = new int[ROWS];
+    for (int row = 0; row < ROWS; row++) {
+      typeCodes[row] = (byte) (row % 3);
+      sizes[row] = random.nextInt(100) < invalidPercent ? 0 : 1 + random.nextInt(50);
+      argbs[row] = COLORS[(row / 64) % COLORS.length];
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public Shape[] perRecord(Blackhole blackhole) {
+    Shape[] shapes = new Shape[ROWS];
+    int built = 0;
+    Color color = null;
+    for (int row = 0; row < ROWS; row++) {
+      if (color == null || color.getRGB() != argbs[row]) {
+        color = new Color(argbs[row], true);
+      }
+      try {
+        shapes[built++] = ShapeType.fromCode(typeCodes[row]).create(sizes[row], color);
+      } catch (PreConditionsException exception) {
+        blackhole.consume(exception);
+      }
+    }
+    return Arrays.copyOf(shapes, built);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public ValidationReport validateOnly() {
+    return new ShapeBatch(typeCodes, sizes, argbs, ROWS).validate();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public Shape[] bulk() {
+    ShapeBatch batch = new ShapeBatch(typeCodes, sizes, argbs, ROWS);
+    ValidationReport report = batch.validate();
+    return batch.validShapes(report);
+  }
+}
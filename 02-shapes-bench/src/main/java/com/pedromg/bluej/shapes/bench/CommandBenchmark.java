@@ -0,0 +1,81 @@
+package com.pedromg.bluej.shapes.bench;
+
+import com.pedromg.bluej.shapes.command.CommandDispatcher;
+import com.pedromg.bluej.shapes.command.CommandHandler;
+import com.pedromg.bluej.shapes.command.CommandPalette;
+import com.pedromg.bluej.shapes.command.CommandParser;
+import com.pedromg.bluej.shapes.command.CommandRequest;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Measures the command line path: parsing arguments and dispatching a request to a handler. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CommandBenchmark {
+
+  private static final String[] ARGS = {"demo", "circle", "--verbose"};
+
+  private CommandParser parser;
+  private CommandDispatcher dispatcher;
+  private CommandRequest request;
+
+  @Setup(Level.Trial)
+  public void setUp(Blackhole blackhole) {
+    parser = new CommandParser();
+    dispatcher =
+        new CommandDispatcher(new CommandPalette().add("demo", new NoopHandler(blackhole)));
+    request = new CommandRequest("demo", List.of("circle"), Set.of("verbose"));
+  }
+
+  @Benchmark
+  public CommandRequest parse() {
+    return parser.parse(ARGS);
+  }
+
+  @Benchmark
+  public void dispatch() {
+    dispatcher.handle(request);
+  }
+
+  @Benchmark
+  public void parseAndDispatch() {
+    dispatcher.handle(parser.parse(ARGS));
+  }
+
+  /** Consumes the request so the dispatch path is measured without any handler work. */
+  static class NoopHandler implements CommandHandler {
+
+    private final Blackhole blackhole;
+
+    NoopHandler(Blackhole blackhole) {
+      this.blackhole = blackhole;
+    }
+
+    @Override
+    public void handle(CommandRequest request) {
+      blackhole.consume(request);
+    }
+
+    @Override
+    public String helpMessage() {
+      return "Does nothing";
+    }
+  }
+}
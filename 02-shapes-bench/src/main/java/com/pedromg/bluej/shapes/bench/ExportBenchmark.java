@@ -0,0 +1,80 @@
+package com.pedromg.bluej.shapes.bench;
+
+import com.pedromg.bluej.shapes.demo.AnimateDemo;
+import com.pedromg.bluej.shapes.export.AnimationFrames;
+import com.pedromg.bluej.shapes.export.ExportSummary;
+import com.pedromg.bluej.shapes.export.FrameExporter;
+import com.pedromg.bluej.shapes.render.AliasedRenderer;
+import com.pedromg.bluej.shapes.render.GeometryRenderer;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures exporting 30 frames of the {@code animate} demo to PNG files, with the given number of
+ * rasterizer and encoder threads. Indexed frames are painted without anti-aliasing.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class ExportBenchmark {
+
+  private static final int FRAMES = 30;
+
+  @Param({"1"})
+  private int threads;
+
+  @Param({"false", "true"})
+  private boolean indexed;
+
+  private FrameExporter exporter;
+  private Path directory;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    exporter = new FrameExporter(threads, threads, threads);
+    directory = Files.createTempDirectory("frames");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    try (Stream<Path> files = Files.walk(directory)) {
+      for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(file);
+      }
+    }
+  }
+
+  @Benchmark
+  public ExportSummary export() throws IOException {
+    return exporter.export(
+        new AnimationFrames(
+            () -> AnimateDemo.createState(AnimateDemo.DEFAULT_SHAPES),
+            indexed ? new AliasedRenderer(new GeometryRenderer()) : new GeometryRenderer(),
+            FRAMES,
+            AnimateDemo.STEPS_PER_SECOND,
+            AnimateDemo.WIDTH,
+            AnimateDemo.HEIGHT),
+        directory,
+        indexed);
+  }
+}
@@ -0,0 +1,100 @@
+package com.pedromg.bluej.shapes.bench;
+
+import com.pedromg.bluej.shapes.domain.ShapeType;
+import com.pedromg.bluej.shapes.importer.ImportSummary;
+import com.pedromg.bluej.shapes.importer.ShapeChunk;
+import com.pedromg.bluej.shapes.importer.ShapeImporter;
+import java.awt.Color;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures importing a million lines of shapes, parsed in place by the importer or split into
+ * strings line by line. Times and allocations are per line.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ImportBenchmark {
+
+  private static final int LINES = 1_000_000;
+  private static final String[] LABELS = {"circle", "square", "triangle"};
+
+  private byte[] csv;
+  private byte[] json;
+  private ShapeImporter importer;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Random random = new Random(42);
+    StringBuilder csvLines = new StringBuilder();
+    StringBuilder jsonLines = new StringBuilder();
+    for (int i = 0; i < LINES; i++) {
+      String type = LABELS[i % LABELS.length];
+      int size = 1 + random.nextInt(50);
+      String color = String.format("#%06x", random.nextInt(0x1000000));
+      int x = random.nextInt(4096);
+      int y = random.nextInt(4096);
+      csvLines.append(String.format("%s,%d,%s,%d,%d%n", type, size, color, x, y));
+      jsonLines.append(
+          String.format(
+              "{\"type\":\"%s\",\"size\":%d,\"color\":\"%s\",\"x\":%d,\"y\":%d}%n",
+              type, size, color, x, y));
+    }
+    csv = csvLines.toString().getBytes(StandardCharsets.UTF_8);
+    json = jsonLines.toString().getBytes(StandardCharsets.UTF_8);
+    importer = new ShapeImporter(new PrintStream(OutputStream.nullOutputStream()));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(LINES)
+  public ImportSummary importCsv() throws IOException {
+    return importer.run(new ByteArrayInputStream(csv), ShapeChunk::release);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(LINES)
+  public ImportSummary importJson() throws IOException {
+    return importer.run(new ByteArrayInputStream(json), ShapeChunk::release);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(LINES)
+  public void splitCsv(Blackhole blackhole) throws IOException {
+    BufferedReader reader =
+        new BufferedReader(
+            new InputStreamReader(new ByteArrayInputStream(csv), StandardCharsets.UTF_8));
+    String line;
+    while ((line = reader.readLine()) != null) {
+      String[] fields = line.split(",");
+      ShapeType type = ShapeType.fromLabel(fields[0].strip());
+      Color color = Color.decode(fields[2].strip());
+      blackhole.consume(type.create(Integer.parseInt(fields[1].strip()), color));
+      blackhole.consume(Integer.parseInt(fields[3].strip()));
+      blackhole.consume(Integer.parseInt(fields[4].strip()));
+    }
+  }
+}
@@ -0,0 +1,159 @@
+package com.pedromg.bluej.shapes.bench;
+
+import com.pedromg.bluej.shapes.domain.Circle;
+import com.pedromg.bluej.shapes.domain.Shape;
+import com.pedromg.bluej.shapes.domain.Square;
+import com.pedromg.bluej.shapes.domain.Triangle;
+import com.pedromg.bluej.shapes.render.ShapeRenderer;
+import com.pedromg.bluej.shapes.render.SpriteCache;
+import com.pedromg.bluej.shapes.render.SpriteRenderer;
+import com.pedromg.bluej.shapes.ui.CirclePanel;
+import com.pedromg.bluej.shapes.ui.SquarePanel;
+import com.pedromg.bluej.shapes.ui.TrianglePanel;
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.swing.JPanel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures one {@code paintComponent} pass of each shape panel into an offscreen image, rasterizing
+ * the geometry or blitting a cached sprite.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class PaintBenchmark {
+
+  private static final int SIZE = 200;
+  private static final long SPRITE_CACHE_BYTES = 1024 * 1024;
+
+  private BufferedImage image;
+  private Graphics2D graphics;
+
+  private ExposedCirclePanel circlePanel;
+  private SquarePanel squarePanel;
+  private ExposedTrianglePanel trianglePanel;
+
+  private ExposedCirclePanel spriteCirclePanel;
+  private SquarePanel spriteSquarePanel;
+  private ExposedTrianglePanel spriteTrianglePanel;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    image = new BufferedImage(SIZE * 2, SIZE * 2, BufferedImage.TYPE_INT_RGB);
+    graphics = image.createGraphics();
+
+    circlePanel = new ExposedCirclePanel(new Circle(SIZE / 2, Color.RED));
+    squarePanel = new SquarePanel(new Square(SIZE, Color.BLUE));
+    trianglePanel = new ExposedTrianglePanel(new Triangle(SIZE, Color.YELLOW));
+
+    SpriteRenderer sprites = new SpriteRenderer(new SpriteCache(SPRITE_CACHE_BYTES));
+    spriteCirclePanel = new ExposedCirclePanel(new Circle(SIZE / 2, Color.RED), sprites);
+    spriteSquarePanel = new SquarePanel(new Square(SIZE, Color.BLUE), sprites);
+    spriteTrianglePanel = new ExposedTrianglePanel(new Triangle(SIZE, Color.YELLOW), sprites);
+
+    for (JPanel panel :
+        List.of(
+            circlePanel,
+            squarePanel,
+            trianglePanel,
+            spriteCirclePanel,
+            spriteSquarePanel,
+            spriteTrianglePanel)) {
+      panel.setSize(panel.getPreferredSize());
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    graphics.dispose();
+  }
+
+  @Benchmark
+  public BufferedImage circlePanel() {
+    circlePanel.paintComponent(graphics);
+    return image;
+  }
+
+  @Benchmark
+  public BufferedImage squarePanel() {
+    squarePanel.paintComponent(graphics);
+    return image;
+  }
+
+  @Benchmark
+  public BufferedImage trianglePanel() {
+    trianglePanel.paintComponent(graphics);
+    return image;
+  }
+
+  @Benchmark
+  public BufferedImage spriteCirclePanel() {
+    spriteCirclePanel.paintComponent(graphics);
+    return image;
+  }
+
+  @Benchmark
+  public BufferedImage spriteSquarePanel() {
+    spriteSquarePanel.paintComponent(graphics);
+    return image;
+  }
+
+  @Benchmark
+  public BufferedImage spriteTrianglePanel() {
+    spriteTrianglePanel.paintComponent(graphics);
+    return image;
+  }
+
+  /** Widens the visibility of {@code paintComponent} so it can be called directly. */
+  static class ExposedCirclePanel extends CirclePanel {
+
+    ExposedCirclePanel(Circle circle) {
+      super(circle);
+    }
+
+    ExposedCirclePanel(Circle circle, ShapeRenderer<Shape> renderer) {
+      super(circle, renderer);
+    }
+
+    @Override
+    public void paintComponent(Graphics g) {
+      super.paintComponent(g);
+    }
+  }
+
+  /** Widens the visibility of {@code paintComponent} so it can be called directly. */
+  static class ExposedTrianglePanel extends TrianglePanel {
+
+    ExposedTrianglePanel(Triangle triangle) {
+      super(triangle);
+    }
+
+    ExposedTrianglePanel(Triangle triangle, ShapeRenderer<Shape> renderer) {
+      super(triangle, renderer);
+    }
+
+    @Override
+    public void paintComponent(Graphics g) {
+      super.paintComponent(g);
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package com.pedromg.bluej.shapes.bench;
+
+import com.pedromg.bluej.shapes.command.CommandHandler;
+import com.pedromg.bluej.shapes.command.CommandPalette;
+import com.pedromg.bluej.shapes.command.CommandRequest;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a palette of many plugin commands: finding a command by name or abbreviation, rendering
+ * the help shown for an unknown command and suggesting names for a typo. {@code mapFind} and {@code
+ * renderHelp} repeat what the palette did before it was compiled: a validated {@code containsKey}
+ * then {@code get} on a map, and the help text concatenated again on every call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PaletteBenchmark {
+
+  private static final CommandHandler HANDLER =
+      new CommandHandler() {
+        @Override
+        public void handle(CommandRequest request) {}
+
+        @Override
+        public String helpMessage() {
+          return "Runs a plugin command";
+        }
+      };
+
+  @Param({"5000"})
+  private int commands;
+
+  private CommandPalette palette;
+  private Map<String, CommandHandler> map;
+  private String name;
+  private String abbreviation;
+  private String typo;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    palette = new CommandPalette("run <action> <args>");
+    map = new LinkedHashMap<>();
+    for (int i = 0; i < commands; i++) {
+      String command = String.format("plugin-%05d-run", i);
+      palette.add(command, HANDLER);
+      map.put(command, HANDLER);
+    }
+    palette.freeze();
+
+    int middle = commands / 2;
+    name = String.format("plugin-%05d-run", middle);
+    abbreviation = String.format("plugin-%05d", middle);
+    typo = String.format("plugn-%05d-run", middle);
+  }
+
+  @Benchmark
+  public CommandHandler find() {
+    return palette.find(name);
+  }
+
+  @Benchmark
+  public CommandHandler findAbbreviation() {
+    return palette.find(abbreviation);
+  }
+
+  @Benchmark
+  public CommandHandler mapFind() {
+    if (name == null || name.isBlank() || !map.containsKey(name)) {
+      throw new IllegalArgumentException(name);
+    }
+    return map.get(name);
+  }
+
+  @Benchmark
+  public String help() {
+    return palette.helpMessage();
+  }
+
+  @Benchmark
+  public String renderHelp() {
+    StringBuilder builder = new StringBuilder();
+    builder.append("Usage: " + "run <action> <args>" + "\n");
+    builder.append("Available commands:\n");
+    map.forEach(
+        (command, handler) ->
+            builder.append("    " + command + ": " + handler.helpMessage() + "\n"));
+    return builder.toString();
+  }
+
+  @Benchmark
+  public List<String> suggest() {
+    return palette.suggestions(typo);
+  }
+}
@@ -0,0 +1,78 @@
+package com.pedromg.bluej.shapes.bench;
+
+import com.pedromg.bluej.shapes.domain.ShapeIndex;
+import com.pedromg.bluej.shapes.domain.ShapeStore;
+import com.pedromg.bluej.shapes.domain.ShapeType;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Compares hover picking through the spatial index against a linear scan of every shape. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PickingBenchmark {
+
+  private static final int AREA = 4096;
+  private static final int POINTS = 1024;
+
+  @Param({"100000"})
+  private int shapes;
+
+  private ShapeStore store;
+  private ShapeIndex index;
+  private int[] xs;
+  private int[] ys;
+  private int next;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Random random = new Random(42);
+    store = ShapeStore.onHeap(shapes);
+    for (int i = 0; i < shapes; i++) {
+      ShapeType type = ShapeType.fromCode(i % 3);
+      store.add(type, 4 + random.nextInt(12), random.nextInt(AREA), random.nextInt(AREA), -1);
+    }
+    index = new ShapeIndex(store);
+
+    xs = new int[POINTS];
+    ys = new int[POINTS];
+    for (int i = 0; i < POINTS; i++) {
+      xs[i] = random.nextInt(AREA);
+      ys[i] = random.nextInt(AREA);
+    }
+  }
+
+  @Benchmark
+  public int indexedShapeAt() {
+    int point = next++ & (POINTS - 1);
+    return index.shapeAt(xs[point], ys[point]);
+  }
+
+  @Benchmark
+  public int linearShapeAt() {
+    int point = next++ & (POINTS - 1);
+    int x = xs[point];
+    int y = ys[point];
+    for (int i = store.size() - 1; i >= 0; i--) {
+      if (store.type(i).contains(store.sizeInPixels(i), x - store.x(i), y - store.y(i))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,91 @@
+package com.pedromg.bluej.shapes.bench;
+
+import com.pedromg.bluej.shapes.command.CommandRequest;
+import com.pedromg.bluej.shapes.domain.Circle;
+import com.pedromg.bluej.shapes.domain.Shape;
+import com.pedromg.bluej.shapes.domain.Square;
+import com.pedromg.bluej.shapes.domain.Triangle;
+import java.awt.Color;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the precondition chains run by the record constructors.
+ *
+ * <p>The {@code million*} benchmarks keep every shape they build, so each one really allocates its
+ * record; any allocation above the 24 B of a record per operation comes from validation. One of
+ * them runs with escape analysis off, to show that validation does not rely on it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PreConditionsBenchmark {
+
+  private final List<String> params = List.of("circle");
+  private final Set<String> flags = Set.of("verbose");
+
+  private static final int MILLION = 1_000_000;
+
+  private int size = 100;
+  private final Shape[] shapes = new Shape[MILLION];
+
+  @Benchmark
+  public Circle circle() {
+    return new Circle(size, Color.RED);
+  }
+
+  @Benchmark
+  public Square square() {
+    return new Square(size, Color.BLUE);
+  }
+
+  @Benchmark
+  public Triangle triangle() {
+    return new Triangle(size, Color.YELLOW);
+  }
+
+  @Benchmark
+  public CommandRequest commandRequest() {
+    return new CommandRequest("demo", params, flags);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(MILLION)
+  public Shape[] millionShapes() {
+    return buildMillionShapes();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(MILLION)
+  @Fork(value = 1, jvmArgsAppend = "-XX:-DoEscapeAnalysis")
+  public Shape[] millionShapesWithoutEscapeAnalysis() {
+    return buildMillionShapes();
+  }
+
+  private Shape[] buildMillionShapes() {
+    for (int i = 0; i < MILLION; i += 3) {
+      shapes[i] = new Circle(size, Color.RED);
+      if (i + 1 < MILLION) {
+        shapes[i + 1] = new Square(size, Color.BLUE);
+      }
+      if (i + 2 < MILLION) {
+        shapes[i + 2] = new Triangle(size, Color.YELLOW);
+      }
+    }
+    return shapes;
+  }
+}
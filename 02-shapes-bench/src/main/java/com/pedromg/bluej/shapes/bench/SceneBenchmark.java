@@ -0,0 +1,89 @@
+package com.pedromg.bluej.shapes.bench;
+
+import com.pedromg.bluej.shapes.domain.Circle;
+import com.pedromg.bluej.shapes.domain.Scene;
+import com.pedromg.bluej.shapes.domain.Square;
+import com.pedromg.bluej.shapes.domain.Triangle;
+import com.pedromg.bluej.shapes.render.SceneRenderer;
+import com.pedromg.bluej.shapes.render.SpriteCache;
+import com.pedromg.bluej.shapes.render.SpriteRenderer;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures one full paint pass of a scene of small shapes, as done by the scene panel, rasterizing
+ * the geometry or blitting cached sprites.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class SceneBenchmark {
+
+  private static final int AREA = 1024;
+  private static final int SHAPE_SIZE = 8;
+  private static final long SPRITE_CACHE_BYTES = 1024 * 1024;
+  private static final Color[] COLORS = {Color.RED, Color.BLUE, Color.YELLOW, Color.GREEN};
+
+  @Param({"1000", "10000", "50000"})
+  private int shapes;
+
+  @Param({"geometry", "sprites"})
+  private String renderer;
+
+  private Scene scene;
+  private SceneRenderer sceneRenderer;
+  private BufferedImage image;
+  private Graphics2D graphics;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Random random = new Random(42);
+    scene = new Scene();
+    for (int i = 0; i < shapes; i++) {
+      Color color = COLORS[i % COLORS.length];
+      int x = random.nextInt(AREA - 2 * SHAPE_SIZE);
+      int y = random.nextInt(AREA - 2 * SHAPE_SIZE);
+      switch (i % 3) {
+        case 0 -> scene.add(new Circle(SHAPE_SIZE / 2, color), x, y);
+        case 1 -> scene.add(new Square(SHAPE_SIZE, color), x, y);
+        default -> scene.add(new Triangle(SHAPE_SIZE, color), x, y);
+      }
+    }
+    sceneRenderer =
+        renderer.equals("sprites")
+            ? new SceneRenderer(new SpriteRenderer(new SpriteCache(SPRITE_CACHE_BYTES)))
+            : new SceneRenderer();
+    image = new BufferedImage(AREA, AREA, BufferedImage.TYPE_INT_ARGB);
+    graphics = image.createGraphics();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    graphics.dispose();
+  }
+
+  @Benchmark
+  public BufferedImage renderScene() {
+    sceneRenderer.render(graphics, scene);
+    return image;
+  }
+}
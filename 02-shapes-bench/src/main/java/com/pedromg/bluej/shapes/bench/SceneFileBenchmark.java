@@ -0,0 +1,91 @@
+package com.pedromg.bluej.shapes.bench;
+
+import com.pedromg.bluej.shapes.domain.Scene;
+import com.pedromg.bluej.shapes.domain.SceneFile;
+import com.pedromg.bluej.shapes.domain.ShapeStore;
+import com.pedromg.bluej.shapes.domain.ShapeType;
+import java.awt.Color;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures opening a saved scene through memory mapping, against rebuilding the same scene from its
+ * shapes, and saving it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Thread)
+public class SceneFileBenchmark {
+
+  private static final int AREA = 4096;
+  private static final int[] COLORS = {
+    Color.RED.getRGB(), Color.BLUE.getRGB(), Color.YELLOW.getRGB(), Color.GREEN.getRGB()
+  };
+
+  @Param({"1000000", "20000000"})
+  private int shapes;
+
+  private Scene scene;
+  private Path file;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    Random random = new Random(42);
+    ShapeStore store = ShapeStore.onHeap(shapes);
+    for (int i = 0; i < shapes; i++) {
+      store.add(
+          ShapeType.fromCode(i % 3),
+          1 + random.nextInt(8),
+          random.nextInt(AREA),
+          random.nextInt(AREA),
+          COLORS[i % COLORS.length]);
+    }
+    scene = new Scene(store);
+    file = Files.createTempFile("scene", ".shapes");
+    SceneFile.save(scene, file);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  @Benchmark
+  public int open() throws IOException {
+    try (Scene opened = SceneFile.open(file)) {
+      return opened.store().x(opened.size() - 1);
+    }
+  }
+
+  @Benchmark
+  public int rebuild() {
+    return new Scene(scene.store()).width();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 5)
+  public void save() throws IOException {
+    SceneFile.save(scene, file);
+  }
+}
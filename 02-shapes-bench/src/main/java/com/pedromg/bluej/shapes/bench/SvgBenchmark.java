@@ -0,0 +1,171 @@
+package com.pedromg.bluej.shapes.bench;
+
+import com.pedromg.bluej.shapes.domain.Scene;
+import com.pedromg.bluej.shapes.domain.ShapeStore;
+import com.pedromg.bluej.shapes.domain.ShapeType;
+import com.pedromg.bluej.shapes.domain.Triangle;
+import com.pedromg.bluej.shapes.export.SvgWriter;
+import java.awt.Color;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+/**
+ * Measures writing a scene as SVG by streaming elements from the shape columns, against formatting
+ * each element into a string and against building a DOM tree and serializing it. Output goes to a
+ * buffered writer that discards it, so only the cost of producing the text is measured.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Thread)
+public class SvgBenchmark {
+
+  private static final int AREA = 4096;
+  private static final int[] COLORS = {
+    Color.RED.getRGB(), Color.BLUE.getRGB(), Color.YELLOW.getRGB(), 0x8000ff00
+  };
+
+  @Param({"100000", "1000000"})
+  private int shapes;
+
+  private Scene scene;
+  private Writer out;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Random random = new Random(42);
+    ShapeStore store = ShapeStore.onHeap(shapes);
+    for (int i = 0; i < shapes; i++) {
+      store.add(
+          ShapeType.fromCode(i % 3),
+          1 + random.nextInt(8),
+          random.nextInt(AREA),
+          random.nextInt(AREA),
+          COLORS[i % COLORS.length]);
+    }
+    scene = new Scene(store);
+  }
+
+  @Setup(Level.Iteration)
+  public void setUpWriter() {
+    out = new BufferedWriter(Writer.nullWriter(), 64 * 1024);
+  }
+
+  @Benchmark
+  public int stream() throws IOException {
+    int written = new SvgWriter(out).write(scene);
+    out.flush();
+    return written;
+  }
+
+  @Benchmark
+  public int formatted() throws IOException {
+    ShapeStore store = scene.store();
+    out.write(
+        String.format(
+            "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"%d\" height=\"%d\">%n",
+            scene.width(), scene.height()));
+    for (int i = 0; i < store.size(); i++) {
+      out.write(element(store, i));
+    }
+    out.write("</svg>\n");
+    out.flush();
+    return store.size();
+  }
+
+  @Benchmark
+  public int dom() throws ParserConfigurationException, TransformerException, IOException {
+    Document document =
+        DocumentBuilderFactory.newInstance()
+            .newDocumentBuilder()
+            .getDOMImplementation()
+            .createDocument("http://www.w3.org/2000/svg", "svg", null);
+    Element root = document.getDocumentElement();
+    root.setAttribute("width", Integer.toString(scene.width()));
+    root.setAttribute("height", Integer.toString(scene.height()));
+
+    ShapeStore store = scene.store();
+    for (int i = 0; i < store.size(); i++) {
+      int x = store.x(i);
+      int y = store.y(i);
+      int size = store.sizeInPixels(i);
+      Element element;
+      switch (store.type(i)) {
+        case CIRCLE -> {
+          element = document.createElement("circle");
+          element.setAttribute("cx", Integer.toString(x + size));
+          element.setAttribute("cy", Integer.toString(y + size));
+          element.setAttribute("r", Integer.toString(size));
+        }
+        case SQUARE -> {
+          element = document.createElement("rect");
+          element.setAttribute("x", Integer.toString(x));
+          element.setAttribute("y", Integer.toString(y));
+          element.setAttribute("width", Integer.toString(size));
+          element.setAttribute("height", Integer.toString(size));
+        }
+        default -> {
+          element = document.createElement("polygon");
+          element.setAttribute("points", points(x, y, size));
+        }
+      }
+      element.setAttribute("fill", String.format("#%06x", store.argb(i) & 0xffffff));
+      root.appendChild(element);
+    }
+
+    TransformerFactory.newInstance()
+        .newTransformer()
+        .transform(new DOMSource(document), new StreamResult(out));
+    out.flush();
+    return store.size();
+  }
+
+  private static String element(ShapeStore store, int i) {
+    int x = store.x(i);
+    int y = store.y(i);
+    int size = store.sizeInPixels(i);
+    String fill = String.format("#%06x", store.argb(i) & 0xffffff);
+    return switch (store.type(i)) {
+      case CIRCLE ->
+          String.format(
+              "<circle cx=\"%d\" cy=\"%d\" r=\"%d\" fill=\"%s\"/>%n",
+              x + size, y + size, size, fill);
+      case SQUARE ->
+          String.format(
+              "<rect x=\"%d\" y=\"%d\" width=\"%d\" height=\"%d\" fill=\"%s\"/>%n",
+              x, y, size, size, fill);
+      case TRIANGLE ->
+          String.format("<polygon points=\"%s\" fill=\"%s\"/>%n", points(x, y, size), fill);
+    };
+  }
+
+  private static String points(int x, int y, int size) {
+    int bottom = y + Triangle.heightFor(size);
+    return x + "," + bottom + " " + (x + size / 2) + "," + y + " " + (x + size) + "," + bottom;
+  }
+}
@@ -0,0 +1,77 @@
+package com.pedromg.bluej.shapes.bench;
+
+import com.pedromg.bluej.shapes.domain.Scene;
+import com.pedromg.bluej.shapes.domain.ShapeType;
+import com.pedromg.bluej.shapes.render.SceneRenderer;
+import com.pedromg.bluej.shapes.render.TiledRasterizer;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares a single-threaded pass of a large scene with the tiled rasterizer on the common
+ * fork/join pool. The speed-up follows the number of cores of the machine.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(
+    value = 1,
+    jvmArgsAppend = {"-Djava.awt.headless=true", "-Xmx2g"})
+@State(Scope.Thread)
+public class TiledRenderBenchmark {
+
+  private static final int AREA = 4096;
+  private static final int SHAPES = 200_000;
+
+  private Scene scene;
+  private BufferedImage image;
+  private SceneRenderer sceneRenderer;
+  private TiledRasterizer tiledRasterizer;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Random random = new Random(42);
+    scene = new Scene();
+    for (int i = 0; i < SHAPES; i++) {
+      ShapeType type = ShapeType.fromCode(i % 3);
+      Color color = new Color(random.nextInt(0xffffff));
+      scene.add(
+          type.create(2 + random.nextInt(10), color), random.nextInt(AREA), random.nextInt(AREA));
+    }
+    image = new BufferedImage(scene.width(), scene.height(), BufferedImage.TYPE_INT_ARGB);
+    sceneRenderer = new SceneRenderer();
+    tiledRasterizer = new TiledRasterizer();
+  }
+
+  @Benchmark
+  public BufferedImage singlePass() {
+    Graphics2D graphics = image.createGraphics();
+    try {
+      sceneRenderer.render(graphics, scene);
+    } finally {
+      graphics.dispose();
+    }
+    return image;
+  }
+
+  @Benchmark
+  public BufferedImage tiled() {
+    tiledRasterizer.render(scene, image);
+    return image;
+  }
+}